@@ -0,0 +1,94 @@
+package io.github.pr0methean.newbetterrandom.benchmarks;
+
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+import io.github.pr0methean.newbetterrandom.reseedable.AesCounterRandom;
+import io.github.pr0methean.newbetterrandom.vector.MultiLaneL64X128MixRandom;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Bulk {@code nextBytes} and {@code long[]} fill throughput of {@link MultiLaneL64X128MixRandom}, compared with the
+ * JDK's scalar L64X128MixRandom, across array sizes; and bulk {@code nextBytes} throughput of {@link AesCounterRandom},
+ * compared with a DRBG {@link SecureRandom}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--enable-preview", "--add-modules", "jdk.incubator.vector"})
+@State(Scope.Thread)
+public class BulkGenerationBenchmark {
+
+  @Param({"16", "256", "4096", "65536"})
+  public int size;
+
+  private RandomGenerator scalar;
+  private MultiLaneL64X128MixRandom multiLane;
+  private AesCounterRandom aesCounter;
+  private SecureRandom drbg;
+  private byte[] bytes;
+  private long[] longs;
+
+  @Setup(Level.Trial)
+  public void setUp() throws NoSuchAlgorithmException {
+    scalar = RandomGeneratorFactory.of("L64X128MixRandom").create(0x0123456789ABCDEFL);
+    multiLane = new MultiLaneL64X128MixRandom(0x0123456789ABCDEFL);
+    aesCounter = new AesCounterRandom(0x0123456789ABCDEFL);
+    drbg = SecureRandom.getInstance("DRBG");
+    bytes = new byte[size];
+    longs = new long[size / Long.BYTES];
+  }
+
+  @Benchmark
+  public byte[] scalarNextBytes() {
+    scalar.nextBytes(bytes);
+    return bytes;
+  }
+
+  @Benchmark
+  public byte[] multiLaneNextBytes() {
+    multiLane.nextBytes(bytes);
+    return bytes;
+  }
+
+  @Benchmark
+  public byte[] aesCounterNextBytes() {
+    aesCounter.nextBytes(bytes);
+    return bytes;
+  }
+
+  @Benchmark
+  public byte[] drbgNextBytes() {
+    drbg.nextBytes(bytes);
+    return bytes;
+  }
+
+  @Benchmark
+  public long[] scalarNextLongs() {
+    for (int i = 0; i < longs.length; i++) {
+      longs[i] = scalar.nextLong();
+    }
+    return longs;
+  }
+
+  @Benchmark
+  public long[] multiLaneNextLongs() {
+    multiLane.nextLongs(longs, 0, longs.length);
+    return longs;
+  }
+}
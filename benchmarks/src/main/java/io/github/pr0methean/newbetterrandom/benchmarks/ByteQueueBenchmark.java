@@ -0,0 +1,232 @@
+package io.github.pr0methean.newbetterrandom.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import io.github.pr0methean.newbetterrandom.buffer.AtomicByteRingBuffer;
+import io.github.pr0methean.newbetterrandom.buffer.ByteQueue;
+import io.github.pr0methean.newbetterrandom.buffer.ByteQueueStatistics;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.ThreadParams;
+
+/**
+ * <p>Contended {@link ByteQueue#offer(byte[], int, int)} and {@link ByteQueue#poll(byte[], int, int)} throughput and
+ * latency for each {@link ByteQueueImplementation}, across capacities and chunk sizes.</p>
+ * <p>Each benchmark group runs a fixed number of writer and reader threads; its name gives the counts (e.g.
+ * {@code w1r4} is one writer and four readers). Other mixes can be run with JMH's {@code -tg writers,readers} option
+ * on any group. Throughput mode reports calls per microsecond plus the auxiliary counters in {@link WriterCounters}
+ * and {@link ReaderCounters}; sample-time mode reports the latency percentiles of single calls.</p>
+ * <p>The {@code casRetries} counter is the rate of failed compare-and-sets in the underlying
+ * {@link AtomicByteRingBuffer}, from its {@link ByteQueueStatistics}; divide it by the group's score to get the
+ * retries per call.</p>
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+@State(Scope.Group)
+public class ByteQueueBenchmark {
+
+  @Param({"BYTE_BUFFER", "MEMORY_SEGMENT", "READER_FAIR", "WRITER_FAIR", "FULLY_FAIR"})
+  public ByteQueueImplementation implementation;
+
+  @Param({"64", "4096", "262144"})
+  public int capacity;
+
+  /**
+   * Bytes per offer or poll call. Values larger than {@link #capacity} are clamped to it, so the largest value always
+   * means "the full capacity".
+   */
+  @Param({"1", "8", "64", "512", "4096", "262144"})
+  public int chunkSize;
+
+  private ByteQueue queue;
+  private ByteQueueStatistics statistics;
+  private int bytesPerCall;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    final AtomicByteRingBuffer ring = implementation.createRing(capacity);
+    queue = implementation.wrap(ring);
+    statistics = ring.getStatistics();
+    bytesPerCall = Math.min(chunkSize, capacity);
+  }
+
+  /**
+   * The retries can't be attributed to the threads that made them, so each thread in the group reports an equal share,
+   * and the shares add up to the group's total.
+   *
+   * @return this thread's share of the CAS retries since {@code casRetriesAtStart}
+   */
+  private double casRetriesShare(long casRetriesAtStart, ThreadParams threadParams) {
+    return (double) (statistics.getCasRetries() - casRetriesAtStart) / threadParams.getGroupThreadCount();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    queue.close();
+  }
+
+  /**
+   * Per-writer counters, reported as rates.
+   */
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.OPERATIONS)
+  public static class WriterCounters {
+    public long bytesOffered;
+    public long rejectedOffers;
+    public double casRetries;
+
+    byte[] source;
+    long casRetriesAtStart;
+
+    @Setup(Level.Iteration)
+    public void setUp(ByteQueueBenchmark benchmark) {
+      bytesOffered = 0;
+      rejectedOffers = 0;
+      casRetries = 0;
+      if (source == null) {
+        source = new byte[benchmark.bytesPerCall];
+      }
+      casRetriesAtStart = benchmark.statistics.getCasRetries();
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown(ByteQueueBenchmark benchmark, ThreadParams threadParams) {
+      casRetries = benchmark.casRetriesShare(casRetriesAtStart, threadParams);
+    }
+  }
+
+  /**
+   * Per-reader counters, reported as rates.
+   */
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.OPERATIONS)
+  public static class ReaderCounters {
+    public long bytesPolled;
+    public long emptyPolls;
+    public double casRetries;
+
+    byte[] dest;
+    long casRetriesAtStart;
+
+    @Setup(Level.Iteration)
+    public void setUp(ByteQueueBenchmark benchmark) {
+      bytesPolled = 0;
+      emptyPolls = 0;
+      casRetries = 0;
+      if (dest == null) {
+        dest = new byte[benchmark.bytesPerCall];
+      }
+      casRetriesAtStart = benchmark.statistics.getCasRetries();
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown(ByteQueueBenchmark benchmark, ThreadParams threadParams) {
+      casRetries = benchmark.casRetriesShare(casRetriesAtStart, threadParams);
+    }
+  }
+
+  private int offer(WriterCounters counters) {
+    final int offered = queue.offer(counters.source, 0, bytesPerCall);
+    if (offered == 0) {
+      counters.rejectedOffers++;
+    }
+    counters.bytesOffered += offered;
+    return offered;
+  }
+
+  private int poll(ReaderCounters counters) {
+    final int polled = queue.poll(counters.dest, 0, bytesPerCall);
+    if (polled == 0) {
+      counters.emptyPolls++;
+    }
+    counters.bytesPolled += polled;
+    return polled;
+  }
+
+  @Benchmark
+  @Group("w1r1")
+  @GroupThreads(1)
+  public int w1r1Offer(WriterCounters counters) {
+    return offer(counters);
+  }
+
+  @Benchmark
+  @Group("w1r1")
+  @GroupThreads(1)
+  public int w1r1Poll(ReaderCounters counters) {
+    return poll(counters);
+  }
+
+  @Benchmark
+  @Group("w1r4")
+  @GroupThreads(1)
+  public int w1r4Offer(WriterCounters counters) {
+    return offer(counters);
+  }
+
+  @Benchmark
+  @Group("w1r4")
+  @GroupThreads(4)
+  public int w1r4Poll(ReaderCounters counters) {
+    return poll(counters);
+  }
+
+  @Benchmark
+  @Group("w4r1")
+  @GroupThreads(4)
+  public int w4r1Offer(WriterCounters counters) {
+    return offer(counters);
+  }
+
+  @Benchmark
+  @Group("w4r1")
+  @GroupThreads(1)
+  public int w4r1Poll(ReaderCounters counters) {
+    return poll(counters);
+  }
+
+  @Benchmark
+  @Group("w4r4")
+  @GroupThreads(4)
+  public int w4r4Offer(WriterCounters counters) {
+    return offer(counters);
+  }
+
+  @Benchmark
+  @Group("w4r4")
+  @GroupThreads(4)
+  public int w4r4Poll(ReaderCounters counters) {
+    return poll(counters);
+  }
+
+  @Benchmark
+  @Group("w1r16")
+  @GroupThreads(1)
+  public int w1r16Offer(WriterCounters counters) {
+    return offer(counters);
+  }
+
+  @Benchmark
+  @Group("w1r16")
+  @GroupThreads(16)
+  public int w1r16Poll(ReaderCounters counters) {
+    return poll(counters);
+  }
+}
@@ -0,0 +1,60 @@
+package io.github.pr0methean.newbetterrandom.benchmarks;
+
+import io.github.pr0methean.newbetterrandom.buffer.AtomicByteRingBuffer;
+import io.github.pr0methean.newbetterrandom.buffer.AtomicByteRingBufferUsingByteBuffer;
+import io.github.pr0methean.newbetterrandom.buffer.AtomicByteRingBufferUsingMemorySegment;
+import io.github.pr0methean.newbetterrandom.buffer.ByteQueue;
+import io.github.pr0methean.newbetterrandom.buffer.FullyFairByteQueue;
+import io.github.pr0methean.newbetterrandom.buffer.ReaderFairByteQueueWrapper;
+import io.github.pr0methean.newbetterrandom.buffer.WriterFairByteQueueWrapper;
+
+/**
+ * The {@link ByteQueue} implementations under test. Each is built around an {@link AtomicByteRingBuffer}, created
+ * separately so that its statistics can be read even when it's wrapped.
+ */
+public enum ByteQueueImplementation {
+  BYTE_BUFFER,
+  MEMORY_SEGMENT {
+    @Override
+    public AtomicByteRingBuffer createRing(int capacity) {
+      return new AtomicByteRingBufferUsingMemorySegment(capacity);
+    }
+  },
+  READER_FAIR {
+    @Override
+    public ByteQueue wrap(AtomicByteRingBuffer ring) {
+      return new ReaderFairByteQueueWrapper(ring, MAX_BYTES_PER_TURN, MAX_CALLS_PER_TURN);
+    }
+  },
+  WRITER_FAIR {
+    @Override
+    public ByteQueue wrap(AtomicByteRingBuffer ring) {
+      return new WriterFairByteQueueWrapper(ring, MAX_BYTES_PER_TURN, MAX_CALLS_PER_TURN);
+    }
+  },
+  FULLY_FAIR {
+    @Override
+    public ByteQueue wrap(AtomicByteRingBuffer ring) {
+      return FullyFairByteQueue.create(ring, MAX_BYTES_PER_TURN, MAX_CALLS_PER_TURN, MAX_CALLS_PER_TURN);
+    }
+  };
+
+  private static final int MAX_BYTES_PER_TURN = 4096;
+  private static final int MAX_CALLS_PER_TURN = 2;
+
+  /**
+   * @param capacity the capacity in bytes; must be a power of 2
+   * @return a new ring buffer to pass to {@link #wrap(AtomicByteRingBuffer)}
+   */
+  public AtomicByteRingBuffer createRing(int capacity) {
+    return new AtomicByteRingBufferUsingByteBuffer(capacity);
+  }
+
+  /**
+   * @param ring a ring buffer from {@link #createRing(int)}
+   * @return the queue to benchmark, which is {@code ring} itself unless this implementation wraps it
+   */
+  public ByteQueue wrap(AtomicByteRingBuffer ring) {
+    return ring;
+  }
+}
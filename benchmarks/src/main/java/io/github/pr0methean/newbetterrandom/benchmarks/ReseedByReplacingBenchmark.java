@@ -0,0 +1,81 @@
+package io.github.pr0methean.newbetterrandom.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+import io.github.pr0methean.newbetterrandom.reseedable.RandomGeneratorConstructors;
+import io.github.pr0methean.newbetterrandom.reseedable.ReseedByReplacingRandomGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <p>Cost of creating a generator from a seed through {@link RandomGeneratorFactory#create(long)} and
+ * {@link RandomGeneratorFactory#create(byte[])}, compared with {@link RandomGeneratorConstructors}, and of a full
+ * {@link ReseedByReplacingRandomGenerator#updateSeed(long)} followed by one output.</p>
+ * <p>{@code Random} and {@code SplittableRandom} have accessible {@code long} constructors, so they show the generated
+ * lambdas; {@code L64X128MixRandom} lives in {@code jdk.random}, so it shows the fallback's overhead.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+@State(Scope.Thread)
+public class ReseedByReplacingBenchmark {
+
+  @Param({"Random", "SplittableRandom", "L64X128MixRandom"})
+  public String algorithm;
+
+  private RandomGeneratorFactory<RandomGenerator> factory;
+  private RandomGeneratorConstructors constructors;
+  private ReseedByReplacingRandomGenerator reseedable;
+  private byte[] byteSeed;
+  private long longSeed;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    factory = RandomGeneratorFactory.of(algorithm);
+    constructors = RandomGeneratorConstructors.of(factory);
+    reseedable = new ReseedByReplacingRandomGenerator(factory);
+    byteSeed = new byte[(factory.stateBits() + Byte.SIZE - 1) / Byte.SIZE];
+  }
+
+  @Benchmark
+  public RandomGenerator factoryCreateLong() {
+    return factory.create(++longSeed);
+  }
+
+  @Benchmark
+  public RandomGenerator constructorsCreateLong() {
+    return constructors.create(++longSeed);
+  }
+
+  @Benchmark
+  public RandomGenerator factoryCreateBytes() {
+    byteSeed[0]++;
+    return factory.create(byteSeed);
+  }
+
+  @Benchmark
+  public RandomGenerator constructorsCreateBytes() {
+    byteSeed[0]++;
+    return constructors.create(byteSeed);
+  }
+
+  @Benchmark
+  public long reseedAndNextLong() {
+    reseedable.updateSeed(++longSeed);
+    return reseedable.nextLong();
+  }
+}
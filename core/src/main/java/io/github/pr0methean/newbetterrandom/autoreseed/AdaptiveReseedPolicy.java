@@ -0,0 +1,127 @@
+package io.github.pr0methean.newbetterrandom.autoreseed;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+import io.github.pr0methean.newbetterrandom.buffer.ByteQueue;
+
+/**
+ * <p>Adjusts the desired entropy level of {@link EntropyManagingRandomGeneratorWrapper} instances at runtime, according
+ * to how plentiful seed material is. One policy is shared by all the wrappers that read from the same seed buffer.</p>
+ * <p>The policy estimates a supply level between 0 and 1 from two measurements: how full the seed buffer is, and what
+ * share of the flow of seed material through it is deliveries rather than reseeds, each rate being smoothed over
+ * several sampling intervals. When seed material is plentiful, the wrappers raise their desired level toward the most
+ * entropy their generators can hold, so they reseed eagerly and have more entropy in hand when supply later falls.
+ * When it's scarce, they lower it toward the minimum level, so that they don't take seeds that the wrappers nearest the
+ * minimum will need. The minimum level is never changed, since it's what keeps the output unpredictable.</p>
+ * <p>This class is thread-safe. Sampling is done by whichever thread asks for the supply level once the interval has
+ * passed, and other threads don't wait for it.</p>
+ */
+public class AdaptiveReseedPolicy {
+  private static final Duration DEFAULT_SAMPLE_INTERVAL = Duration.ofMillis(100);
+  /** Weight of the newest sample in the smoothed rates. */
+  private static final double SMOOTHING = 0.25;
+  private static final double NANOS_PER_SECOND = 1e9;
+
+  private final ByteQueue seedBuffer;
+  private final LongSupplier bytesDelivered;
+  private final long sampleIntervalNanos;
+  private final LongAdder bytesConsumed = new LongAdder();
+  private final ReentrantLock sampleLock = new ReentrantLock();
+  private volatile long lastSampleNanos;
+  private volatile double supplyLevel = 0.5;
+  // Guarded by sampleLock
+  private long lastBytesDelivered;
+  private long lastBytesConsumed = 0;
+  private double deliveryRate = 0;
+  private double consumptionRate = 0;
+
+  public AdaptiveReseedPolicy(ByteQueue seedBuffer, LongSupplier bytesDelivered) {
+    this(seedBuffer, bytesDelivered, DEFAULT_SAMPLE_INTERVAL);
+  }
+
+  /**
+   * @param seedBuffer the buffer that the wrappers read seed material from
+   * @param bytesDelivered the total number of bytes ever written to {@code seedBuffer}, such as
+   *     {@link io.github.pr0methean.newbetterrandom.producer.AbstractSeedFetcher#getBytesDelivered()} or
+   *     {@link io.github.pr0methean.newbetterrandom.buffer.ByteQueueStatistics#getBytesOffered()}
+   * @param sampleInterval the minimum time between samples of the delivery and consumption rates
+   */
+  public AdaptiveReseedPolicy(ByteQueue seedBuffer, LongSupplier bytesDelivered, Duration sampleInterval) {
+    if (sampleInterval.isNegative() || sampleInterval.isZero()) {
+      throw new IllegalArgumentException("sampleInterval must be positive, but is " + sampleInterval);
+    }
+    this.seedBuffer = seedBuffer;
+    this.bytesDelivered = bytesDelivered;
+    sampleIntervalNanos = sampleInterval.toNanos();
+    lastBytesDelivered = bytesDelivered.getAsLong();
+    lastSampleNanos = System.nanoTime();
+  }
+
+  /**
+   * Records that a wrapper has taken a seed from the seed buffer.
+   *
+   * @param seedBytes the size of the seed
+   */
+  public void recordReseed(int seedBytes) {
+    bytesConsumed.add(seedBytes);
+  }
+
+  /**
+   * Estimates how plentiful seed material is, taking a new sample first if the sampling interval has passed and no
+   * other thread is already doing so.
+   *
+   * @return 0 if the seed buffer is empty and nothing is being delivered, 1 if it's full and nothing is being consumed,
+   *     and 0.5 when nothing has been measured yet
+   */
+  public double getSupplyLevel() {
+    final long now = System.nanoTime();
+    if (now - lastSampleNanos >= sampleIntervalNanos && sampleLock.tryLock()) {
+      try {
+        // Another thread may have sampled before we got the lock
+        if (now - lastSampleNanos >= sampleIntervalNanos) {
+          sample(now);
+        }
+      } finally {
+        sampleLock.unlock();
+      }
+    }
+    return supplyLevel;
+  }
+
+  private void sample(long now) {
+    final double elapsedSeconds = (now - lastSampleNanos) / NANOS_PER_SECOND;
+    final long delivered = bytesDelivered.getAsLong();
+    final long consumed = bytesConsumed.sum();
+    deliveryRate += SMOOTHING * ((delivered - lastBytesDelivered) / elapsedSeconds - deliveryRate);
+    consumptionRate += SMOOTHING * ((consumed - lastBytesConsumed) / elapsedSeconds - consumptionRate);
+    lastBytesDelivered = delivered;
+    lastBytesConsumed = consumed;
+    lastSampleNanos = now;
+    final double fillRatio = Math.min(1.0, (double) seedBuffer.getFillLevel() / seedBuffer.getCapacity());
+    final double totalRate = deliveryRate + consumptionRate;
+    final double deliveryShare = totalRate > 0 ? deliveryRate / totalRate : 0.5;
+    supplyLevel = (fillRatio + deliveryShare) / 2;
+  }
+
+  /**
+   * Scales a wrapper's desired entropy level by the current supply level. At a supply level of 0.5, the configured
+   * level is used unchanged; below that, it's interpolated down toward {@code minimumEntropyBits}, and above that, up
+   * toward {@code maximumEntropyBits}.
+   *
+   * @param desiredEntropyBits the wrapper's configured desired level
+   * @param minimumEntropyBits the wrapper's minimum level
+   * @param maximumEntropyBits the highest level worth reseeding below
+   * @return the desired level to use until the wrapper next reseeds or tries to
+   */
+  public long adjustDesiredEntropyBits(long desiredEntropyBits, long minimumEntropyBits, long maximumEntropyBits) {
+    final double level = getSupplyLevel();
+    if (level < 0.5) {
+      return minimumEntropyBits + (long) ((desiredEntropyBits - minimumEntropyBits) * 2 * level);
+    }
+    return desiredEntropyBits
+        + (long) ((Math.max(maximumEntropyBits, desiredEntropyBits) - desiredEntropyBits) * (2 * level - 1));
+  }
+}
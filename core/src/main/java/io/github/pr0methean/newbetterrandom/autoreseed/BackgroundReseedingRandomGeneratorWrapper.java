@@ -0,0 +1,198 @@
+package io.github.pr0methean.newbetterrandom.autoreseed;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import io.github.pr0methean.newbetterrandom.buffer.ByteQueue;
+import io.github.pr0methean.newbetterrandom.reseedable.ReseedableRandomGenerator;
+
+/**
+ * <p>Alternative to {@link EntropyManagingRandomGeneratorWrapper} that never reads seed material or reseeds on the
+ * calling thread, unless the entropy falls below the minimum level before a reseeded generator is ready.</p>
+ * <p>It holds two generators: the one in use, and a spare that a background virtual thread reseeds with bytes read
+ * from the seed buffer. Once the entropy falls below the desired level and the spare is ready, the two are swapped,
+ * and the retired generator is handed to the background thread to become the next spare. Like
+ * {@link EntropyManagingRandomGeneratorWrapper}, this isn't thread-safe, apart from the hand-off to and from the
+ * background thread.</p>
+ * <p>Since the background thread is virtual, the seed buffer should use a {@code WaitStrategy} that parks rather than
+ * busy-spins, or it may hold a carrier thread while waiting for seed material.</p>
+ * <p>If the background thread fails, for instance because the seed buffer has been closed, it stops, and the next
+ * caller that has to wait for a reseeded generator gets an {@link IllegalStateException} instead. After
+ * {@link #close()}, so does any caller that's waiting or has to wait.</p>
+ */
+public class BackgroundReseedingRandomGeneratorWrapper extends EntropyCountingRandomGeneratorWrapper
+    implements AutoCloseable {
+  private final long desiredEntropyBits;
+  private final long minimumEntropyBits;
+  private final ByteQueue seedBuffer;
+  private final int seedSizeBytes;
+  private final BlockingQueue<ReseedableRandomGenerator> toReseed = new ArrayBlockingQueue<>(1);
+  /**
+   * Completed by the background thread with the reseeded spare, or exceptionally if it fails or this is closed.
+   * Replaced on each swap, before the retired generator is handed to the background thread.
+   */
+  private volatile CompletableFuture<ReseedableRandomGenerator> reseeded = new CompletableFuture<>();
+  private final Thread reseedingThread;
+  private volatile boolean closed;
+
+  public BackgroundReseedingRandomGeneratorWrapper(ReseedableRandomGenerator delegate,
+      ReseedableRandomGenerator spare, long desiredEntropyBits, long minimumEntropyBits, ByteQueue seedBuffer) {
+    this(delegate, delegate.seedEntropyBits(), spare, desiredEntropyBits, minimumEntropyBits, seedBuffer);
+  }
+
+  /**
+   * @param delegate the generator to use first
+   * @param initialEntropy the entropy in bits that {@code delegate} holds now
+   * @param spare the generator to reseed in the background and swap in when {@code delegate} runs low; must not be
+   *              used elsewhere, and must have the same seed size as {@code delegate}
+   * @param desiredEntropyBits the entropy level below which a reseeded spare is swapped in if it's ready
+   * @param minimumEntropyBits the entropy level below which the caller waits for a reseeded spare
+   * @param seedBuffer the source of seed material
+   */
+  public BackgroundReseedingRandomGeneratorWrapper(ReseedableRandomGenerator delegate, long initialEntropy,
+      ReseedableRandomGenerator spare, long desiredEntropyBits, long minimumEntropyBits, ByteQueue seedBuffer) {
+    super(delegate, initialEntropy);
+    if (delegate.seedEntropyBits() - minimumEntropyBits < MAX_RANDOM_BITS_PER_CALL) {
+      throw new IllegalArgumentException("Can't store enough entropy to stay above minimum");
+    }
+    if (spare == delegate) {
+      throw new IllegalArgumentException("spare must be a different instance from delegate");
+    }
+    if (spare.seedEntropyBits() != delegate.seedEntropyBits()
+        || spare.desiredSeedSizeBytes() != delegate.desiredSeedSizeBytes()) {
+      throw new IllegalArgumentException("spare must have the same seed size as delegate");
+    }
+    this.desiredEntropyBits = desiredEntropyBits;
+    this.minimumEntropyBits = minimumEntropyBits;
+    this.seedBuffer = seedBuffer;
+    seedSizeBytes = delegate.desiredSeedSizeBytes();
+    toReseed.add(spare);
+    reseedingThread = Thread.ofVirtual().name("BackgroundReseedingRandomGeneratorWrapper")
+        .start(this::reseedSpares);
+  }
+
+  private void reseedSpares() {
+    final byte[] seed = new byte[seedSizeBytes];
+    try {
+      while (true) {
+        final ReseedableRandomGenerator spare = toReseed.take();
+        seedBuffer.read(seed, 0, seedSizeBytes);
+        spare.updateSeed(seed);
+        reseeded.complete(spare);
+      }
+    } catch (InterruptedException e) {
+      // Closed, and close() fails the result
+    } catch (RuntimeException e) {
+      // Such as the seed buffer having been closed; the next caller to wait for the spare gets this
+      reseeded.completeExceptionally(e);
+    }
+  }
+
+  @Override
+  protected void debitEntropy(long amount) {
+    super.debitEntropy(amount);
+    if (entropy < desiredEntropyBits) {
+      // The output will come from the new generator, so it's debited again after a swap
+      if (entropy < minimumEntropyBits) {
+        forceSwap();
+        entropy -= amount;
+      } else if (trySwap()) {
+        entropy -= amount;
+      }
+    }
+  }
+
+  /**
+   * Swaps in the spare if it has been reseeded, without waiting.
+   *
+   * @return true if the spare was swapped in
+   */
+  protected boolean trySwap() {
+    final CompletableFuture<ReseedableRandomGenerator> result = reseeded;
+    if (!result.isDone() || result.isCompletedExceptionally()) {
+      // A failure is reported once a caller has to wait
+      return false;
+    }
+    swap(ReseedEvent.start(), false, result.join());
+    return true;
+  }
+
+  /**
+   * Waits for the spare to be reseeded, then swaps it in.
+   *
+   * @throws IllegalStateException if this has been closed, or the background thread has failed
+   */
+  protected void forceSwap() {
+    if (closed) {
+      throw new IllegalStateException("Closed");
+    }
+    final ReseedEvent reseedEvent = ReseedEvent.start();
+    final ReseedableRandomGenerator spare;
+    try {
+      spare = reseeded.get();
+    } catch (InterruptedException e) {
+      throw new RuntimeException(e);
+    } catch (ExecutionException e) {
+      throw new IllegalStateException("Background reseeding failed", e.getCause());
+    }
+    swap(reseedEvent, true, spare);
+  }
+
+  private void swap(ReseedEvent reseedEvent, boolean forced, ReseedableRandomGenerator spare) {
+    final ReseedableRandomGenerator retired = delegate;
+    delegate = spare;
+    entropy = spare.seedEntropyBits();
+    reseeded = new CompletableFuture<>();
+    toReseed.add(retired);
+    reseedEvent.finish(forced, seedSizeBytes, spare);
+  }
+
+  /**
+   * Fills {@code bytes} in place, in blocks that each use up at most the entropy above the minimum level, so that
+   * the generators can be swapped between blocks.
+   */
+  @Override
+  public void nextBytes(byte[] bytes) {
+    int writtenBytes = 0;
+    while (writtenBytes < bytes.length) {
+      int bytesToWrite = (int) Math.min(bytes.length - writtenBytes, maxValuesPerDebit(Byte.SIZE));
+      if (bytesToWrite > Long.BYTES && bytesToWrite < bytes.length - writtenBytes) {
+        // Don't waste part of a long on a block boundary
+        bytesToWrite &= -Long.BYTES;
+      }
+      debitEntropy((long) Byte.SIZE * bytesToWrite);
+      delegate.nextBytes(bytes, writtenBytes, bytesToWrite);
+      writtenBytes += bytesToWrite;
+    }
+  }
+
+  /**
+   * Limits a block to the entropy above the minimum level, so that it needs at most one swap.
+   */
+  @Override
+  protected long maxValuesPerDebit(long bitsPerValue) {
+    return Math.max(1, (entropy - minimumEntropyBits) / bitsPerValue);
+  }
+
+  @Override
+  public void close() {
+    closed = true;
+    reseedingThread.interrupt();
+    reseeded.completeExceptionally(new IllegalStateException("Closed"));
+  }
+
+  /**
+   * Uses identity, since the delegate changes whenever the generators are swapped.
+   */
+  @Override
+  public boolean equals(Object o) {
+    return this == o;
+  }
+
+  @Override
+  public int hashCode() {
+    return System.identityHashCode(this);
+  }
+}
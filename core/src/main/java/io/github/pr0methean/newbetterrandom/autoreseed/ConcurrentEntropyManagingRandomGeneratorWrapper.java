@@ -0,0 +1,224 @@
+package io.github.pr0methean.newbetterrandom.autoreseed;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import io.github.pr0methean.newbetterrandom.buffer.ByteQueue;
+import io.github.pr0methean.newbetterrandom.reseedable.ReseedableRandomGenerator;
+
+/**
+ * <p>Thread-safe counterpart of {@link EntropyManagingRandomGeneratorWrapper}, so that one instance and one stream of
+ * seed material can be shared by many threads.</p>
+ * <p>Rather than one entropy count, the entropy above the desired level is split evenly between several stripes, each
+ * on its own cache line, and each thread debits the stripe chosen by hashing its thread ID. A thread whose stripe runs
+ * out tries to reseed, and a thread whose stripe has also used up its share of the reserve between the desired and
+ * minimum levels waits until a reseed succeeds. Since one stripe can run out while others still hold entropy, this
+ * reseeds more often than a single count would, but never less often.</p>
+ * <p>Only one thread reseeds at a time, and it never reseeds the generator that other threads are using. Instead it
+ * fills the seed, calls {@link ReseedableRandomGenerator#updateSeed(byte[])} on a spare off to the side, swaps the
+ * spare in through the volatile {@link #delegate} field and refills every stripe, while threads that still have
+ * entropy in their stripes keep generating. The retired generator is dropped rather than reused, since threads that
+ * read the field before the swap may still be using it; the next spare comes from a {@link Supplier}. So the delegates
+ * only need to be safe for several threads to generate output from at once, not for reseeding while they do.</p>
+ * <p>The inherited {@link #entropy} field isn't used.</p>
+ */
+public class ConcurrentEntropyManagingRandomGeneratorWrapper extends EntropyCountingRandomGeneratorWrapper {
+  private static final long THREAD_ID_MULTIPLIER = 0x9E3779B97F4A7C15L;
+  /** Distance between stripes in {@link #stripeBudgets}, so that each is on its own cache line. */
+  private static final int STRIPE_SPACING = 64 / Long.BYTES;
+
+  private final long desiredEntropyBits;
+  private final long minimumEntropyBits;
+  private final ByteQueue seedBuffer;
+  private final int seedSizeBytes;
+  private final int stripeCount;
+  private final long stripeReserve;
+  private final AtomicLongArray stripeBudgets;
+  private final Supplier<? extends ReseedableRandomGenerator> spares;
+  private final ReentrantLock reseedLock = new ReentrantLock();
+  // Guarded by reseedLock
+  private final byte[] seedHolder;
+  private int availableSeedBytes = 0;
+  private ReseedableRandomGenerator spare;
+
+  public ConcurrentEntropyManagingRandomGeneratorWrapper(ReseedableRandomGenerator delegate,
+      Supplier<? extends ReseedableRandomGenerator> spares, long desiredEntropyBits, long minimumEntropyBits,
+      ByteQueue seedBuffer) {
+    this(delegate, delegate.seedEntropyBits(), spares, desiredEntropyBits, minimumEntropyBits, seedBuffer,
+        Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * @param delegate the generator to use first; must be safe for several threads to generate output from at once
+   * @param initialEntropy the entropy in bits that the delegate holds now
+   * @param spares creates the generators to reseed and swap in, each time the previous one is swapped in; each must be
+   *               a new instance with the same seed size as {@code delegate}, and as thread-safe
+   * @param desiredEntropyBits the entropy level below which threads try to reseed without waiting
+   * @param minimumEntropyBits the entropy level below which threads wait for a reseed
+   * @param seedBuffer the source of seed material
+   * @param stripeCount the number of stripes to split the entropy count between; usually the number of threads that
+   *                    will use this instance concurrently
+   */
+  public ConcurrentEntropyManagingRandomGeneratorWrapper(ReseedableRandomGenerator delegate, long initialEntropy,
+      Supplier<? extends ReseedableRandomGenerator> spares, long desiredEntropyBits, long minimumEntropyBits,
+      ByteQueue seedBuffer, int stripeCount) {
+    super(delegate, initialEntropy);
+    if (delegate.seedEntropyBits() - minimumEntropyBits < MAX_RANDOM_BITS_PER_CALL) {
+      throw new IllegalArgumentException("Can't store enough entropy to stay above minimum");
+    }
+    if (desiredEntropyBits < minimumEntropyBits) {
+      throw new IllegalArgumentException("desiredEntropyBits can't be less than minimumEntropyBits");
+    }
+    if (stripeCount <= 0) {
+      throw new IllegalArgumentException("stripeCount must be positive, but is " + stripeCount);
+    }
+    this.desiredEntropyBits = desiredEntropyBits;
+    this.minimumEntropyBits = minimumEntropyBits;
+    this.seedBuffer = seedBuffer;
+    this.stripeCount = stripeCount;
+    this.spares = spares;
+    seedSizeBytes = delegate.desiredSeedSizeBytes();
+    spare = nextSpare();
+    seedHolder = new byte[seedSizeBytes];
+    stripeReserve = (desiredEntropyBits - minimumEntropyBits) / stripeCount;
+    stripeBudgets = new AtomicLongArray(stripeCount * STRIPE_SPACING);
+    refillStripes(initialEntropy);
+  }
+
+  private ReseedableRandomGenerator nextSpare() {
+    final ReseedableRandomGenerator spare = spares.get();
+    if (spare == delegate) {
+      throw new IllegalArgumentException("spares must supply a different instance from delegate");
+    }
+    if (spare.seedEntropyBits() != delegate.seedEntropyBits()
+        || spare.desiredSeedSizeBytes() != seedSizeBytes) {
+      throw new IllegalArgumentException("spares must supply generators with the same seed size as delegate");
+    }
+    return spare;
+  }
+
+  private void refillStripes(long entropy) {
+    final long share = (entropy - desiredEntropyBits) / stripeCount;
+    for (int i = 0; i < stripeCount; i++) {
+      stripeBudgets.set(i * STRIPE_SPACING, share);
+    }
+  }
+
+  private int homeStripeIndex() {
+    final long hash = Thread.currentThread().threadId() * THREAD_ID_MULTIPLIER;
+    return (int) ((hash >>> 32) * stripeCount >>> 32) * STRIPE_SPACING;
+  }
+
+  @Override
+  protected void debitEntropy(long amount) {
+    final int stripe = homeStripeIndex();
+    final long budget = stripeBudgets.addAndGet(stripe, -amount);
+    if (budget < 0) {
+      // The output will come from the new generator, so it's debited again after a reseed
+      if (budget < -stripeReserve) {
+        forceReseed(stripe);
+        stripeBudgets.addAndGet(stripe, -amount);
+      } else if (tryReseed()) {
+        stripeBudgets.addAndGet(stripe, -amount);
+      }
+    }
+  }
+
+  /**
+   * Limits a block to what remains of this thread's stripe, including its share of the reserve.
+   */
+  @Override
+  protected long maxValuesPerDebit(long bitsPerValue) {
+    return Math.max(1, (stripeBudgets.get(homeStripeIndex()) + stripeReserve) / bitsPerValue);
+  }
+
+  /**
+   * Waits until this thread's stripe has been refilled, reseeding if no other thread is already doing so. The refill
+   * replaces the stripe's debt, which the old generator has already covered, so the caller then debits only what it's
+   * about to generate from the new one.
+   */
+  private void forceReseed(int stripe) {
+    final ReseedEvent reseedEvent = ReseedEvent.start();
+    reseedLock.lock();
+    try {
+      // Another thread may have reseeded while we waited for the lock
+      if (stripeBudgets.get(stripe) < -stripeReserve) {
+        seedBuffer.read(seedHolder, availableSeedBytes, seedSizeBytes - availableSeedBytes);
+        applySeed(reseedEvent, true);
+      }
+    } catch (InterruptedException e) {
+      throw new RuntimeException(e);
+    } finally {
+      reseedLock.unlock();
+    }
+  }
+
+  /**
+   * Fills {@code bytes} in place, in blocks that each use up at most what remains of this thread's stripe, including
+   * its share of the reserve, so that the delegate can be reseeded between blocks.
+   */
+  @Override
+  public void nextBytes(byte[] bytes) {
+    int writtenBytes = 0;
+    while (writtenBytes < bytes.length) {
+      int bytesToWrite = (int) Math.min(bytes.length - writtenBytes, maxValuesPerDebit(Byte.SIZE));
+      if (bytesToWrite > Long.BYTES && bytesToWrite < bytes.length - writtenBytes) {
+        // Don't waste part of a long on a block boundary
+        bytesToWrite &= -Long.BYTES;
+      }
+      debitEntropy((long) Byte.SIZE * bytesToWrite);
+      delegate.nextBytes(bytes, writtenBytes, bytesToWrite);
+      writtenBytes += bytesToWrite;
+    }
+  }
+
+  /**
+   * Reseeds if enough seed material is available without blocking and no other thread is already reseeding.
+   *
+   * @return true if this thread reseeded
+   */
+  protected boolean tryReseed() {
+    if (!reseedLock.tryLock()) {
+      return false;
+    }
+    try {
+      int readBytes;
+      do {
+        readBytes = seedBuffer.poll(seedHolder, availableSeedBytes, seedSizeBytes - availableSeedBytes);
+        availableSeedBytes += readBytes;
+      } while (readBytes > 0 && availableSeedBytes < seedSizeBytes);
+      if (availableSeedBytes >= seedSizeBytes) {
+        applySeed(ReseedEvent.start(), false);
+        return true;
+      }
+      return false;
+    } finally {
+      reseedLock.unlock();
+    }
+  }
+
+  private void applySeed(ReseedEvent reseedEvent, boolean forced) {
+    final ReseedableRandomGenerator reseeded = spare;
+    reseeded.updateSeed(seedHolder);
+    availableSeedBytes = 0;
+    // The volatile write publishes the reseeded state to every thread that reads the new delegate
+    delegate = reseeded;
+    refillStripes(reseeded.seedEntropyBits());
+    spare = nextSpare();
+    reseedEvent.finish(forced, seedSizeBytes, reseeded);
+  }
+
+  /**
+   * Uses identity, since the delegate changes whenever a spare is swapped in.
+   */
+  @Override
+  public boolean equals(Object o) {
+    return this == o;
+  }
+
+  @Override
+  public int hashCode() {
+    return System.identityHashCode(this);
+  }
+}
@@ -1,6 +1,14 @@
 package io.github.pr0methean.newbetterrandom.autoreseed;
 
+import java.util.Spliterator;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
 import java.util.random.RandomGenerator;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
 
 import io.github.pr0methean.newbetterrandom.reseedable.ReseedableRandomGenerator;
 
@@ -20,7 +28,16 @@ public class EntropyCountingRandomGeneratorWrapper implements RandomGenerator {
   protected static final long MAX_RANDOM_BITS_PER_CALL =
       Math.max(Math.max(RANDOM_BITS_PER_GAUSSIAN, RANDOM_BITS_PER_EXPONENTIAL), Long.SIZE);
 
-  protected final ReseedableRandomGenerator delegate;
+  /**
+   * The most values that a stream generates between entropy debits.
+   */
+  protected static final int MAX_STREAM_BLOCK_SIZE = 1024;
+
+  /**
+   * Volatile so that {@link ConcurrentEntropyManagingRandomGeneratorWrapper} can swap in a reseeded generator while
+   * other threads are using this one.
+   */
+  protected volatile ReseedableRandomGenerator delegate;
   protected long entropy;
 
   public EntropyCountingRandomGeneratorWrapper(ReseedableRandomGenerator delegate) {
@@ -36,6 +53,17 @@ public class EntropyCountingRandomGeneratorWrapper implements RandomGenerator {
     entropy -= amount;
   }
 
+  /**
+   * Used by streams to decide how many values to generate between entropy debits, so that subclasses can keep a block
+   * from using up more entropy than they'll allow between reseeds.
+   *
+   * @param bitsPerValue the entropy debited for each value
+   * @return the most values to generate before debiting entropy again; at least 1
+   */
+  protected long maxValuesPerDebit(long bitsPerValue) {
+    return MAX_STREAM_BLOCK_SIZE;
+  }
+
   @Override public boolean nextBoolean() {
     debitEntropy(1);
     return delegate.nextBoolean();
@@ -118,4 +146,176 @@ public class EntropyCountingRandomGeneratorWrapper implements RandomGenerator {
   public int hashCode() {
     return delegate.hashCode();
   }
+
+  protected static void checkStreamSize(long streamSize) {
+    if (streamSize < 0) {
+      throw new IllegalArgumentException("size must be non-negative");
+    }
+  }
+
+  @Override
+  public IntStream ints() {
+    return ints(Long.MAX_VALUE);
+  }
+
+  @Override
+  public IntStream ints(long streamSize) {
+    checkStreamSize(streamSize);
+    return StreamSupport.intStream(new IntBlockSpliterator(streamSize), false);
+  }
+
+  @Override
+  public LongStream longs() {
+    return longs(Long.MAX_VALUE);
+  }
+
+  @Override
+  public LongStream longs(long streamSize) {
+    checkStreamSize(streamSize);
+    return StreamSupport.longStream(new LongBlockSpliterator(streamSize), false);
+  }
+
+  @Override
+  public DoubleStream doubles() {
+    return doubles(Long.MAX_VALUE);
+  }
+
+  @Override
+  public DoubleStream doubles(long streamSize) {
+    checkStreamSize(streamSize);
+    return StreamSupport.doubleStream(new DoubleBlockSpliterator(streamSize), false);
+  }
+
+  /**
+   * Spliterator that generates its values in blocks, debiting the entropy for a whole block at once, so that any
+   * reseeding happens between blocks. Since values all come from one delegate, it doesn't split.
+   */
+  private abstract class BlockSpliterator {
+    private final long bitsPerValue;
+    protected long remaining;
+
+    protected BlockSpliterator(long remaining, long bitsPerValue) {
+      this.remaining = remaining;
+      this.bitsPerValue = bitsPerValue;
+    }
+
+    /**
+     * Debits entropy for the next block.
+     *
+     * @return the number of values in the block, or 0 if there are none left
+     */
+    protected final long startBlock() {
+      final long blockSize = Math.min(remaining,
+          Math.max(1, Math.min(MAX_STREAM_BLOCK_SIZE, maxValuesPerDebit(bitsPerValue))));
+      if (blockSize > 0) {
+        debitEntropy(blockSize * bitsPerValue);
+        remaining -= blockSize;
+      }
+      return blockSize;
+    }
+
+    public final long estimateSize() {
+      return remaining;
+    }
+
+    public final int characteristics() {
+      return Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.NONNULL | Spliterator.IMMUTABLE;
+    }
+  }
+
+  private final class IntBlockSpliterator extends BlockSpliterator implements Spliterator.OfInt {
+    IntBlockSpliterator(long size) {
+      super(size, Integer.SIZE);
+    }
+
+    @Override
+    public OfInt trySplit() {
+      return null;
+    }
+
+    @Override
+    public boolean tryAdvance(IntConsumer action) {
+      if (remaining <= 0) {
+        return false;
+      }
+      remaining--;
+      debitEntropy(Integer.SIZE);
+      action.accept(delegate.nextInt());
+      return true;
+    }
+
+    @Override
+    public void forEachRemaining(IntConsumer action) {
+      long blockSize;
+      while ((blockSize = startBlock()) > 0) {
+        for (long i = 0; i < blockSize; i++) {
+          action.accept(delegate.nextInt());
+        }
+      }
+    }
+  }
+
+  private final class LongBlockSpliterator extends BlockSpliterator implements Spliterator.OfLong {
+    LongBlockSpliterator(long size) {
+      super(size, Long.SIZE);
+    }
+
+    @Override
+    public OfLong trySplit() {
+      return null;
+    }
+
+    @Override
+    public boolean tryAdvance(LongConsumer action) {
+      if (remaining <= 0) {
+        return false;
+      }
+      remaining--;
+      debitEntropy(Long.SIZE);
+      action.accept(delegate.nextLong());
+      return true;
+    }
+
+    @Override
+    public void forEachRemaining(LongConsumer action) {
+      long blockSize;
+      while ((blockSize = startBlock()) > 0) {
+        for (long i = 0; i < blockSize; i++) {
+          action.accept(delegate.nextLong());
+        }
+      }
+    }
+  }
+
+  private final class DoubleBlockSpliterator extends BlockSpliterator implements Spliterator.OfDouble {
+    DoubleBlockSpliterator(long size) {
+      super(size, RANDOM_BITS_PER_DOUBLE);
+    }
+
+    @Override
+    public OfDouble trySplit() {
+      return null;
+    }
+
+    @Override
+    public boolean tryAdvance(DoubleConsumer action) {
+      if (remaining <= 0) {
+        return false;
+      }
+      remaining--;
+      debitEntropy(RANDOM_BITS_PER_DOUBLE);
+      action.accept(delegate.nextDouble());
+      return true;
+    }
+
+    @Override
+    public void forEachRemaining(DoubleConsumer action) {
+      long blockSize;
+      while ((blockSize = startBlock()) > 0) {
+        for (long i = 0; i < blockSize; i++) {
+          action.accept(delegate.nextDouble());
+        }
+      }
+    }
+  }
 }
@@ -12,12 +12,30 @@ public class EntropyManagingRandomGeneratorWrapper extends EntropyCountingRandom
   private final int seedSizeBytes;
   private final byte[] seedHolder;
   private int availableSeedBytes = 0;
+  private final /* @Nullable */ AdaptiveReseedPolicy reseedPolicy;
+  /** The desired level in use now; always {@link #desiredEntropyBits} unless there's a {@link #reseedPolicy}. */
+  private long currentDesiredEntropyBits;
 
   public EntropyManagingRandomGeneratorWrapper(ReseedableRandomGenerator delegate, long desiredEntropyBits, long minimumEntropyBits, ByteQueue seedBuffer) {
     this(delegate, delegate.seedEntropyBits(), desiredEntropyBits, minimumEntropyBits, seedBuffer);
   }
 
   public EntropyManagingRandomGeneratorWrapper(ReseedableRandomGenerator delegate, long initialEntropy, long desiredEntropyBits, long minimumEntropyBits, ByteQueue seedBuffer) {
+    this(delegate, initialEntropy, desiredEntropyBits, minimumEntropyBits, seedBuffer, null);
+  }
+
+  /**
+   * @param delegate the generator to reseed
+   * @param initialEntropy the entropy in bits that {@code delegate} holds now
+   * @param desiredEntropyBits the entropy level below which this tries to reseed without waiting
+   * @param minimumEntropyBits the entropy level below which this waits for a reseed
+   * @param seedBuffer the source of seed material
+   * @param reseedPolicy if not null, adjusts the desired level whenever this reseeds or tries to, and is told of
+   *                     every reseed; it should be shared with the other wrappers that use {@code seedBuffer}
+   */
+  public EntropyManagingRandomGeneratorWrapper(ReseedableRandomGenerator delegate, long initialEntropy,
+      long desiredEntropyBits, long minimumEntropyBits, ByteQueue seedBuffer,
+      /* @Nullable */ AdaptiveReseedPolicy reseedPolicy) {
     super(delegate, initialEntropy);
     if (delegate.seedEntropyBits() - minimumEntropyBits < MAX_RANDOM_BITS_PER_CALL) {
       throw new IllegalArgumentException("Can't store enough entropy to stay above minimum");
@@ -25,31 +43,90 @@ public class EntropyManagingRandomGeneratorWrapper extends EntropyCountingRandom
     this.desiredEntropyBits = desiredEntropyBits;
     this.minimumEntropyBits = minimumEntropyBits;
     this.seedBuffer = seedBuffer;
+    this.reseedPolicy = reseedPolicy;
+    currentDesiredEntropyBits = desiredEntropyBits;
     seedSizeBytes = delegate.desiredSeedSizeBytes();
     seedHolder = new byte[seedSizeBytes];
   }
 
+  /**
+   * Creates a wrapper with the same thresholds, seed buffer and policy as {@code parent}, around a generator whose
+   * state was derived from {@code parent}'s.
+   *
+   * @param parent the wrapper whose generator {@code delegate} was derived from
+   * @param delegate the new generator
+   * @param initialEntropy the entropy in bits that {@code delegate} holds now, usually from {@link #shareEntropy()}
+   */
+  protected EntropyManagingRandomGeneratorWrapper(EntropyManagingRandomGeneratorWrapper parent,
+      ReseedableRandomGenerator delegate, long initialEntropy) {
+    this(delegate, initialEntropy, parent.desiredEntropyBits, parent.minimumEntropyBits, parent.seedBuffer,
+        parent.reseedPolicy);
+  }
+
+  /**
+   * Creates the most capable wrapper for {@code delegate}: one that implements
+   * {@link java.util.random.RandomGenerator.SplittableGenerator} if {@code delegate} is splittable, or else
+   * {@link java.util.random.RandomGenerator.JumpableGenerator} if it's jumpable, or else neither.
+   *
+   * @param delegate the generator to reseed
+   * @param desiredEntropyBits the entropy level below which the wrapper tries to reseed without waiting
+   * @param minimumEntropyBits the entropy level below which the wrapper waits for a reseed
+   * @param seedBuffer the source of seed material
+   * @param reseedPolicy if not null, adjusts the desired level at runtime
+   * @return a new wrapper
+   */
+  public static EntropyManagingRandomGeneratorWrapper create(ReseedableRandomGenerator delegate,
+      long desiredEntropyBits, long minimumEntropyBits, ByteQueue seedBuffer,
+      /* @Nullable */ AdaptiveReseedPolicy reseedPolicy) {
+    final long initialEntropy = delegate.seedEntropyBits();
+    if (delegate.isSplittable()) {
+      return new SplittableEntropyManagingRandomGeneratorWrapper(delegate, initialEntropy, desiredEntropyBits,
+          minimumEntropyBits, seedBuffer, reseedPolicy);
+    }
+    if (delegate.isJumpable()) {
+      return new JumpableEntropyManagingRandomGeneratorWrapper(delegate, initialEntropy, desiredEntropyBits,
+          minimumEntropyBits, seedBuffer, reseedPolicy);
+    }
+    return new EntropyManagingRandomGeneratorWrapper(delegate, initialEntropy, desiredEntropyBits, minimumEntropyBits,
+        seedBuffer, reseedPolicy);
+  }
+
+  /**
+   * Gives up half of the entropy above the minimum level, for a new generator whose state is derived from this one's.
+   * Since the two generators' output comes from the same seed, they share the output it's good for rather than each
+   * being credited with all of it.
+   *
+   * @return the entropy to credit the new generator with: the minimum level, plus what this one gave up
+   */
+  protected long shareEntropy() {
+    final long share = Math.max(0, entropy - minimumEntropyBits) / 2;
+    entropy -= share;
+    return minimumEntropyBits + share;
+  }
+
   @Override
   protected void debitEntropy(long amount) {
     super.debitEntropy(amount);
-    if (amount < desiredEntropyBits) {
-      if (amount < minimumEntropyBits) {
+    if (entropy < currentDesiredEntropyBits) {
+      // The output will come from the new state, so it's debited again after a reseed
+      if (entropy < minimumEntropyBits) {
         forceReseed();
         entropy -= amount;
-      } else {
-        if (tryReseed()) {
-          entropy -= amount;
-        }
+      } else if (tryReseed()) {
+        entropy -= amount;
       }
     }
   }
 
   protected void forceReseed() {
     try {
+      final ReseedEvent reseedEvent = ReseedEvent.start();
       seedBuffer.read(seedHolder, availableSeedBytes, seedSizeBytes - availableSeedBytes);
       delegate.updateSeed(seedHolder);
       availableSeedBytes = 0;
       entropy = delegate.seedEntropyBits();
+      reseedEvent.finish(true, seedSizeBytes, delegate);
+      adjustDesiredEntropy(true);
     } catch (InterruptedException e) {
       throw new RuntimeException(e);
     }
@@ -62,44 +139,74 @@ public class EntropyManagingRandomGeneratorWrapper extends EntropyCountingRandom
       availableSeedBytes += readBytes;
     } while (readBytes > 0 && availableSeedBytes < seedSizeBytes);
     if (availableSeedBytes >= seedSizeBytes) {
+      final ReseedEvent reseedEvent = ReseedEvent.start();
       delegate.updateSeed(seedHolder);
       availableSeedBytes = 0;
       entropy = delegate.seedEntropyBits();
+      reseedEvent.finish(false, seedSizeBytes, delegate);
+      adjustDesiredEntropy(true);
       return true;
     }
+    adjustDesiredEntropy(false);
     return false;
   }
 
+  /**
+   * Asks the {@link AdaptiveReseedPolicy}, if any, for a new desired level.
+   *
+   * @param reseeded true if this has just used a seed, which the policy counts toward the consumption rate
+   */
+  private void adjustDesiredEntropy(boolean reseeded) {
+    if (reseedPolicy == null) {
+      return;
+    }
+    if (reseeded) {
+      reseedPolicy.recordReseed(seedSizeBytes);
+    }
+    currentDesiredEntropyBits = reseedPolicy.adjustDesiredEntropyBits(desiredEntropyBits, minimumEntropyBits,
+        delegate.seedEntropyBits() - MAX_RANDOM_BITS_PER_CALL);
+  }
+
+  /**
+   * Fills {@code bytes} in place, in blocks that each use up at most the entropy above the desired level (or, when a
+   * reseed isn't possible without waiting, above the minimum level). Entropy is debited and the need to reseed is
+   * checked once per block.
+   */
   @Override
   public void nextBytes(byte[] bytes) {
     int writtenBytes = 0;
     while (writtenBytes < bytes.length) {
-      int maxBytes = getBytesBeforeEntropyThreshold(desiredEntropyBits);
+      int maxBytes = getBytesBeforeEntropyThreshold(currentDesiredEntropyBits);
       if (maxBytes <= 0) {
         if (getBytesBeforeEntropyThreshold(minimumEntropyBits) <= 0) {
           forceReseed();
-          maxBytes = getBytesBeforeEntropyThreshold(desiredEntropyBits);
-        } else if (tryReseed()) {
-          maxBytes = getBytesBeforeEntropyThreshold(desiredEntropyBits);
         } else {
-          maxBytes = 1;
+          tryReseed();
+        }
+        maxBytes = getBytesBeforeEntropyThreshold(currentDesiredEntropyBits);
+        if (maxBytes <= 0) {
+          maxBytes = getBytesBeforeEntropyThreshold(minimumEntropyBits);
         }
       }
-      if (maxBytes >= bytes.length && writtenBytes == 0) {
-        entropy -= (long) Byte.SIZE * bytes.length;
-        delegate.nextBytes(bytes);
-        return;
-      } else {
-        int bytesToWrite = (Math.min(maxBytes, bytes.length - writtenBytes));
-        byte[] holder = new byte[bytesToWrite];
-        entropy -= (long) Byte.SIZE * bytesToWrite;
-        delegate.nextBytes(holder);
-        System.arraycopy(holder, 0, bytes, writtenBytes, bytesToWrite);
-        writtenBytes += bytesToWrite;
+      int bytesToWrite = Math.min(maxBytes, bytes.length - writtenBytes);
+      if (bytesToWrite > Long.BYTES && bytesToWrite < bytes.length - writtenBytes) {
+        // Don't waste part of a long on a block boundary
+        bytesToWrite &= -Long.BYTES;
       }
+      entropy -= (long) Byte.SIZE * bytesToWrite;
+      delegate.nextBytes(bytes, writtenBytes, bytesToWrite);
+      writtenBytes += bytesToWrite;
     }
   }
 
+  /**
+   * Limits a block to the entropy above the minimum level, so that it needs at most one reseed.
+   */
+  @Override
+  protected long maxValuesPerDebit(long bitsPerValue) {
+    return Math.max(1, (entropy - minimumEntropyBits) / bitsPerValue);
+  }
+
   private int getBytesBeforeEntropyThreshold(long threshold) {
     long bytes = (entropy - threshold) / Byte.SIZE;
     return (int) Math.min(Math.max(0, bytes), Integer.MAX_VALUE);
@@ -0,0 +1,57 @@
+package io.github.pr0methean.newbetterrandom.autoreseed;
+
+import java.util.random.RandomGenerator;
+
+import io.github.pr0methean.newbetterrandom.buffer.ByteQueue;
+import io.github.pr0methean.newbetterrandom.reseedable.ReseedableRandomGenerator;
+
+/**
+ * <p>{@link EntropyManagingRandomGeneratorWrapper} for a jumpable delegate. {@link #copy()} creates a wrapper around a
+ * copy of the delegate, instead of one that has to read a seed before its first output, so {@link #jumps()} and
+ * {@link #copyAndJump()} give generators for other tasks without touching the seed buffer. The copy shares the seed
+ * buffer and thresholds, and takes half of the original's entropy above the minimum level.</p>
+ * <p>Copies read their later seeds from the same seed buffer as the original, so if they'll be used on other threads,
+ * it must allow multiple readers, or each copy can be given a queue from a {@link SeedDistributor} instead.</p>
+ */
+public class JumpableEntropyManagingRandomGeneratorWrapper extends EntropyManagingRandomGeneratorWrapper
+    implements RandomGenerator.JumpableGenerator {
+
+  /**
+   * @throws IllegalArgumentException if {@code delegate} isn't jumpable
+   * @see EntropyManagingRandomGeneratorWrapper#EntropyManagingRandomGeneratorWrapper(ReseedableRandomGenerator, long,
+   *     long, long, ByteQueue, AdaptiveReseedPolicy)
+   */
+  public JumpableEntropyManagingRandomGeneratorWrapper(ReseedableRandomGenerator delegate, long initialEntropy,
+      long desiredEntropyBits, long minimumEntropyBits, ByteQueue seedBuffer,
+      /* @Nullable */ AdaptiveReseedPolicy reseedPolicy) {
+    super(delegate, initialEntropy, desiredEntropyBits, minimumEntropyBits, seedBuffer, reseedPolicy);
+    if (!delegate.isJumpable()) {
+      throw new IllegalArgumentException(delegate.getClass().getName() + " isn't jumpable");
+    }
+  }
+
+  private JumpableEntropyManagingRandomGeneratorWrapper(JumpableEntropyManagingRandomGeneratorWrapper original,
+      ReseedableRandomGenerator delegate, long initialEntropy) {
+    super(original, delegate, initialEntropy);
+  }
+
+  /**
+   * Creates a wrapper around a copy of the delegate. Since the copy will repeat this wrapper's output until one of them
+   * jumps or reseeds, the two split this wrapper's entropy above the minimum level rather than each keeping all of it.
+   */
+  @Override
+  public JumpableEntropyManagingRandomGeneratorWrapper copy() {
+    final ReseedableRandomGenerator copy = delegate.copy();
+    return new JumpableEntropyManagingRandomGeneratorWrapper(this, copy, shareEntropy());
+  }
+
+  @Override
+  public void jump() {
+    delegate.jump();
+  }
+
+  @Override
+  public double jumpDistance() {
+    return delegate.jumpDistance();
+  }
+}
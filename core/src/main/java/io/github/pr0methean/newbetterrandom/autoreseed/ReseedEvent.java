@@ -0,0 +1,51 @@
+package io.github.pr0methean.newbetterrandom.autoreseed;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import io.github.pr0methean.newbetterrandom.reseedable.ReseedableRandomGenerator;
+
+/**
+ * Flight Recorder event for a reseed by one of the wrappers in this package. Its duration includes any time spent
+ * waiting for seed material.
+ */
+@Name("io.github.pr0methean.newbetterrandom.Reseed")
+@Label("Reseed")
+@Category({"BetterRandom", "Reseeding"})
+@Description("A generator wrapper reseeded its delegate, or swapped in a reseeded one")
+@Enabled(false)
+@StackTrace(false)
+final class ReseedEvent extends Event {
+  @Label("Forced")
+  @Description("True if the entropy had fallen below the minimum, so the caller had to wait for seed material")
+  boolean forced;
+
+  @Label("Seed Bytes")
+  @DataAmount
+  int seedBytes;
+
+  @Label("Delegate Type")
+  Class<?> delegateType;
+
+  static ReseedEvent start() {
+    final ReseedEvent event = new ReseedEvent();
+    event.begin();
+    return event;
+  }
+
+  void finish(boolean forced, int seedBytes, ReseedableRandomGenerator delegate) {
+    end();
+    if (shouldCommit()) {
+      this.forced = forced;
+      this.seedBytes = seedBytes;
+      delegateType = delegate.getClass();
+      commit();
+    }
+  }
+}
@@ -0,0 +1,186 @@
+package io.github.pr0methean.newbetterrandom.autoreseed;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.github.pr0methean.newbetterrandom.buffer.AbstractByteQueue;
+import io.github.pr0methean.newbetterrandom.buffer.ByteQueue;
+import io.github.pr0methean.newbetterrandom.buffer.ByteQueues;
+import io.github.pr0methean.newbetterrandom.reseedable.ReseedableRandomGenerator;
+
+/**
+ * <p>Shares one source of seed material between many consumers, such as {@link EntropyManagingRandomGeneratorWrapper}
+ * instances, without them all polling the source. Each consumer gets its own {@link ByteQueue} from
+ * {@link #register(int)} to use as its seed buffer. When a consumer polls its queue and finds less than it wants, it
+ * asks for a seed, and one thread at a time serves all the outstanding requests: it reads one large block from the
+ * source and copies a whole seed into each requesting consumer's queue, in the order they asked. Bytes left over
+ * are carried over to the next block.</p>
+ * <p>This turns a storm of reseeds into a single read from the source, and each byte read from the source goes to
+ * exactly one consumer. A thread that asks for a seed while another is serving requests doesn't wait: the serving
+ * thread serves it before stopping, if the source has enough bytes.</p>
+ * <p>Once the source is closed and can't supply a whole seed to a consumer that asks for one, that consumer's queue
+ * is closed too, so that its reader fails rather than waiting forever.</p>
+ */
+public class SeedDistributor {
+  private final ByteQueue source;
+  private final byte[] carry;
+  private int carryStart = 0;
+  private int carryEnd = 0;
+  private final Queue<ConsumerQueue> requests = new ConcurrentLinkedQueue<>();
+  /** Number of requests to serve since the serving thread last checked; 0 if no thread is serving. */
+  private final AtomicInteger serviceRequests = new AtomicInteger();
+
+  /**
+   * @param source the queue to read seed material from
+   * @param blockSize the most bytes to read from {@code source} at once; must be at least the largest seed size that
+   *                  will be registered
+   */
+  public SeedDistributor(ByteQueue source, int blockSize) {
+    if (blockSize <= 0) {
+      throw new IllegalArgumentException("blockSize must be positive, but is " + blockSize);
+    }
+    this.source = source;
+    carry = new byte[blockSize];
+  }
+
+  /**
+   * Registers a consumer that wants seeds of {@code generator}'s
+   * {@link ReseedableRandomGenerator#desiredSeedSizeBytes()}.
+   *
+   * @param generator the generator that will be reseeded
+   * @return the queue that the consumer should read its seeds from
+   */
+  public ByteQueue register(ReseedableRandomGenerator generator) {
+    return register(generator.desiredSeedSizeBytes());
+  }
+
+  /**
+   * Registers a consumer. Closing the returned queue unregisters it.
+   *
+   * @param seedSizeBytes the number of bytes to give the consumer each time it asks for a seed
+   * @return the queue that the consumer should read its seeds from; it must have only one reader at a time, can't be
+   *     written to, and is closed once the source is closed and can't supply another seed
+   */
+  public ByteQueue register(int seedSizeBytes) {
+    if (seedSizeBytes <= 0 || seedSizeBytes > carry.length) {
+      throw new IllegalArgumentException(
+          "seedSizeBytes must be between 1 and the block size of " + carry.length + ", but is " + seedSizeBytes);
+    }
+    return new ConsumerQueue(seedSizeBytes);
+  }
+
+  /**
+   * Serves as many outstanding requests as the source can supply. Only one thread does this at a time; a thread that
+   * calls this while another is doing so only makes sure that one checks again before it stops, so this never blocks.
+   */
+  private void serveRequests() {
+    if (requests.isEmpty() || serviceRequests.getAndIncrement() != 0) {
+      return;
+    }
+    int pending = 1;
+    do {
+      ConsumerQueue consumer;
+      while ((consumer = requests.peek()) != null) {
+        if (!consumer.isClosed()) {
+          // Checked before reading, so that if the read comes up short, the source has no more bytes to come
+          final boolean sourceClosed = source.isClosed();
+          if (fillCarry(consumer.seedSizeBytes)) {
+            // Only this thread writes to the consumer's queue, which has room for a whole seed whenever it's asked
+            carryStart += consumer.seeds.offer(carry, carryStart, consumer.seedSizeBytes);
+          } else if (sourceClosed) {
+            // Consumers wanting smaller seeds may still be served from the carry
+            consumer.close();
+          } else {
+            break;
+          }
+        }
+        requests.remove();
+        consumer.requested.set(false);
+        consumer.seedDelivered();
+      }
+      pending = serviceRequests.addAndGet(-pending);
+    } while (pending != 0);
+  }
+
+  /**
+   * Reads from the source until the carry holds at least {@code length} bytes, or the source is empty.
+   *
+   * @return true if the carry holds at least {@code length} bytes
+   */
+  private boolean fillCarry(int length) {
+    if (carryEnd - carryStart >= length) {
+      return true;
+    }
+    System.arraycopy(carry, carryStart, carry, 0, carryEnd - carryStart);
+    carryEnd -= carryStart;
+    carryStart = 0;
+    int read;
+    do {
+      read = source.poll(carry, carryEnd, carry.length - carryEnd);
+      carryEnd += read;
+    } while (read > 0 && carryEnd < length);
+    return carryEnd >= length;
+  }
+
+  /**
+   * One consumer's queue of seeds, which asks for another seed whenever a poll finds less than it wants.
+   */
+  private final class ConsumerQueue extends AbstractByteQueue {
+    private final int seedSizeBytes;
+    private final ByteQueue seeds;
+    private final AtomicBoolean requested = new AtomicBoolean();
+
+    private ConsumerQueue(int seedSizeBytes) {
+      super(source.getWaitStrategy());
+      this.seedSizeBytes = seedSizeBytes;
+      // Room for the seed being read plus a whole new one
+      seeds = ByteQueues.create(Integer.highestOneBit(seedSizeBytes) << 2, 1, 1, waitStrategy);
+    }
+
+    @Override
+    public long getCapacity() {
+      return seeds.getCapacity();
+    }
+
+    @Override
+    public long getFillLevel() {
+      return seeds.getFillLevel();
+    }
+
+    /**
+     * @throws UnsupportedOperationException always, since only the distributor writes seeds
+     */
+    @Override
+    public int offer(byte[] source, int start, int desiredLength) {
+      throw new UnsupportedOperationException("Only the SeedDistributor writes to this queue");
+    }
+
+    @Override
+    public int poll(byte[] dest, int start, int desiredLength) {
+      int read = seeds.poll(dest, start, desiredLength);
+      if (read < desiredLength && !isClosed()) {
+        if (seeds.getFillLevel() < seedSizeBytes && requested.compareAndSet(false, true)) {
+          requests.add(this);
+        }
+        serveRequests();
+        read += seeds.poll(dest, start + read, desiredLength - read);
+      }
+      return read;
+    }
+
+    /**
+     * Wakes threads waiting for a seed, and services pending asynchronous reads.
+     */
+    private void seedDelivered() {
+      signalProgress();
+    }
+
+    @Override
+    public void close() {
+      super.close();
+      seeds.close();
+    }
+  }
+}
@@ -0,0 +1,76 @@
+package io.github.pr0methean.newbetterrandom.autoreseed;
+
+import java.util.random.RandomGenerator;
+import java.util.stream.Stream;
+
+import io.github.pr0methean.newbetterrandom.buffer.ByteQueue;
+import io.github.pr0methean.newbetterrandom.reseedable.ReseedableRandomGenerator;
+
+/**
+ * <p>{@link EntropyManagingRandomGeneratorWrapper} for a splittable delegate. {@link #split()} creates a child wrapper
+ * around a generator split from the delegate, instead of one that has to read a seed before its first output; the
+ * child shares the seed buffer and thresholds, and takes half of the parent's entropy above the minimum level.</p>
+ * <p>Children read their later seeds from the same seed buffer as the parent, so if they'll be used on other threads,
+ * it must allow multiple readers, or each child can be given a queue from a {@link SeedDistributor} instead.</p>
+ */
+public class SplittableEntropyManagingRandomGeneratorWrapper extends EntropyManagingRandomGeneratorWrapper
+    implements RandomGenerator.SplittableGenerator {
+
+  /**
+   * @throws IllegalArgumentException if {@code delegate} isn't splittable
+   * @see EntropyManagingRandomGeneratorWrapper#EntropyManagingRandomGeneratorWrapper(ReseedableRandomGenerator, long,
+   *     long, long, ByteQueue, AdaptiveReseedPolicy)
+   */
+  public SplittableEntropyManagingRandomGeneratorWrapper(ReseedableRandomGenerator delegate, long initialEntropy,
+      long desiredEntropyBits, long minimumEntropyBits, ByteQueue seedBuffer,
+      /* @Nullable */ AdaptiveReseedPolicy reseedPolicy) {
+    super(delegate, initialEntropy, desiredEntropyBits, minimumEntropyBits, seedBuffer, reseedPolicy);
+    if (!delegate.isSplittable()) {
+      throw new IllegalArgumentException(delegate.getClass().getName() + " isn't splittable");
+    }
+  }
+
+  private SplittableEntropyManagingRandomGeneratorWrapper(SplittableEntropyManagingRandomGeneratorWrapper parent,
+      ReseedableRandomGenerator delegate, long initialEntropy) {
+    super(parent, delegate, initialEntropy);
+  }
+
+  @Override
+  public SplittableEntropyManagingRandomGeneratorWrapper split() {
+    final ReseedableRandomGenerator child = delegate.split();
+    return new SplittableEntropyManagingRandomGeneratorWrapper(this, child, shareEntropy());
+  }
+
+  /**
+   * Creates a child whose state is derived from {@code source}'s output. The child is credited with half of
+   * {@code source}'s entropy above its minimum level if {@code source} is an
+   * {@link EntropyManagingRandomGeneratorWrapper}, and otherwise with none, so that it reseeds before its first
+   * output.
+   */
+  @Override
+  public SplittableEntropyManagingRandomGeneratorWrapper split(SplittableGenerator source) {
+    if (source == this) {
+      return split();
+    }
+    final ReseedableRandomGenerator child = delegate.split(source);
+    final long childEntropy = source instanceof EntropyManagingRandomGeneratorWrapper wrapper
+        ? wrapper.shareEntropy() : 0;
+    return new SplittableEntropyManagingRandomGeneratorWrapper(this, child, childEntropy);
+  }
+
+  @Override
+  public Stream<SplittableGenerator> splits(long streamSize) {
+    return splits(streamSize, this);
+  }
+
+  @Override
+  public Stream<SplittableGenerator> splits(SplittableGenerator source) {
+    return Stream.generate(() -> split(source));
+  }
+
+  @Override
+  public Stream<SplittableGenerator> splits(long streamSize, SplittableGenerator source) {
+    checkStreamSize(streamSize);
+    return splits(source).limit(streamSize);
+  }
+}
@@ -1,24 +1,60 @@
 package io.github.pr0methean.newbetterrandom.buffer;
 
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
 public abstract class AbstractByteQueue implements ByteQueue {
 
   protected volatile boolean closed;
+  protected final WaitStrategy waitStrategy;
+  private final Queue<AsyncTransfer> pendingWrites = new ConcurrentLinkedQueue<>();
+  private final Queue<AsyncTransfer> pendingReads = new ConcurrentLinkedQueue<>();
+  /** Number of requests to service the pending transfers since the servicing thread last checked; 0 if none is. */
+  private final AtomicInteger asyncServiceRequests = new AtomicInteger();
+
+  protected AbstractByteQueue() {
+    this(BusySpinWaitStrategy.INSTANCE);
+  }
+
+  protected AbstractByteQueue(WaitStrategy waitStrategy) {
+    this.waitStrategy = waitStrategy;
+  }
+
+  @Override
+  public WaitStrategy getWaitStrategy() {
+    return waitStrategy;
+  }
 
   @Override
   public void write(byte[] source, int start, int length) throws InterruptedException {
     int written = 0;
-    while (written < length) {
-      if (Thread.interrupted()) {
-        throw new InterruptedException();
-      }
-      final int writtenThisIteration = offer(source, start + written, length - written);
-      if (writtenThisIteration == 0) {
-        if (isClosed()) {
-          throw new IllegalStateException("Closed");
+    int idleCount = 0;
+    ByteQueueWaitEvent waitEvent = null;
+    try {
+      while (written < length) {
+        if (Thread.interrupted()) {
+          throw new InterruptedException();
+        }
+        final int writtenThisIteration = offer(source, start + written, length - written);
+        if (writtenThisIteration == 0) {
+          if (isClosed()) {
+            throw new IllegalStateException("Closed");
+          }
+          if (idleCount == 0) {
+            waitEvent = ByteQueueWaitEvent.start(this, true);
+          }
+          waitStrategy.idle(idleCount++);
+        } else {
+          ByteQueueWaitEvent.finish(waitEvent, idleCount);
+          waitEvent = null;
+          idleCount = 0;
         }
-        Thread.onSpinWait();
+        written += writtenThisIteration;
       }
-      written += writtenThisIteration;
+    } finally {
+      ByteQueueWaitEvent.finish(waitEvent, idleCount);
     }
   }
 
@@ -30,23 +66,148 @@ public abstract class AbstractByteQueue implements ByteQueue {
   @Override
   public void close() {
     closed = true;
+    signalProgress();
+  }
+
+  /**
+   * Called after an {@link #offer(byte[], int, int)} or {@link #poll(byte[], int, int)} call has transferred bytes, and
+   * after closing. Wakes threads waiting through the {@link WaitStrategy}, then services pending asynchronous
+   * transfers.
+   */
+  protected void signalProgress() {
+    waitStrategy.signal();
+    serviceAsyncTransfers();
+  }
+
+  @Override
+  public CompletableFuture<Void> writeAsync(byte[] source, int start, int length) {
+    return enqueue(pendingWrites, source, start, length);
+  }
+
+  @Override
+  public CompletableFuture<Void> readAsync(byte[] dest, int start, int length) {
+    return enqueue(pendingReads, dest, start, length);
+  }
+
+  private CompletableFuture<Void> enqueue(Queue<AsyncTransfer> queue, byte[] array, int start, int length) {
+    if (length < 0) {
+      throw new IllegalArgumentException("length can't be negative");
+    }
+    final AsyncTransfer transfer = new AsyncTransfer(array, start, length);
+    if (length == 0) {
+      transfer.future.complete(null);
+    } else {
+      queue.add(transfer);
+      serviceAsyncTransfers();
+    }
+    return transfer.future;
+  }
+
+  /**
+   * Makes as much progress as possible on the pending asynchronous transfers, each kind in the order they were
+   * requested. Only one thread does this at a time; a thread that calls this while another is doing so only makes
+   * sure that one checks again before it stops, so this never blocks. Cheap when nothing is pending.
+   */
+  protected final void serviceAsyncTransfers() {
+    if ((pendingWrites.isEmpty() && pendingReads.isEmpty()) || asyncServiceRequests.getAndIncrement() != 0) {
+      return;
+    }
+    int requests = 1;
+    do {
+      serviceAsyncWrites();
+      serviceAsyncReads();
+      requests = asyncServiceRequests.addAndGet(-requests);
+    } while (requests != 0);
+  }
+
+  /**
+   * @return true if any asynchronous transfer hasn't finished yet
+   */
+  protected final boolean hasPendingAsyncTransfers() {
+    return !pendingWrites.isEmpty() || !pendingReads.isEmpty();
+  }
+
+  private void serviceAsyncWrites() {
+    AsyncTransfer transfer;
+    while ((transfer = pendingWrites.peek()) != null) {
+      if (!transfer.future.isDone()) {
+        if (isClosed()) {
+          transfer.future.completeExceptionally(new IllegalStateException("Closed"));
+        } else {
+          transfer.done += offer(transfer.array, transfer.start + transfer.done, transfer.length - transfer.done);
+          if (transfer.done < transfer.length) {
+            return;
+          }
+          transfer.future.complete(null);
+        }
+      }
+      pendingWrites.remove();
+    }
+  }
+
+  private void serviceAsyncReads() {
+    AsyncTransfer transfer;
+    while ((transfer = pendingReads.peek()) != null) {
+      if (!transfer.future.isDone()) {
+        final int read = poll(transfer.array, transfer.start + transfer.done, transfer.length - transfer.done);
+        transfer.done += read;
+        if (transfer.done < transfer.length) {
+          if (read == 0 && isClosed()) {
+            transfer.future.completeExceptionally(new IllegalStateException("Closed"));
+          } else {
+            return;
+          }
+        } else {
+          transfer.future.complete(null);
+        }
+      }
+      pendingReads.remove();
+    }
+  }
+
+  private static final class AsyncTransfer {
+    private final byte[] array;
+    private final int start;
+    private final int length;
+    private final CompletableFuture<Void> future = new CompletableFuture<>();
+    /** Only accessed by the thread servicing transfers. */
+    private int done;
+
+    private AsyncTransfer(byte[] array, int start, int length) {
+      this.array = array;
+      this.start = start;
+      this.length = length;
+    }
   }
 
   @Override
   public void read(byte[] dest, int start, int length) throws InterruptedException {
     int read = 0;
-    while (read < length) {
-      final int readThisIteration = poll(dest, start + read, length - read);
-      if (Thread.interrupted()) {
-        throw new InterruptedException();
-      }
-      if (readThisIteration == 0) {
-        if (isClosed()) {
-          throw new IllegalStateException("Closed");
+    int idleCount = 0;
+    ByteQueueWaitEvent waitEvent = null;
+    try {
+      while (read < length) {
+        final int readThisIteration = poll(dest, start + read, length - read);
+        if (Thread.interrupted()) {
+          throw new InterruptedException();
+        }
+        if (readThisIteration == 0) {
+          if (isClosed()) {
+            throw new IllegalStateException("Closed");
+          }
+          if (idleCount == 0) {
+            waitEvent = ByteQueueWaitEvent.start(this, false);
+          }
+          waitStrategy.idle(idleCount++);
+        } else {
+          ByteQueueWaitEvent.finish(waitEvent, idleCount);
+          waitEvent = null;
+          idleCount = 0;
         }
-        Thread.onSpinWait();
+        read += readThisIteration;
       }
-      read += readThisIteration;
+    } finally {
+      ByteQueueWaitEvent.finish(waitEvent, idleCount);
     }
   }
 }
@@ -1,15 +1,24 @@
 package io.github.pr0methean.newbetterrandom.buffer;
 
+import java.nio.ByteBuffer;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 
 public abstract class AtomicByteRingBuffer extends AbstractByteQueue {
   protected final int byteSize;
   protected final int bitMask;
-  protected final AtomicLong bytesStartedWriting = new AtomicLong();
-  protected final AtomicLong bytesFinishedWriting = new AtomicLong();
-  protected final AtomicLong bytesStartedReading = new AtomicLong();
+  protected final AtomicLong bytesStartedWriting = new PaddedAtomicLong();
+  final CompletionCursor bytesFinishedWriting;
+  protected final AtomicLong bytesStartedReading = new PaddedAtomicLong();
+  final CompletionCursor bytesFinishedReading;
+  final ByteQueueStatistics statistics = new ByteQueueStatistics(this::getFillLevel);
 
   public AtomicByteRingBuffer(final int byteSize) {
+    this(byteSize, BusySpinWaitStrategy.INSTANCE);
+  }
+
+  public AtomicByteRingBuffer(final int byteSize, final WaitStrategy waitStrategy) {
+    super(waitStrategy);
     if (byteSize <= 0) {
       throw new IllegalArgumentException("byteSize must be positive, but is " + byteSize);
     }
@@ -18,6 +27,8 @@ public abstract class AtomicByteRingBuffer extends AbstractByteQueue {
     }
     this.byteSize = byteSize;
     bitMask = this.byteSize - 1;
+    bytesFinishedWriting = new CompletionCursor();
+    bytesFinishedReading = new CompletionCursor();
   }
 
   @Override
@@ -32,20 +43,23 @@ public abstract class AtomicByteRingBuffer extends AbstractByteQueue {
       return 0;
     }
     desiredLength = Math.min(desiredLength, byteSize);
-    int actualLength = 0;
-    final long writeStart = bytesStartedWriting.getAndAdd(desiredLength);
-    final long writeLimit = bytesStartedReading.get() + byteSize;
-    try {
-      final int spaceLeft = (int) (writeLimit - writeStart);
+    long writeStart;
+    int spaceLeft;
+    int actualLength;
+    while (true) {
+      writeStart = bytesStartedWriting.get();
+      spaceLeft = (int) (bytesFinishedReading.get() + byteSize - writeStart);
       if (spaceLeft <= 0) {
+        statistics.recordOffer(0);
         return 0; // Buffer is full
       }
       actualLength = Math.min(spaceLeft, desiredLength);
-    } finally {
-      if (actualLength != desiredLength) {
-        bytesStartedWriting.getAndAdd(actualLength - desiredLength);
+      if (bytesStartedWriting.compareAndSet(writeStart, writeStart + actualLength)) {
+        break;
       }
+      statistics.recordCasRetry();
     }
+    statistics.recordOffer(actualLength, byteSize - spaceLeft + actualLength);
     final long writeEnd = writeStart + actualLength;
     final int destStartIndex = (int) (writeStart & bitMask);
     final int destEndIndex = (int) (writeEnd & bitMask);
@@ -57,20 +71,21 @@ public abstract class AtomicByteRingBuffer extends AbstractByteQueue {
     } else {
       unsafeWrite(destStartIndex, source, start, actualLength);
     }
-    if (!bytesFinishedWriting.compareAndSet(writeStart, writeEnd)) {
-      /*
-       * Must start over, to prevent the following scenario:
-       *
-       * 1. Thread W1 starts writing bytes 0..20. bytesStartedWriting set to 20.
-       * 2. Thread W2 starts writing bytes 20..30. bytesStartedWriting set to 30.
-       * 3. Thread W2 finishes. bytesFinishedWriting set to 10.
-       * 4. Thread R starts reading bytes 0..10, even though they still aren't written.
-       */
-      bytesStartedWriting.getAndAdd(-actualLength);
-      return 0;
-    } else {
-      return actualLength;
-    }
+    finishWriting(writeStart, actualLength);
+    return actualLength;
+  }
+
+  /**
+   * Publishes bytes that have been copied into the buffer after reserving them by advancing
+   * {@link #bytesStartedWriting}. Writers can finish in any order: readers see these bytes once every earlier write has
+   * also finished.
+   *
+   * @param writeStart the position of the first byte written
+   * @param length the number of bytes written; must be positive
+   */
+  protected final void finishWriting(final long writeStart, final int length) {
+    bytesFinishedWriting.complete(writeStart, writeStart + length);
+    signalProgress();
   }
 
   @Override
@@ -78,6 +93,19 @@ public abstract class AtomicByteRingBuffer extends AbstractByteQueue {
     return byteSize;
   }
 
+  @Override
+  public long getFillLevel() {
+    return Math.max(0, bytesFinishedWriting.get() - bytesStartedReading.get());
+  }
+
+  /**
+   * @return live counters for this buffer, which can be published with
+   *     {@link ByteQueueStatistics#registerMBean(String)}
+   */
+  public ByteQueueStatistics getStatistics() {
+    return statistics;
+  }
+
   void checkInternalInvariants() {
     final long finishedWritingTime1 = bytesFinishedWriting.get();
     final long startedWriting = bytesStartedWriting.get();
@@ -88,6 +116,11 @@ public abstract class AtomicByteRingBuffer extends AbstractByteQueue {
     if (finishedWritingTime1 > finishedWritingTime2) {
       throw new AssertionError("bytesFinishedWriting is non-monotonic");
     }
+    final long finishedReading = bytesFinishedReading.get();
+    final long startedReading = bytesStartedReading.get();
+    if (finishedReading > startedReading) {
+      throw new AssertionError("bytesStartedReading < bytesFinishedReading");
+    }
   }
 
   protected abstract void unsafeWrite(int destStart, byte[] source, int sourceStart, int length);
@@ -101,18 +134,22 @@ public abstract class AtomicByteRingBuffer extends AbstractByteQueue {
       return 0;
     }
     desiredLength = Math.min(desiredLength, byteSize);
-    final long readStart = bytesStartedReading.getAndAdd(desiredLength);
-    final long written = bytesFinishedWriting.get();
-    final int available = (int) (written - readStart);
-    if (available <= 0) {
-      // Buffer is empty
-      bytesStartedReading.getAndAdd(-desiredLength);
-      return 0;
-    }
-    final int actualLength = Math.min(available, desiredLength);
-    if (actualLength < desiredLength) {
-      bytesStartedReading.getAndAdd(actualLength - desiredLength); // Doing a partial read
+    long readStart;
+    int actualLength;
+    while (true) {
+      readStart = bytesStartedReading.get();
+      final int available = (int) (bytesFinishedWriting.get() - readStart);
+      if (available <= 0) {
+        statistics.recordPoll(0);
+        return 0; // Buffer is empty
+      }
+      actualLength = Math.min(available, desiredLength);
+      if (bytesStartedReading.compareAndSet(readStart, readStart + actualLength)) {
+        break;
+      }
+      statistics.recordCasRetry();
     }
+    statistics.recordPoll(actualLength);
     final int readStartIndex = (int) (readStart & bitMask);
     final int readEndIndex = (int) ((readStart + actualLength) & bitMask);
     if (readEndIndex <= readStartIndex) {
@@ -123,8 +160,90 @@ public abstract class AtomicByteRingBuffer extends AbstractByteQueue {
     } else {
       unsafeRead(readStartIndex, dest, start, actualLength);
     }
+    finishReading(readStart, actualLength);
     return actualLength;
   }
 
+  /**
+   * Frees space that has been read from after reserving it by advancing {@link #bytesStartedReading}, so that writers
+   * can reuse it once every earlier read has also finished.
+   *
+   * @param readStart the position of the first byte read
+   * @param length the number of bytes read; must be positive
+   */
+  protected final void finishReading(final long readStart, final int length) {
+    bytesFinishedReading.complete(readStart, readStart + length);
+    signalProgress();
+  }
+
   protected abstract void unsafeRead(int sourceStart, byte[] dest, int destStart, int length);
+
+  /**
+   * @return a view of {@code length} bytes of the underlying storage, starting at index {@code start}, that doesn't
+   *     wrap around
+   */
+  protected abstract ByteBuffer unsafeView(int start, int length);
+
+  @Override
+  public int drainTo(final Consumer<? super ByteBuffer> consumer, int maxBytes) {
+    if (maxBytes < 0) {
+      throw new IllegalArgumentException("maxBytes can't be negative");
+    }
+    if (maxBytes == 0) {
+      return 0;
+    }
+    maxBytes = Math.min(maxBytes, byteSize);
+    long readStart;
+    int actualLength;
+    while (true) {
+      readStart = bytesStartedReading.get();
+      final int available = (int) (bytesFinishedWriting.get() - readStart);
+      if (available <= 0) {
+        statistics.recordPoll(0);
+        return 0; // Buffer is empty
+      }
+      actualLength = Math.min(available, maxBytes);
+      if (bytesStartedReading.compareAndSet(readStart, readStart + actualLength)) {
+        break;
+      }
+      statistics.recordCasRetry();
+    }
+    statistics.recordPoll(actualLength);
+    try {
+      final int readStartIndex = (int) (readStart & bitMask);
+      final int lengthBeforeWrap = Math.min(actualLength, byteSize - readStartIndex);
+      consumer.accept(unsafeView(readStartIndex, lengthBeforeWrap).asReadOnlyBuffer());
+      if (lengthBeforeWrap < actualLength) {
+        consumer.accept(unsafeView(0, actualLength - lengthBeforeWrap).asReadOnlyBuffer());
+      }
+    } finally {
+      // The space must be freed even if the consumer throws, or writers would eventually stall
+      finishReading(readStart, actualLength);
+    }
+    return actualLength;
+  }
+
+  /**
+   * {@inheritDoc} Here {@code filler} is given a single buffer, sized to the space that's free when this is called, and
+   * the bytes are only reserved and published once it has returned; so a filler that throws writes nothing, and one
+   * that returns early writes only what it put. This costs a copy, but still writes the whole batch with one update
+   * of the write cursor.
+   */
+  @Override
+  public int fillFrom(final Consumer<? super ByteBuffer> filler, int maxBytes) {
+    if (maxBytes < 0) {
+      throw new IllegalArgumentException("maxBytes can't be negative");
+    }
+    if (maxBytes == 0 || isClosed()) {
+      return 0;
+    }
+    final int spaceLeft = (int) (bytesFinishedReading.get() + byteSize - bytesStartedWriting.get());
+    if (spaceLeft <= 0) {
+      statistics.recordOffer(0);
+      return 0; // Buffer is full
+    }
+    final ByteBuffer staged = ByteBuffer.allocate(Math.min(spaceLeft, maxBytes));
+    filler.accept(staged);
+    return offer(staged.array(), 0, staged.position());
+  }
 }
@@ -3,9 +3,9 @@ package io.github.pr0methean.newbetterrandom.buffer;
 import java.nio.ByteBuffer;
 
 /**
- * <p>Byte ring buffer designed to have allocation-free and lock-free offer, allocation-free and wait-free poll,
+ * <p>Byte ring buffer designed to have allocation-free and lock-free offer, allocation-free and lock-free poll,
  * at-most-once delivery, and a single-byte unit of transmission, and to be thread-safe for multiple readers and
- * multiple writerss.</p>
+ * multiple writers.</p>
  * <p>The intended use case is reseeding of pseudorandom number generators (PRNGs), to prevent
  * results of complex programs from being influenced by subtle patterns in the PRNG's output. For
  * example, in a simulation program, a handful of threads may read from truly-random sources such as
@@ -22,7 +22,11 @@ public class AtomicByteRingBufferUsingByteBuffer extends AtomicByteRingBuffer {
   protected final ByteBuffer buffer;
 
   public AtomicByteRingBufferUsingByteBuffer(final int byteSize) {
-    super(byteSize);
+    this(byteSize, BusySpinWaitStrategy.INSTANCE);
+  }
+
+  public AtomicByteRingBufferUsingByteBuffer(final int byteSize, final WaitStrategy waitStrategy) {
+    super(byteSize, waitStrategy);
     this.buffer = ByteBuffer.allocateDirect(byteSize);
   }
 
@@ -35,4 +39,9 @@ public class AtomicByteRingBufferUsingByteBuffer extends AtomicByteRingBuffer {
   protected void unsafeRead(int readStartIndex, byte[] dest, int start, int lengthBeforeWrap) {
     buffer.get(readStartIndex, dest, start, lengthBeforeWrap);
   }
+
+  @Override
+  protected ByteBuffer unsafeView(int start, int length) {
+    return buffer.slice(start, length);
+  }
 }
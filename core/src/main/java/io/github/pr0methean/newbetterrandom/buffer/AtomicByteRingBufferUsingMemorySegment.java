@@ -1,12 +1,18 @@
 package io.github.pr0methean.newbetterrandom.buffer;
 
 import java.lang.ref.Cleaner;
+import java.nio.ByteBuffer;
 
 import java.lang.foreign.MemorySegment;
 import java.lang.foreign.MemorySession;
 import java.lang.foreign.ValueLayout;
 
-public class AtomicByteRingBufferUsingMemorySegment extends AtomicByteRingBuffer {
+/**
+ * {@link AtomicByteRingBuffer} backed by a native {@link MemorySegment}. Besides copying through {@code byte[]}s with
+ * {@link #offer(byte[], int, int)} and {@link #poll(byte[], int, int)}, it can lend out slices of that segment through
+ * {@link #claimWrite(int)} and {@link #claimRead(int)}.
+ */
+public class AtomicByteRingBufferUsingMemorySegment extends AtomicByteRingBuffer implements ZeroCopyByteQueue {
 
   private static final Cleaner CLEANER = Cleaner.create();
 
@@ -15,7 +21,11 @@ public class AtomicByteRingBufferUsingMemorySegment extends AtomicByteRingBuffer
   private final MemorySession session;
 
   public AtomicByteRingBufferUsingMemorySegment(int byteSize) {
-    super(byteSize);
+    this(byteSize, BusySpinWaitStrategy.INSTANCE);
+  }
+
+  public AtomicByteRingBufferUsingMemorySegment(int byteSize, WaitStrategy waitStrategy) {
+    super(byteSize, waitStrategy);
     session = MemorySession.openShared(CLEANER);
     segment = session.allocate(byteSize);
   }
@@ -30,8 +40,113 @@ public class AtomicByteRingBufferUsingMemorySegment extends AtomicByteRingBuffer
     MemorySegment.copy(segment, ValueLayout.JAVA_BYTE, srcStart, dest, destStart, length);
   }
 
+  @Override
+  protected ByteBuffer unsafeView(int start, int length) {
+    return segment.asSlice(start, length).asByteBuffer();
+  }
+
+  @Override
+  public WriteClaim claimWrite(int desiredLength) {
+    if (desiredLength < 0) {
+      throw new IllegalArgumentException("desiredLength can't be negative");
+    }
+    if (desiredLength == 0 || isClosed()) {
+      return null;
+    }
+    desiredLength = Math.min(desiredLength, byteSize);
+    long writeStart;
+    int spaceLeft;
+    int actualLength;
+    while (true) {
+      writeStart = bytesStartedWriting.get();
+      spaceLeft = (int) (bytesFinishedReading.get() + byteSize - writeStart);
+      if (spaceLeft <= 0) {
+        statistics.recordOffer(0);
+        return null; // Buffer is full
+      }
+      final int spaceBeforeWrap = byteSize - (int) (writeStart & bitMask);
+      actualLength = Math.min(Math.min(spaceLeft, spaceBeforeWrap), desiredLength);
+      if (bytesStartedWriting.compareAndSet(writeStart, writeStart + actualLength)) {
+        break;
+      }
+      statistics.recordCasRetry();
+    }
+    statistics.recordOffer(actualLength, byteSize - spaceLeft + actualLength);
+    return new SegmentWriteClaim(writeStart, segment.asSlice(writeStart & bitMask, actualLength));
+  }
+
+  @Override
+  public ReadClaim claimRead(int desiredLength) {
+    if (desiredLength < 0) {
+      throw new IllegalArgumentException("desiredLength can't be negative");
+    }
+    if (desiredLength == 0) {
+      return null;
+    }
+    desiredLength = Math.min(desiredLength, byteSize);
+    long readStart;
+    int actualLength;
+    while (true) {
+      readStart = bytesStartedReading.get();
+      final int available = (int) (bytesFinishedWriting.get() - readStart);
+      if (available <= 0) {
+        statistics.recordPoll(0);
+        return null; // Buffer is empty
+      }
+      final int availableBeforeWrap = byteSize - (int) (readStart & bitMask);
+      actualLength = Math.min(Math.min(available, availableBeforeWrap), desiredLength);
+      if (bytesStartedReading.compareAndSet(readStart, readStart + actualLength)) {
+        break;
+      }
+      statistics.recordCasRetry();
+    }
+    statistics.recordPoll(actualLength);
+    return new SegmentReadClaim(readStart, segment.asSlice(readStart & bitMask, actualLength).asReadOnly());
+  }
+
+  private final class SegmentWriteClaim implements WriteClaim {
+    private final long writeStart;
+    private final MemorySegment slice;
+
+    private SegmentWriteClaim(long writeStart, MemorySegment slice) {
+      this.writeStart = writeStart;
+      this.slice = slice;
+    }
+
+    @Override
+    public MemorySegment segment() {
+      return slice;
+    }
+
+    @Override
+    public void commit() {
+      finishWriting(writeStart, (int) slice.byteSize());
+    }
+  }
+
+  private final class SegmentReadClaim implements ReadClaim {
+    private final long readStart;
+    private final MemorySegment slice;
+
+    private SegmentReadClaim(long readStart, MemorySegment slice) {
+      this.readStart = readStart;
+      this.slice = slice;
+    }
+
+    @Override
+    public MemorySegment segment() {
+      return slice;
+    }
+
+    @Override
+    public void close() {
+      finishReading(readStart, (int) slice.byteSize());
+    }
+  }
+
   @Override
   public void close() {
+    super.close();
     session.close();
   }
 }
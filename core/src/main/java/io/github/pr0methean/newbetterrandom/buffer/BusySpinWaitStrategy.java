@@ -0,0 +1,14 @@
+package io.github.pr0methean.newbetterrandom.buffer;
+
+/**
+ * Calls {@link Thread#onSpinWait()} on every idle iteration. Lowest latency, but each waiting thread occupies a whole
+ * core (or virtual-thread carrier) for as long as it waits.
+ */
+public enum BusySpinWaitStrategy implements WaitStrategy {
+  INSTANCE;
+
+  @Override
+  public void idle(int idleCount) {
+    Thread.onSpinWait();
+  }
+}
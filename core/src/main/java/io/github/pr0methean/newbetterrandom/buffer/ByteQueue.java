@@ -1,6 +1,9 @@
 package io.github.pr0methean.newbetterrandom.buffer;
 
 import java.io.Closeable;
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 public interface ByteQueue extends Closeable {
@@ -21,9 +24,11 @@ public interface ByteQueue extends Closeable {
   static int writeWhileNonNull(Supplier</* @Nullable */ ? extends ByteQueue> bufferSupplier, byte[] source,
                                int start, int length) {
     int written = 0;
+    int idleCount = 0;
+    ByteQueueWaitEvent waitEvent = null;
     while (written < length) {
       if (Thread.currentThread().isInterrupted()) {
-        return written;
+        break;
       }
       final ByteQueue buffer = bufferSupplier.get();
       if (buffer == null || buffer.isClosed()) {
@@ -31,15 +36,37 @@ public interface ByteQueue extends Closeable {
       }
       final int writtenThisIteration = buffer.offer(source, start + written, length - written);
       if (writtenThisIteration == 0) {
-        Thread.onSpinWait();
+        if (idleCount == 0) {
+          waitEvent = ByteQueueWaitEvent.start(buffer, true);
+        }
+        buffer.getWaitStrategy().idle(idleCount++);
+      } else {
+        ByteQueueWaitEvent.finish(waitEvent, idleCount);
+        waitEvent = null;
+        idleCount = 0;
       }
       written += writtenThisIteration;
     }
+    ByteQueueWaitEvent.finish(waitEvent, idleCount);
     return written;
   }
 
   long getCapacity();
 
+  /**
+   * The number of bytes that are ready to be read. Only a snapshot, since other threads may be reading and writing.
+   *
+   * @return the number of bytes in this queue
+   */
+  long getFillLevel();
+
+  /**
+   * The strategy that blocking reads and writes on this queue use while waiting for bytes or space.
+   *
+   * @return this queue's wait strategy
+   */
+  WaitStrategy getWaitStrategy();
+
   /**
    * Nonblocking write of up to {@code desiredLength} bytes.
    *
@@ -62,6 +89,54 @@ public interface ByteQueue extends Closeable {
    */
   int poll(byte[] dest, int start, int desiredLength);
 
+  /**
+   * Nonblocking read of up to {@code maxBytes} bytes, which are passed to {@code consumer} as one or more read-only
+   * {@link ByteBuffer}s instead of being copied into an array the caller provides. The buffers are only valid until
+   * {@code consumer} returns. The default implementation polls into a temporary array; ring buffers override it to pass
+   * views of their own storage, one before and one after the point where it wraps around.
+   *
+   * @param consumer      receives the bytes read; called once per buffer, and not at all if nothing is read
+   * @param maxBytes      the maximum number of bytes to read; can be more than this buffer's capacity, but no more than
+   *                      the capacity will actually be read
+   * @return the number of bytes actually read
+   */
+  default int drainTo(Consumer<? super ByteBuffer> consumer, int maxBytes) {
+    if (maxBytes < 0) {
+      throw new IllegalArgumentException("maxBytes can't be negative");
+    }
+    final byte[] bytes = new byte[(int) Math.min(maxBytes, getCapacity())];
+    final int read = poll(bytes, 0, bytes.length);
+    if (read > 0) {
+      consumer.accept(ByteBuffer.wrap(bytes, 0, read).asReadOnlyBuffer());
+    }
+    return read;
+  }
+
+  /**
+   * Nonblocking write of up to {@code maxBytes} bytes, which {@code filler} writes into a {@link ByteBuffer} instead of
+   * the caller copying them from an array. {@code filler} should fill the buffer up to its limit with relative puts or
+   * reads, and must not keep a reference to it; only the bytes before its position are written, so a filler that
+   * returns early writes only what it put, and one that throws writes nothing. The default implementation has
+   * {@code filler} fill a temporary array the size of the capacity and then offers it, discarding any bytes that no
+   * longer fit; ring buffers override it to size the array to the free space instead.
+   *
+   * @param filler        writes the bytes; called once
+   * @param maxBytes      the maximum number of bytes to write; can be more than this buffer's capacity, but no more than
+   *                      the capacity will actually be written
+   * @return the number of bytes actually written
+   */
+  default int fillFrom(Consumer<? super ByteBuffer> filler, int maxBytes) {
+    if (maxBytes < 0) {
+      throw new IllegalArgumentException("maxBytes can't be negative");
+    }
+    if (maxBytes == 0 || isClosed()) {
+      return 0;
+    }
+    final ByteBuffer bytes = ByteBuffer.allocate((int) Math.min(maxBytes, getCapacity()));
+    filler.accept(bytes);
+    return offer(bytes.array(), 0, bytes.position());
+  }
+
   /**
    * Blocking write of exactly {@code length} bytes.
    * Deadlock-free provided that enough bytes will eventually be polled for.
@@ -85,6 +160,44 @@ public interface ByteQueue extends Closeable {
    */
   void read(byte[] dest, int start, int length) throws InterruptedException;
 
+  /**
+   * Asynchronous write of exactly {@code length} bytes, for callers that mustn't block, such as event-loop threads.
+   * Bytes are copied from {@code source} as space becomes available, so it must not be modified until the returned
+   * future completes. Pending writes are serviced in the order they were requested, by whichever thread makes progress
+   * possible by polling; use the {@code *Async} methods of {@link CompletableFuture} to run dependent work elsewhere.
+   * Cancelling the future abandons the rest of the write.
+   * <p>Until the future completes, the pending write counts as one of the threads offering, since whichever thread
+   * services it calls {@link #offer(byte[], int, int)}. So on a buffer that supports only one writing thread at a time,
+   * such as {@link SingleProducerSingleConsumerByteRingBuffer}, the producer mustn't make any other writes, blocking or
+   * not, until it completes; further {@code writeAsync} calls are fine, since they're serviced in turn.</p>
+   *
+   * @param source the array to copy from
+   * @param start the first index to copy from
+   * @param length the number of bytes to write; may be more than this buffer's capacity
+   * @return a future that completes when all the bytes have been written, or completes exceptionally with an
+   *     {@link IllegalStateException} if the buffer is closed first
+   */
+  CompletableFuture<Void> writeAsync(byte[] source, int start, int length);
+
+  /**
+   * Asynchronous read of exactly {@code length} bytes, for callers that mustn't block, such as event-loop threads.
+   * Bytes are copied into {@code dest} as they become available, so it must not be used until the returned future
+   * completes. Pending reads are serviced in the order they were requested, by whichever thread makes progress possible
+   * by offering; use the {@code *Async} methods of {@link CompletableFuture} to run dependent work elsewhere.
+   * Cancelling the future abandons the rest of the read, and any bytes already read are lost.
+   * <p>Until the future completes, the pending read counts as one of the threads polling, since whichever thread
+   * services it calls {@link #poll(byte[], int, int)}. So on a buffer that supports only one reading thread at a time,
+   * such as {@link SingleProducerSingleConsumerByteRingBuffer}, the consumer mustn't make any other reads, blocking or
+   * not, until it completes; further {@code readAsync} calls are fine, since they're serviced in turn.</p>
+   *
+   * @param dest the array to copy into
+   * @param start the first index to copy into
+   * @param length the number of bytes to read; may be more than this buffer's capacity
+   * @return a future that completes when all the bytes have been read, or completes exceptionally with an
+   *     {@link IllegalStateException} if the buffer is closed and empty first
+   */
+  CompletableFuture<Void> readAsync(byte[] dest, int start, int length);
+
   void close();
 
   /**
@@ -0,0 +1,140 @@
+package io.github.pr0methean.newbetterrandom.buffer;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * <p>Live counters for a {@link ByteQueue}. Each counter is a {@link LongAdder} or {@link LongAccumulator}, which
+ * spreads updates from different threads across cells, so recording doesn't add contention between threads that
+ * aren't already contending for the queue itself.</p>
+ * <p>{@link #registerMBean(String)} publishes the counters through the platform MBean server, under the object name
+ * {@code io.github.pr0methean.newbetterrandom:type=ByteQueue,name=<name>}.</p>
+ */
+public final class ByteQueueStatistics implements ByteQueueStatisticsMXBean {
+  private static final String OBJECT_NAME_PREFIX = "io.github.pr0methean.newbetterrandom:type=ByteQueue,name=";
+
+  private final LongSupplier fillLevel;
+  private final LongAdder bytesOffered = new LongAdder();
+  private final LongAdder bytesPolled = new LongAdder();
+  private final LongAdder fullOffers = new LongAdder();
+  private final LongAdder emptyPolls = new LongAdder();
+  private final LongAdder casRetries = new LongAdder();
+  private final LongAccumulator peakFillLevel = new LongAccumulator(Math::max, 0);
+  private final LongAdder lockAcquisitions = new LongAdder();
+  private final LongAdder lockWaitNanos = new LongAdder();
+  private final LongAdder lockHoldNanos = new LongAdder();
+
+  /**
+   * @param fillLevel returns the number of bytes currently in the queue
+   */
+  public ByteQueueStatistics(LongSupplier fillLevel) {
+    this.fillLevel = fillLevel;
+  }
+
+  void recordOffer(int written) {
+    if (written == 0) {
+      fullOffers.increment();
+    } else {
+      bytesOffered.add(written);
+    }
+  }
+
+  void recordOffer(int written, long fillLevelAfterWrite) {
+    recordOffer(written);
+    peakFillLevel.accumulate(fillLevelAfterWrite);
+  }
+
+  void recordPoll(int read) {
+    if (read == 0) {
+      emptyPolls.increment();
+    } else {
+      bytesPolled.add(read);
+    }
+  }
+
+  void recordCasRetry() {
+    casRetries.increment();
+  }
+
+  void recordLock(long waitNanos, long holdNanos) {
+    lockAcquisitions.increment();
+    lockWaitNanos.add(waitNanos);
+    lockHoldNanos.add(holdNanos);
+  }
+
+  @Override
+  public long getBytesOffered() {
+    return bytesOffered.sum();
+  }
+
+  @Override
+  public long getBytesPolled() {
+    return bytesPolled.sum();
+  }
+
+  @Override
+  public long getFullOffers() {
+    return fullOffers.sum();
+  }
+
+  @Override
+  public long getEmptyPolls() {
+    return emptyPolls.sum();
+  }
+
+  @Override
+  public long getCasRetries() {
+    return casRetries.sum();
+  }
+
+  @Override
+  public long getFillLevel() {
+    return fillLevel.getAsLong();
+  }
+
+  @Override
+  public long getPeakFillLevel() {
+    return peakFillLevel.get();
+  }
+
+  @Override
+  public long getLockAcquisitions() {
+    return lockAcquisitions.sum();
+  }
+
+  @Override
+  public long getLockWaitNanos() {
+    return lockWaitNanos.sum();
+  }
+
+  @Override
+  public long getLockHoldNanos() {
+    return lockHoldNanos.sum();
+  }
+
+  /**
+   * Registers these statistics with the platform MBean server.
+   *
+   * @param name the value of the {@code name} key in the object name, which is quoted
+   * @return the object name they were registered under, for use with {@link #unregisterMBean(ObjectName)}
+   * @throws JMException if the name is already in use, or registration otherwise fails
+   */
+  public ObjectName registerMBean(String name) throws JMException {
+    final ObjectName objectName = new ObjectName(OBJECT_NAME_PREFIX + ObjectName.quote(name));
+    return ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName).getObjectName();
+  }
+
+  /**
+   * Removes statistics registered by {@link #registerMBean(String)} from the platform MBean server.
+   *
+   * @param objectName the name returned by {@link #registerMBean(String)}
+   * @throws JMException if nothing is registered under that name
+   */
+  public static void unregisterMBean(ObjectName objectName) throws JMException {
+    ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+  }
+}
@@ -0,0 +1,57 @@
+package io.github.pr0methean.newbetterrandom.buffer;
+
+/**
+ * Management interface for {@link ByteQueueStatistics}. Counters are cumulative since the queue was created; rates
+ * such as the drain rate are found by sampling them.
+ */
+public interface ByteQueueStatisticsMXBean {
+  /**
+   * @return the total number of bytes written by offers
+   */
+  long getBytesOffered();
+
+  /**
+   * @return the total number of bytes read by polls
+   */
+  long getBytesPolled();
+
+  /**
+   * @return the number of non-empty offers that wrote nothing because the queue was full
+   */
+  long getFullOffers();
+
+  /**
+   * @return the number of non-empty polls that read nothing because the queue was empty
+   */
+  long getEmptyPolls();
+
+  /**
+   * @return the number of times a thread lost a race to reserve space or bytes and had to retry
+   */
+  long getCasRetries();
+
+  /**
+   * @return the number of bytes currently in the queue
+   */
+  long getFillLevel();
+
+  /**
+   * @return the highest number of bytes that have been in the queue at once, as seen by writers
+   */
+  long getPeakFillLevel();
+
+  /**
+   * @return the number of times the queue's lock was acquired, or 0 if it doesn't have one
+   */
+  long getLockAcquisitions();
+
+  /**
+   * @return the total time threads spent waiting for the queue's lock, in nanoseconds
+   */
+  long getLockWaitNanos();
+
+  /**
+   * @return the total time threads spent holding the queue's lock, in nanoseconds
+   */
+  long getLockHoldNanos();
+}
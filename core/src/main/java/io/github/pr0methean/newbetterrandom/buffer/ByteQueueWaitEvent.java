@@ -0,0 +1,59 @@
+package io.github.pr0methean.newbetterrandom.buffer;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for an episode of waiting on a full or empty {@link ByteQueue}, from the first attempt that
+ * transfers nothing until one that makes progress or the wait ends otherwise. Only created once a thread starts
+ * waiting, so it costs nothing while bytes are flowing.
+ */
+@Name("io.github.pr0methean.newbetterrandom.ByteQueueWait")
+@Label("Byte Queue Wait")
+@Category({"BetterRandom", "Seed Buffer"})
+@Description("A thread waited for space in a full byte queue or for bytes in an empty one")
+@Enabled(false)
+@StackTrace(false)
+final class ByteQueueWaitEvent extends Event {
+  @Label("Queue Type")
+  Class<?> queueType;
+
+  @Label("Full")
+  @Description("True if waiting to write to a full queue; false if waiting to read from an empty one")
+  boolean full;
+
+  @Label("Idle Iterations")
+  int idleIterations;
+
+  /**
+   * @return an event whose timing has begun, or null if the event is disabled
+   */
+  static /* @Nullable */ ByteQueueWaitEvent start(ByteQueue queue, boolean full) {
+    final ByteQueueWaitEvent event = new ByteQueueWaitEvent();
+    if (!event.isEnabled()) {
+      return null;
+    }
+    event.queueType = queue.getClass();
+    event.full = full;
+    event.begin();
+    return event;
+  }
+
+  /**
+   * Ends and commits {@code event} if it isn't null.
+   */
+  static void finish(/* @Nullable */ ByteQueueWaitEvent event, int idleIterations) {
+    if (event != null) {
+      event.end();
+      if (event.shouldCommit()) {
+        event.idleIterations = idleIterations;
+        event.commit();
+      }
+    }
+  }
+}
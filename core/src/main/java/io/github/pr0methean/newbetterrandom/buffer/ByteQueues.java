@@ -0,0 +1,46 @@
+package io.github.pr0methean.newbetterrandom.buffer;
+
+/**
+ * Factory methods that pick the cheapest {@link ByteQueue} implementation that's safe for a given number of threads.
+ */
+public enum ByteQueues {
+  ;
+
+  /**
+   * Creates a queue that busy-spins while waiting.
+   *
+   * @param capacity the capacity in bytes; must be a power of 2
+   * @param producers the most threads that will ever write to the queue at once
+   * @param consumers the most threads that will ever read from the queue at once
+   * @return a new queue
+   */
+  public static ByteQueue create(int capacity, int producers, int consumers) {
+    return create(capacity, producers, consumers, BusySpinWaitStrategy.INSTANCE);
+  }
+
+  /**
+   * Creates a queue.
+   *
+   * @param capacity the capacity in bytes; must be a power of 2
+   * @param producers the most threads that will ever write to the queue at once
+   * @param consumers the most threads that will ever read from the queue at once
+   * @param waitStrategy the strategy for blocking reads and writes to wait with
+   * @return a new queue
+   */
+  public static ByteQueue create(int capacity, int producers, int consumers, WaitStrategy waitStrategy) {
+    if (producers <= 0) {
+      throw new IllegalArgumentException("producers must be positive, but is " + producers);
+    }
+    if (consumers <= 0) {
+      throw new IllegalArgumentException("consumers must be positive, but is " + consumers);
+    }
+    if (producers == 1) {
+      return consumers == 1
+          ? new SingleProducerSingleConsumerByteRingBuffer(capacity, waitStrategy)
+          : new SingleProducerMultiConsumerByteRingBuffer(capacity, waitStrategy);
+    }
+    return consumers == 1
+        ? new MultiProducerSingleConsumerByteRingBuffer(capacity, waitStrategy)
+        : new AtomicByteRingBufferUsingByteBuffer(capacity, waitStrategy);
+  }
+}
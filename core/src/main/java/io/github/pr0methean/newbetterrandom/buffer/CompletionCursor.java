@@ -0,0 +1,69 @@
+package io.github.pr0methean.newbetterrandom.buffer;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>A position in a ring buffer that only moves past a range once that range and every range before it have been
+ * completed. Ranges can be completed in any order, and completing one never waits for another: a range that can't be
+ * passed yet is recorded, and whichever thread completes the range before it moves the position past both.</p>
+ * <p>A range completed in order just moves the position with one compare-and-set. Only one completed out of order is
+ * recorded, as an entry from its start to its end; so the memory used depends on how many ranges are waiting at once,
+ * not on the ring size. Since positions never wrap, entries can't collide however long the ranges are.</p>
+ */
+final class CompletionCursor {
+  private final AtomicLong position = new PaddedAtomicLong();
+  /** Ends of the completed ranges that the position hasn't reached yet, keyed by their starts. */
+  private final ConcurrentMap<Long, Long> pendingEnds = new ConcurrentHashMap<>();
+  /**
+   * An upper bound on the size of {@link #pendingEnds}, so that ranges completed in order can usually skip looking it
+   * up. Incremented before an entry is added, and decremented after one is removed.
+   */
+  private final AtomicInteger pendingCount = new AtomicInteger();
+
+  /**
+   * @return the position before which every range has been completed
+   */
+  long get() {
+    return position.get();
+  }
+
+  /**
+   * Marks the range from {@code start} (inclusive) to {@code end} (exclusive) as completed, and moves the position
+   * past it and any completed ranges after it if every range before it has been completed.
+   *
+   * @param start the start of the range
+   * @param end the end of the range; must be greater than {@code start}
+   */
+  void complete(long start, long end) {
+    if (position.compareAndSet(start, end)) {
+      if (pendingCount.get() == 0) {
+        // Anyone recording a range after this read will see the new position when they check it
+        return;
+      }
+    } else {
+      pendingCount.incrementAndGet();
+      pendingEnds.put(start, end);
+      // The range before this one may have been completed before the put, in which case its thread didn't see it
+    }
+    advancePastPending();
+  }
+
+  private void advancePastPending() {
+    while (true) {
+      final long current = position.get();
+      final Long pendingEnd = pendingEnds.get(current);
+      if (pendingEnd == null) {
+        // The range starting at the current position isn't complete yet
+        return;
+      }
+      if (position.compareAndSet(current, pendingEnd)) {
+        // Positions only increase, so no other thread can move past this entry again
+        pendingEnds.remove(current);
+        pendingCount.decrementAndGet();
+      }
+    }
+  }
+}
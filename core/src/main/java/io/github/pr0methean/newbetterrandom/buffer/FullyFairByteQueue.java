@@ -1,5 +1,6 @@
 package io.github.pr0methean.newbetterrandom.buffer;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -25,6 +26,7 @@ public class FullyFairByteQueue extends AbstractByteQueue implements ReaderFairB
   }
 
   public FullyFairByteQueue(ReaderFairByteQueue readingDelegate, WriterFairByteQueue writingDelegate) {
+    super(readingDelegate.getWaitStrategy());
     this.readingDelegate = readingDelegate;
     this.writingDelegate = writingDelegate;
   }
@@ -34,6 +36,29 @@ public class FullyFairByteQueue extends AbstractByteQueue implements ReaderFairB
     return readingDelegate.getCapacity();
   }
 
+  @Override
+  public long getFillLevel() {
+    return readingDelegate.getFillLevel();
+  }
+
+  /**
+   * Delegates to the wrapped queues, whose pending asynchronous transfers are already serviced in the order they were
+   * requested.
+   */
+  @Override
+  public CompletableFuture<Void> writeAsync(byte[] source, int start, int length) {
+    return writingDelegate.writeAsync(source, start, length);
+  }
+
+  /**
+   * Delegates to the wrapped queues, whose pending asynchronous transfers are already serviced in the order they were
+   * requested.
+   */
+  @Override
+  public CompletableFuture<Void> readAsync(byte[] dest, int start, int length) {
+    return readingDelegate.readAsync(dest, start, length);
+  }
+
   @Override
   public int offer(byte[] source, int start, int desiredLength) {
     return writingDelegate.offer(source, start, desiredLength);
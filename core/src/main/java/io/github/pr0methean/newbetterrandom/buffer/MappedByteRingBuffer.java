@@ -0,0 +1,301 @@
+package io.github.pr0methean.newbetterrandom.buffer;
+
+import java.io.IOException;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.MemorySession;
+import java.lang.foreign.ValueLayout;
+import java.lang.invoke.VarHandle;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * <p>Byte ring buffer stored in a memory-mapped file, so that several processes on the same host can share one pool of
+ * seed material; a file on a memory-backed filesystem such as {@code /dev/shm} avoids disk I/O. Every process that
+ * opens the same file with the same capacity sees the same queue, and is safe for multiple readers and multiple
+ * writers.</p>
+ * <p>The cursors live in the file's header, each on its own cache line, and are updated with {@link VarHandle}
+ * atomics. Since another process can't see which ranges this one has finished, reads and writes are published in
+ * the order they were reserved: a thread that finishes copying before an earlier one waits for it, through the
+ * {@link WaitStrategy}. If a process dies while it has a range reserved, the queue stops making progress until the
+ * file is deleted and recreated; so a wait that lasts longer than the stall timeout throws an
+ * {@link IllegalStateException} instead of going on forever.</p>
+ * <p>{@link #close()} unmaps the file in this process only. Waiting threads are only signalled by progress in the
+ * same process, so wait strategies that park should have a bounded park time. For the same reason,
+ * {@link #writeAsync(byte[], int, int)} and {@link #readAsync(byte[], int, int)} start a virtual thread that polls the
+ * shared cursors every {@value #ASYNC_POLL_INTERVAL_NANOS} ns while any transfer is pending, and services the pending
+ * transfers whenever other instances or processes have made progress.</p>
+ */
+public class MappedByteRingBuffer extends AbstractByteQueue {
+  private static final long MAGIC = 0x4e425252696e6721L; // "NBRRing!"
+  private static final long INITIALIZING = -1;
+  private static final int CACHE_LINE = 64;
+  private static final long MAGIC_OFFSET = 0;
+  private static final long CAPACITY_OFFSET = Long.BYTES;
+  private static final long STARTED_WRITING_OFFSET = CACHE_LINE;
+  private static final long FINISHED_WRITING_OFFSET = 2 * CACHE_LINE;
+  private static final long STARTED_READING_OFFSET = 3 * CACHE_LINE;
+  private static final long FINISHED_READING_OFFSET = 4 * CACHE_LINE;
+  /** Size of the header that precedes the data in the file. */
+  public static final long HEADER_SIZE = 5 * CACHE_LINE;
+  private static final VarHandle LONG = ValueLayout.JAVA_LONG.varHandle();
+  /**
+   * Default for how long to wait for another thread or process to finish a copy it has started, or to finish
+   * initializing the header. Copies take microseconds, so a wait this long means the other side has died.
+   */
+  public static final long DEFAULT_STALL_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(10);
+  private static final long ASYNC_POLL_INTERVAL_NANOS = 1_000_000;
+
+  private final int byteSize;
+  private final int bitMask;
+  private final long stallTimeoutNanos;
+  private final MemorySession session;
+  private final MemorySegment data;
+  private final MemorySegment bytesStartedWriting;
+  private final MemorySegment bytesFinishedWriting;
+  private final MemorySegment bytesStartedReading;
+  private final MemorySegment bytesFinishedReading;
+  private final AtomicBoolean asyncPollerRunning = new AtomicBoolean();
+  /** Bytes this instance has published to either finished cursor, counted before each one is published. */
+  private final AtomicLong localProgress = new AtomicLong();
+  /** The most progress by other instances seen by the async poller; only accessed by the poller. */
+  private long remoteProgressSeen;
+
+  public MappedByteRingBuffer(final Path file, final int byteSize) throws IOException {
+    this(file, byteSize, BusySpinWaitStrategy.INSTANCE);
+  }
+
+  public MappedByteRingBuffer(final Path file, final int byteSize, final WaitStrategy waitStrategy)
+      throws IOException {
+    this(file, byteSize, waitStrategy, DEFAULT_STALL_TIMEOUT_NANOS);
+  }
+
+  /**
+   * Opens the queue stored in {@code file}, creating and initializing the file if it doesn't exist or is empty.
+   *
+   * @param file the file to map
+   * @param byteSize the capacity in bytes; must be a power of 2 and must match that of any other process using the file
+   * @param waitStrategy the strategy for blocking reads and writes, and waits for other threads' copies, to wait with
+   * @param stallTimeoutNanos how long to wait for another thread or process to finish a copy it has started, or to
+   *     finish initializing the header, before giving up
+   * @throws IOException if the file can't be opened or mapped, or another process started initializing it but
+   *     didn't finish within {@code stallTimeoutNanos}
+   * @throws IllegalArgumentException if the file already holds a queue with a different capacity
+   */
+  public MappedByteRingBuffer(final Path file, final int byteSize, final WaitStrategy waitStrategy,
+      final long stallTimeoutNanos) throws IOException {
+    super(waitStrategy);
+    if (byteSize <= 0) {
+      throw new IllegalArgumentException("byteSize must be positive, but is " + byteSize);
+    }
+    if (Integer.bitCount(byteSize) != 1) {
+      throw new IllegalArgumentException("byteSize must be a power of 2, but is " + byteSize);
+    }
+    if (stallTimeoutNanos <= 0) {
+      throw new IllegalArgumentException("stallTimeoutNanos must be positive, but is " + stallTimeoutNanos);
+    }
+    this.byteSize = byteSize;
+    this.stallTimeoutNanos = stallTimeoutNanos;
+    bitMask = byteSize - 1;
+    session = MemorySession.openShared();
+    final MemorySegment mapped;
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+        StandardOpenOption.WRITE)) {
+      mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + byteSize, session);
+    } catch (IOException | RuntimeException e) {
+      session.close();
+      throw e;
+    }
+    final MemorySegment magic = mapped.asSlice(MAGIC_OFFSET, Long.BYTES);
+    final MemorySegment capacity = mapped.asSlice(CAPACITY_OFFSET, Long.BYTES);
+    if (LONG.compareAndSet(magic, 0L, INITIALIZING)) {
+      LONG.setVolatile(capacity, (long) byteSize);
+      LONG.setRelease(magic, MAGIC);
+    } else {
+      long magicValue;
+      final long deadline = System.nanoTime() + stallTimeoutNanos;
+      int idleCount = 0;
+      while ((magicValue = (long) LONG.getAcquire(magic)) == INITIALIZING) {
+        // Another process is initializing the header
+        if (System.nanoTime() - deadline > 0) {
+          session.close();
+          throw new IOException(file + "'s header is still being initialized after " + stallTimeoutNanos
+              + " ns; the process initializing it may have died");
+        }
+        waitStrategy.idle(idleCount++);
+      }
+      final long existingCapacity = (long) LONG.getVolatile(capacity);
+      if (magicValue != MAGIC || existingCapacity != byteSize) {
+        session.close();
+        throw new IllegalArgumentException(String.format(
+            "%s doesn't hold a queue with capacity %d (magic %x, capacity %d)",
+            file, byteSize, magicValue, existingCapacity));
+      }
+    }
+    bytesStartedWriting = mapped.asSlice(STARTED_WRITING_OFFSET, Long.BYTES);
+    bytesFinishedWriting = mapped.asSlice(FINISHED_WRITING_OFFSET, Long.BYTES);
+    bytesStartedReading = mapped.asSlice(STARTED_READING_OFFSET, Long.BYTES);
+    bytesFinishedReading = mapped.asSlice(FINISHED_READING_OFFSET, Long.BYTES);
+    data = mapped.asSlice(HEADER_SIZE, byteSize);
+    remoteProgressSeen = (long) LONG.getAcquire(bytesFinishedWriting) + (long) LONG.getAcquire(bytesFinishedReading);
+  }
+
+  @Override
+  public long getCapacity() {
+    return byteSize;
+  }
+
+  @Override
+  public long getFillLevel() {
+    return Math.max(0, (long) LONG.getVolatile(bytesFinishedWriting) - (long) LONG.getVolatile(bytesStartedReading));
+  }
+
+  @Override
+  public int offer(final byte[] source, final int start, int desiredLength) {
+    if (desiredLength < 0) {
+      throw new IllegalArgumentException("desiredLength can't be negative");
+    }
+    if (desiredLength == 0 || isClosed()) {
+      return 0;
+    }
+    desiredLength = Math.min(desiredLength, byteSize);
+    long writeStart;
+    int actualLength;
+    do {
+      writeStart = (long) LONG.getVolatile(bytesStartedWriting);
+      final int spaceLeft = (int) ((long) LONG.getAcquire(bytesFinishedReading) + byteSize - writeStart);
+      if (spaceLeft <= 0) {
+        return 0; // Buffer is full
+      }
+      actualLength = Math.min(spaceLeft, desiredLength);
+    } while (!LONG.compareAndSet(bytesStartedWriting, writeStart, writeStart + actualLength));
+    final int destStartIndex = (int) (writeStart & bitMask);
+    final int beforeWrap = Math.min(actualLength, byteSize - destStartIndex);
+    MemorySegment.copy(source, start, data, ValueLayout.JAVA_BYTE, destStartIndex, beforeWrap);
+    if (beforeWrap < actualLength) {
+      MemorySegment.copy(source, start + beforeWrap, data, ValueLayout.JAVA_BYTE, 0, actualLength - beforeWrap);
+    }
+    publishInOrder(bytesFinishedWriting, writeStart, writeStart + actualLength);
+    return actualLength;
+  }
+
+  @Override
+  public int poll(final byte[] dest, final int start, int desiredLength) {
+    if (desiredLength < 0) {
+      throw new IllegalArgumentException("desiredLength can't be negative");
+    }
+    if (desiredLength == 0) {
+      return 0;
+    }
+    desiredLength = Math.min(desiredLength, byteSize);
+    long readStart;
+    int actualLength;
+    do {
+      readStart = (long) LONG.getVolatile(bytesStartedReading);
+      final int available = (int) ((long) LONG.getAcquire(bytesFinishedWriting) - readStart);
+      if (available <= 0) {
+        return 0; // Buffer is empty
+      }
+      actualLength = Math.min(available, desiredLength);
+    } while (!LONG.compareAndSet(bytesStartedReading, readStart, readStart + actualLength));
+    final int sourceStartIndex = (int) (readStart & bitMask);
+    final int beforeWrap = Math.min(actualLength, byteSize - sourceStartIndex);
+    MemorySegment.copy(data, ValueLayout.JAVA_BYTE, sourceStartIndex, dest, start, beforeWrap);
+    if (beforeWrap < actualLength) {
+      MemorySegment.copy(data, ValueLayout.JAVA_BYTE, 0, dest, start + beforeWrap, actualLength - beforeWrap);
+    }
+    publishInOrder(bytesFinishedReading, readStart, readStart + actualLength);
+    return actualLength;
+  }
+
+  /**
+   * Waits for every range before {@code start} to be published, then publishes the range up to {@code end}. The wait
+   * is only for other threads to finish a copy they've already started.
+   *
+   * @throws IllegalStateException if the range before {@code start} isn't published within the stall timeout, meaning
+   *     the thread or process that reserved it has stopped; the queue can't make progress after that
+   */
+  private void publishInOrder(final MemorySegment cursor, final long start, final long end) {
+    if ((long) LONG.getAcquire(cursor) != start) {
+      final long deadline = System.nanoTime() + stallTimeoutNanos;
+      int idleCount = 0;
+      do {
+        if (System.nanoTime() - deadline > 0) {
+          throw new IllegalStateException("Bytes before position " + start + " weren't published within "
+              + stallTimeoutNanos + " ns; the process that reserved them may have died");
+        }
+        waitStrategy.idle(idleCount++);
+      } while ((long) LONG.getAcquire(cursor) != start);
+    }
+    localProgress.getAndAdd(end - start);
+    LONG.setRelease(cursor, end);
+    signalProgress();
+  }
+
+  @Override
+  public CompletableFuture<Void> writeAsync(byte[] source, int start, int length) {
+    return startAsyncPollerIfPending(super.writeAsync(source, start, length));
+  }
+
+  @Override
+  public CompletableFuture<Void> readAsync(byte[] dest, int start, int length) {
+    return startAsyncPollerIfPending(super.readAsync(dest, start, length));
+  }
+
+  private CompletableFuture<Void> startAsyncPollerIfPending(CompletableFuture<Void> transfer) {
+    if (!transfer.isDone() && asyncPollerRunning.compareAndSet(false, true)) {
+      Thread.ofVirtual().name("MappedByteRingBuffer async poller").start(this::pollForAsyncTransfers);
+    }
+    return transfer;
+  }
+
+  /**
+   * Services the pending asynchronous transfers whenever other instances have made progress, until none are left or
+   * this is closed, since their progress won't trigger {@link #signalProgress()} here. Progress made by this instance
+   * already services them when it happens.
+   */
+  private void pollForAsyncTransfers() {
+    while (true) {
+      if (isClosed()) {
+        // close() has already failed or finished what it could, and the mapping may be gone
+        asyncPollerRunning.set(false);
+        return;
+      }
+      try {
+        // Reading the cursors before the local count means this can only underestimate other instances' progress
+        final long remoteProgress = (long) LONG.getAcquire(bytesFinishedWriting)
+            + (long) LONG.getAcquire(bytesFinishedReading) - localProgress.get();
+        if (remoteProgress > remoteProgressSeen) {
+          remoteProgressSeen = remoteProgress;
+          serviceAsyncTransfers();
+        }
+      } catch (IllegalStateException e) {
+        if (!isClosed()) {
+          asyncPollerRunning.set(false);
+          throw e;
+        }
+        // The mapping was closed while servicing
+        continue;
+      }
+      if (!hasPendingAsyncTransfers()) {
+        asyncPollerRunning.set(false);
+        // A transfer enqueued before the flag was cleared won't have started another poller
+        if (!hasPendingAsyncTransfers() || !asyncPollerRunning.compareAndSet(false, true)) {
+          return;
+        }
+      }
+      LockSupport.parkNanos(this, ASYNC_POLL_INTERVAL_NANOS);
+    }
+  }
+
+  @Override
+  public void close() {
+    super.close();
+    session.close();
+  }
+}
@@ -0,0 +1,78 @@
+package io.github.pr0methean.newbetterrandom.buffer;
+
+/**
+ * <p>Byte ring buffer for any number of writing threads but only one reading thread at a time. Writers reserve space
+ * with a compare-and-set and can finish in any order; the reader sees each write once it and all earlier writes have
+ * finished. The reader publishes its progress with an ordered store, and re-reads the writers' progress only when its
+ * cached copy says the buffer is empty.</p>
+ * <p>Polling from more than one thread at a time corrupts the buffer. Use {@link ByteQueues#create(int, int, int)} to
+ * get a buffer that matches the number of threads. A pending {@link #readAsync(byte[], int, int)} counts as the
+ * reading thread until its future completes; so don't make other reads while it's pending.</p>
+ */
+public class MultiProducerSingleConsumerByteRingBuffer extends SpecializedByteRingBuffer {
+  private final PaddedAtomicLong bytesStartedWriting = new PaddedAtomicLong();
+  private final CompletionCursor bytesFinishedWriting;
+  private final PaddedAtomicLong readPosition = new PaddedAtomicLong();
+  /** The reader's last known value of {@link #bytesFinishedWriting}; only accessed by the reader. */
+  private final PaddedAtomicLong cachedWritePosition = new PaddedAtomicLong();
+
+  public MultiProducerSingleConsumerByteRingBuffer(final int byteSize) {
+    this(byteSize, BusySpinWaitStrategy.INSTANCE);
+  }
+
+  public MultiProducerSingleConsumerByteRingBuffer(final int byteSize, final WaitStrategy waitStrategy) {
+    super(byteSize, waitStrategy);
+    bytesFinishedWriting = new CompletionCursor();
+  }
+
+  @Override
+  public long getFillLevel() {
+    return Math.max(0, bytesFinishedWriting.get() - readPosition.get());
+  }
+
+  @Override
+  public int offer(final byte[] source, final int start, int desiredLength) {
+    checkDesiredLength(desiredLength);
+    if (desiredLength == 0 || isClosed()) {
+      return 0;
+    }
+    desiredLength = Math.min(desiredLength, byteSize);
+    long writeStart;
+    int actualLength;
+    do {
+      writeStart = bytesStartedWriting.get();
+      final int spaceLeft = (int) (readPosition.getAcquire() + byteSize - writeStart);
+      if (spaceLeft <= 0) {
+        return 0; // Buffer is full
+      }
+      actualLength = Math.min(spaceLeft, desiredLength);
+    } while (!bytesStartedWriting.compareAndSet(writeStart, writeStart + actualLength));
+    copyIn(writeStart, source, start, actualLength);
+    bytesFinishedWriting.complete(writeStart, writeStart + actualLength);
+    signalProgress();
+    return actualLength;
+  }
+
+  @Override
+  public int poll(final byte[] dest, final int start, final int desiredLength) {
+    checkDesiredLength(desiredLength);
+    if (desiredLength == 0) {
+      return 0;
+    }
+    final long readStart = readPosition.getPlain();
+    int available = (int) (cachedWritePosition.getPlain() - readStart);
+    if (available < desiredLength) {
+      final long writePosition = bytesFinishedWriting.get();
+      cachedWritePosition.setPlain(writePosition);
+      available = (int) (writePosition - readStart);
+      if (available <= 0) {
+        return 0; // Buffer is empty
+      }
+    }
+    final int actualLength = Math.min(available, desiredLength);
+    copyOut(readStart, dest, start, actualLength);
+    readPosition.setRelease(readStart + actualLength);
+    signalProgress();
+    return actualLength;
+  }
+}
@@ -0,0 +1,12 @@
+package io.github.pr0methean.newbetterrandom.buffer;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link AtomicLong} followed by enough unused fields to fill out a 64-byte cache line, so that a frequently-updated
+ * counter doesn't share its cache line with whatever is allocated after it.
+ */
+@SuppressWarnings("unused")
+final class PaddedAtomicLong extends AtomicLong {
+  private long p1, p2, p3, p4, p5, p6, p7;
+}
@@ -0,0 +1,20 @@
+package io.github.pr0methean.newbetterrandom.buffer;
+
+import java.lang.foreign.MemorySegment;
+
+/**
+ * Bytes reserved by {@link ZeroCopyByteQueue#claimRead(int)}. The reader consumes {@link #segment()} in place and then
+ * calls {@link #close()} exactly once, which makes the space available to writers again.
+ */
+public interface ReadClaim extends AutoCloseable {
+  /**
+   * @return the reserved bytes, as a read-only view of the queue's storage
+   */
+  MemorySegment segment();
+
+  /**
+   * Releases the reserved bytes. The segment must not be used afterward.
+   */
+  @Override
+  void close();
+}
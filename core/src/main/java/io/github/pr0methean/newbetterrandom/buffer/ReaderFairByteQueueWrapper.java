@@ -1,5 +1,6 @@
 package io.github.pr0methean.newbetterrandom.buffer;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -8,6 +9,7 @@ public class ReaderFairByteQueueWrapper extends AbstractByteQueue implements Rea
   private final int maxReadPerTurn;
   private final Lock lock;
   private final long maxPollCallsPerTurn;
+  private final ByteQueueStatistics statistics = new ByteQueueStatistics(this::getFillLevel);
 
   @Override
   public void close() {
@@ -20,6 +22,7 @@ public class ReaderFairByteQueueWrapper extends AbstractByteQueue implements Rea
   }
 
   public ReaderFairByteQueueWrapper(ByteQueue delegate, int maxReadPerTurn, long maxPollCallsPerTurn, final Lock lock) {
+    super(delegate.getWaitStrategy());
     this.delegate = delegate;
     this.maxReadPerTurn = maxReadPerTurn;
     this.maxPollCallsPerTurn = maxPollCallsPerTurn;
@@ -31,6 +34,29 @@ public class ReaderFairByteQueueWrapper extends AbstractByteQueue implements Rea
     return delegate.getCapacity();
   }
 
+  @Override
+  public long getFillLevel() {
+    return delegate.getFillLevel();
+  }
+
+  /**
+   * Delegates to the wrapped queue, whose pending asynchronous transfers are already serviced in the order they were
+   * requested.
+   */
+  @Override
+  public CompletableFuture<Void> writeAsync(byte[] source, int start, int length) {
+    return delegate.writeAsync(source, start, length);
+  }
+
+  /**
+   * Delegates to the wrapped queue, whose pending asynchronous transfers are already serviced in the order they were
+   * requested.
+   */
+  @Override
+  public CompletableFuture<Void> readAsync(byte[] dest, int start, int length) {
+    return delegate.readAsync(dest, start, length);
+  }
+
   @Override
   public int offer(byte[] source, int start, int desiredLength) {
     return delegate.offer(source, start, desiredLength);
@@ -41,14 +67,16 @@ public class ReaderFairByteQueueWrapper extends AbstractByteQueue implements Rea
     if (desiredLength == 0) {
       return 0;
     }
+    final long lockRequested = System.nanoTime();
     try {
       lock.lockInterruptibly();
     } catch (InterruptedException e) {
       Thread.currentThread().interrupt();
       return 0;
     }
+    final long lockAcquired = System.nanoTime();
+    int read = 0;
     try {
-      int read = 0;
       for (long pollCalls = 0; read < desiredLength && pollCalls != maxPollCallsPerTurn; pollCalls++) {
         if (Thread.currentThread().isInterrupted()) {
           return read;
@@ -63,6 +91,16 @@ public class ReaderFairByteQueueWrapper extends AbstractByteQueue implements Rea
       return read;
     } finally {
       lock.unlock();
+      statistics.recordLock(lockAcquired - lockRequested, System.nanoTime() - lockAcquired);
+      statistics.recordPoll(read);
     }
   }
+
+  /**
+   * @return live counters for this wrapper's polls and lock, which can be published with
+   *     {@link ByteQueueStatistics#registerMBean(String)}
+   */
+  public ByteQueueStatistics getStatistics() {
+    return statistics;
+  }
 }
@@ -0,0 +1,76 @@
+package io.github.pr0methean.newbetterrandom.buffer;
+
+/**
+ * <p>Byte ring buffer for one writing thread at a time but any number of reading threads. The writer publishes its
+ * progress with an ordered store, and re-reads the readers' progress only when its cached copy says the buffer is
+ * full. Each reader copies the bytes it wants and then claims them with a compare-and-set, discarding the copy and
+ * retrying if another reader claimed them first; since the writer can't reuse space until it's been claimed, no read
+ * ever has to wait for another reader to finish.</p>
+ * <p>Offering from more than one thread at a time corrupts the buffer. Use {@link ByteQueues#create(int, int, int)} to
+ * get a buffer that matches the number of threads. A pending {@link #writeAsync(byte[], int, int)} counts as the
+ * writing thread until its future completes; so don't make other writes while it's pending.</p>
+ */
+public class SingleProducerMultiConsumerByteRingBuffer extends SpecializedByteRingBuffer {
+  private final PaddedAtomicLong writePosition = new PaddedAtomicLong();
+  private final PaddedAtomicLong readPosition = new PaddedAtomicLong();
+  /** The writer's last known value of {@link #readPosition}; only accessed by the writer. */
+  private final PaddedAtomicLong cachedReadPosition = new PaddedAtomicLong();
+
+  public SingleProducerMultiConsumerByteRingBuffer(final int byteSize) {
+    this(byteSize, BusySpinWaitStrategy.INSTANCE);
+  }
+
+  public SingleProducerMultiConsumerByteRingBuffer(final int byteSize, final WaitStrategy waitStrategy) {
+    super(byteSize, waitStrategy);
+  }
+
+  @Override
+  public long getFillLevel() {
+    return Math.max(0, writePosition.get() - readPosition.get());
+  }
+
+  @Override
+  public int offer(final byte[] source, final int start, final int desiredLength) {
+    checkDesiredLength(desiredLength);
+    if (desiredLength == 0 || isClosed()) {
+      return 0;
+    }
+    final long writeStart = writePosition.getPlain();
+    int spaceLeft = (int) (cachedReadPosition.getPlain() + byteSize - writeStart);
+    if (spaceLeft < desiredLength) {
+      final long readPosition = this.readPosition.getAcquire();
+      cachedReadPosition.setPlain(readPosition);
+      spaceLeft = (int) (readPosition + byteSize - writeStart);
+      if (spaceLeft <= 0) {
+        return 0; // Buffer is full
+      }
+    }
+    final int actualLength = Math.min(spaceLeft, desiredLength);
+    copyIn(writeStart, source, start, actualLength);
+    writePosition.setRelease(writeStart + actualLength);
+    signalProgress();
+    return actualLength;
+  }
+
+  @Override
+  public int poll(final byte[] dest, final int start, int desiredLength) {
+    checkDesiredLength(desiredLength);
+    if (desiredLength == 0) {
+      return 0;
+    }
+    desiredLength = Math.min(desiredLength, byteSize);
+    long readStart;
+    int actualLength;
+    do {
+      readStart = readPosition.get();
+      final int available = (int) (writePosition.getAcquire() - readStart);
+      if (available <= 0) {
+        return 0; // Buffer is empty
+      }
+      actualLength = Math.min(available, desiredLength);
+      copyOut(readStart, dest, start, actualLength);
+    } while (!readPosition.compareAndSet(readStart, readStart + actualLength));
+    signalProgress();
+    return actualLength;
+  }
+}
@@ -0,0 +1,79 @@
+package io.github.pr0methean.newbetterrandom.buffer;
+
+/**
+ * <p>Byte ring buffer for exactly one writing thread and one reading thread at a time. Neither side needs a
+ * compare-and-set: each publishes its progress with an ordered store to a cursor that only it updates, and re-reads the
+ * other side's cursor only when its cached copy says it can't make progress.</p>
+ * <p>Offering from more than one thread at a time, or polling from more than one thread at a time, corrupts the
+ * buffer. Use {@link ByteQueues#create(int, int, int)} to get a buffer that matches the number of threads. A pending
+ * {@link #writeAsync(byte[], int, int)} counts as the writing thread, and a pending
+ * {@link #readAsync(byte[], int, int)} as the reading thread, until its future completes; so don't mix either with
+ * other calls on the same side while it's pending.</p>
+ */
+public class SingleProducerSingleConsumerByteRingBuffer extends SpecializedByteRingBuffer {
+  private final PaddedAtomicLong writePosition = new PaddedAtomicLong();
+  private final PaddedAtomicLong readPosition = new PaddedAtomicLong();
+  /** The writer's last known value of {@link #readPosition}; only accessed by the writer. */
+  private final PaddedAtomicLong cachedReadPosition = new PaddedAtomicLong();
+  /** The reader's last known value of {@link #writePosition}; only accessed by the reader. */
+  private final PaddedAtomicLong cachedWritePosition = new PaddedAtomicLong();
+
+  public SingleProducerSingleConsumerByteRingBuffer(final int byteSize) {
+    this(byteSize, BusySpinWaitStrategy.INSTANCE);
+  }
+
+  public SingleProducerSingleConsumerByteRingBuffer(final int byteSize, final WaitStrategy waitStrategy) {
+    super(byteSize, waitStrategy);
+  }
+
+  @Override
+  public long getFillLevel() {
+    return Math.max(0, writePosition.get() - readPosition.get());
+  }
+
+  @Override
+  public int offer(final byte[] source, final int start, final int desiredLength) {
+    checkDesiredLength(desiredLength);
+    if (desiredLength == 0 || isClosed()) {
+      return 0;
+    }
+    final long writeStart = writePosition.getPlain();
+    int spaceLeft = (int) (cachedReadPosition.getPlain() + byteSize - writeStart);
+    if (spaceLeft < desiredLength) {
+      final long readPosition = this.readPosition.getAcquire();
+      cachedReadPosition.setPlain(readPosition);
+      spaceLeft = (int) (readPosition + byteSize - writeStart);
+      if (spaceLeft <= 0) {
+        return 0; // Buffer is full
+      }
+    }
+    final int actualLength = Math.min(spaceLeft, desiredLength);
+    copyIn(writeStart, source, start, actualLength);
+    writePosition.setRelease(writeStart + actualLength);
+    signalProgress();
+    return actualLength;
+  }
+
+  @Override
+  public int poll(final byte[] dest, final int start, final int desiredLength) {
+    checkDesiredLength(desiredLength);
+    if (desiredLength == 0) {
+      return 0;
+    }
+    final long readStart = readPosition.getPlain();
+    int available = (int) (cachedWritePosition.getPlain() - readStart);
+    if (available < desiredLength) {
+      final long writePosition = this.writePosition.getAcquire();
+      cachedWritePosition.setPlain(writePosition);
+      available = (int) (writePosition - readStart);
+      if (available <= 0) {
+        return 0; // Buffer is empty
+      }
+    }
+    final int actualLength = Math.min(available, desiredLength);
+    copyOut(readStart, dest, start, actualLength);
+    readPosition.setRelease(readStart + actualLength);
+    signalProgress();
+    return actualLength;
+  }
+}
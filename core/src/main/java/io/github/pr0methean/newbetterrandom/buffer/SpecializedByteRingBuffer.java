@@ -0,0 +1,63 @@
+package io.github.pr0methean.newbetterrandom.buffer;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Storage and copying shared by the ring buffers that are specialized for a single producer, a single consumer, or
+ * both. Positions are byte counts since creation, like those of {@link AtomicByteRingBuffer}.
+ */
+abstract class SpecializedByteRingBuffer extends AbstractByteQueue {
+  protected final int byteSize;
+  protected final int bitMask;
+  protected final ByteBuffer buffer;
+
+  protected SpecializedByteRingBuffer(final int byteSize, final WaitStrategy waitStrategy) {
+    super(waitStrategy);
+    if (byteSize <= 0) {
+      throw new IllegalArgumentException("byteSize must be positive, but is " + byteSize);
+    }
+    if (Integer.bitCount(byteSize) != 1) {
+      throw new IllegalArgumentException("byteSize must be a power of 2, but is " + byteSize);
+    }
+    this.byteSize = byteSize;
+    bitMask = byteSize - 1;
+    buffer = ByteBuffer.allocateDirect(byteSize);
+  }
+
+  @Override
+  public long getCapacity() {
+    return byteSize;
+  }
+
+  protected static void checkDesiredLength(final int desiredLength) {
+    if (desiredLength < 0) {
+      throw new IllegalArgumentException("desiredLength can't be negative");
+    }
+  }
+
+  /**
+   * Copies {@code length} bytes into the buffer, starting at position {@code writeStart} and wrapping around if
+   * necessary. The caller must already have reserved the space.
+   */
+  protected final void copyIn(final long writeStart, final byte[] source, final int start, final int length) {
+    final int destStartIndex = (int) (writeStart & bitMask);
+    final int beforeWrap = Math.min(length, byteSize - destStartIndex);
+    buffer.put(destStartIndex, source, start, beforeWrap);
+    if (beforeWrap < length) {
+      buffer.put(0, source, start + beforeWrap, length - beforeWrap);
+    }
+  }
+
+  /**
+   * Copies {@code length} bytes out of the buffer, starting at position {@code readStart} and wrapping around if
+   * necessary. The caller must already have made sure the bytes are published.
+   */
+  protected final void copyOut(final long readStart, final byte[] dest, final int start, final int length) {
+    final int sourceStartIndex = (int) (readStart & bitMask);
+    final int beforeWrap = Math.min(length, byteSize - sourceStartIndex);
+    buffer.get(sourceStartIndex, dest, start, beforeWrap);
+    if (beforeWrap < length) {
+      buffer.get(0, dest, start + beforeWrap, length - beforeWrap);
+    }
+  }
+}
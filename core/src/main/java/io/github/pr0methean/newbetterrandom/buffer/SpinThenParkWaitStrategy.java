@@ -0,0 +1,54 @@
+package io.github.pr0methean.newbetterrandom.buffer;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Spins for a fixed number of idle iterations, then parks until the queue calls {@link #signal()}. A thread that
+ * parks just after the signal it was waiting for has been sent would miss it, so parking is also bounded by
+ * {@code maxParkNanos}. Signalling is cheap while no thread is parked.
+ */
+public class SpinThenParkWaitStrategy implements WaitStrategy {
+  private final int spinIterations;
+  private final long maxParkNanos;
+  private final ConcurrentLinkedQueue<Thread> parkedThreads = new ConcurrentLinkedQueue<>();
+
+  /**
+   * @param spinIterations the number of idle iterations to spin for before parking
+   * @param maxParkNanos the longest time to stay parked without being signalled, in nanoseconds
+   */
+  public SpinThenParkWaitStrategy(int spinIterations, long maxParkNanos) {
+    if (spinIterations < 0) {
+      throw new IllegalArgumentException("spinIterations can't be negative");
+    }
+    if (maxParkNanos <= 0) {
+      throw new IllegalArgumentException("maxParkNanos must be positive");
+    }
+    this.spinIterations = spinIterations;
+    this.maxParkNanos = maxParkNanos;
+  }
+
+  @Override
+  public void idle(int idleCount) {
+    if (idleCount < spinIterations) {
+      Thread.onSpinWait();
+      return;
+    }
+    final Thread currentThread = Thread.currentThread();
+    parkedThreads.add(currentThread);
+    try {
+      LockSupport.parkNanos(this, maxParkNanos);
+    } finally {
+      parkedThreads.remove(currentThread);
+    }
+  }
+
+  @Override
+  public void signal() {
+    if (!parkedThreads.isEmpty()) {
+      for (Thread thread : parkedThreads) {
+        LockSupport.unpark(thread);
+      }
+    }
+  }
+}
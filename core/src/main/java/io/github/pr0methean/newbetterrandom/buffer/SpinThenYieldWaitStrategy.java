@@ -0,0 +1,27 @@
+package io.github.pr0methean.newbetterrandom.buffer;
+
+/**
+ * Spins for a fixed number of idle iterations, then calls {@link Thread#yield()} on each further one.
+ */
+public class SpinThenYieldWaitStrategy implements WaitStrategy {
+  private final int spinIterations;
+
+  /**
+   * @param spinIterations the number of idle iterations to spin for before yielding
+   */
+  public SpinThenYieldWaitStrategy(int spinIterations) {
+    if (spinIterations < 0) {
+      throw new IllegalArgumentException("spinIterations can't be negative");
+    }
+    this.spinIterations = spinIterations;
+  }
+
+  @Override
+  public void idle(int idleCount) {
+    if (idleCount < spinIterations) {
+      Thread.onSpinWait();
+    } else {
+      Thread.yield();
+    }
+  }
+}
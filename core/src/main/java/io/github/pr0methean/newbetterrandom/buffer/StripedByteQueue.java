@@ -0,0 +1,130 @@
+package io.github.pr0methean.newbetterrandom.buffer;
+
+/**
+ * <p>{@link ByteQueue} made up of several independent stripes, so that threads mostly contend only with other threads
+ * that hash to the same stripe rather than all hitting the same cursors. Each thread first offers to and polls from
+ * its home stripe, chosen by hashing its thread ID; when that stripe is full (for a writer) or empty (for a reader),
+ * it moves on to the next stripes in turn, so that a reader whose own stripe is empty steals from its neighbours.</p>
+ * <p>Bytes written by one thread are read back in order by that thread, but there is no ordering between bytes in
+ * different stripes. Asynchronous transfers go through the home stripe of whichever thread services them, so they
+ * aren't ordered relative to their requester's other transfers. The stripes should share this queue's
+ * {@link WaitStrategy}, so that progress on any stripe wakes threads waiting on this queue.</p>
+ */
+public class StripedByteQueue extends AbstractByteQueue {
+  private static final long THREAD_ID_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+  private final ByteQueue[] stripes;
+  private final long capacity;
+
+  /**
+   * Creates a queue whose stripes are {@link AtomicByteRingBufferUsingByteBuffer} instances that busy-spin while
+   * waiting.
+   *
+   * @param stripeCount the number of stripes
+   * @param stripeCapacity the capacity of each stripe; must be a power of 2
+   * @return a new striped queue
+   */
+  public static StripedByteQueue create(int stripeCount, int stripeCapacity) {
+    return create(stripeCount, stripeCapacity, BusySpinWaitStrategy.INSTANCE);
+  }
+
+  /**
+   * Creates a queue whose stripes are {@link AtomicByteRingBufferUsingByteBuffer} instances.
+   *
+   * @param stripeCount the number of stripes
+   * @param stripeCapacity the capacity of each stripe; must be a power of 2
+   * @param waitStrategy the wait strategy shared by the queue and all its stripes
+   * @return a new striped queue
+   */
+  public static StripedByteQueue create(int stripeCount, int stripeCapacity, WaitStrategy waitStrategy) {
+    if (stripeCount <= 0) {
+      throw new IllegalArgumentException("stripeCount must be positive, but is " + stripeCount);
+    }
+    final ByteQueue[] stripes = new ByteQueue[stripeCount];
+    for (int i = 0; i < stripeCount; i++) {
+      stripes[i] = new AtomicByteRingBufferUsingByteBuffer(stripeCapacity, waitStrategy);
+    }
+    return new StripedByteQueue(waitStrategy, stripes);
+  }
+
+  public StripedByteQueue(WaitStrategy waitStrategy, ByteQueue... stripes) {
+    super(waitStrategy);
+    if (stripes.length == 0) {
+      throw new IllegalArgumentException("Need at least one stripe");
+    }
+    this.stripes = stripes.clone();
+    long capacity = 0;
+    for (final ByteQueue stripe : this.stripes) {
+      capacity += stripe.getCapacity();
+    }
+    this.capacity = capacity;
+  }
+
+  private int homeStripe() {
+    final long hash = Thread.currentThread().threadId() * THREAD_ID_MULTIPLIER;
+    return (int) ((hash >>> 32) * stripes.length >>> 32);
+  }
+
+  @Override
+  public long getCapacity() {
+    return capacity;
+  }
+
+  @Override
+  public long getFillLevel() {
+    long fillLevel = 0;
+    for (final ByteQueue stripe : stripes) {
+      fillLevel += stripe.getFillLevel();
+    }
+    return fillLevel;
+  }
+
+  @Override
+  public int offer(byte[] source, int start, int desiredLength) {
+    if (desiredLength < 0) {
+      throw new IllegalArgumentException("desiredLength can't be negative");
+    }
+    if (isClosed()) {
+      return 0;
+    }
+    int written = 0;
+    int stripe = homeStripe();
+    for (int i = 0; i < stripes.length && written < desiredLength; i++) {
+      written += stripes[stripe].offer(source, start + written, desiredLength - written);
+      if (++stripe == stripes.length) {
+        stripe = 0;
+      }
+    }
+    if (written > 0) {
+      serviceAsyncTransfers();
+    }
+    return written;
+  }
+
+  @Override
+  public int poll(byte[] dest, int start, int desiredLength) {
+    if (desiredLength < 0) {
+      throw new IllegalArgumentException("desiredLength can't be negative");
+    }
+    int read = 0;
+    int stripe = homeStripe();
+    for (int i = 0; i < stripes.length && read < desiredLength; i++) {
+      read += stripes[stripe].poll(dest, start + read, desiredLength - read);
+      if (++stripe == stripes.length) {
+        stripe = 0;
+      }
+    }
+    if (read > 0) {
+      serviceAsyncTransfers();
+    }
+    return read;
+  }
+
+  @Override
+  public void close() {
+    super.close();
+    for (final ByteQueue stripe : stripes) {
+      stripe.close();
+    }
+  }
+}
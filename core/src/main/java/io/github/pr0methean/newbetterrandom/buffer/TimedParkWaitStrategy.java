@@ -0,0 +1,26 @@
+package io.github.pr0methean.newbetterrandom.buffer;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Parks for a fixed time on every idle iteration, without being woken early by the queue. Costs almost no CPU while
+ * waiting, at the price of up to {@code parkNanos} of extra latency once bytes or space become available.
+ */
+public class TimedParkWaitStrategy implements WaitStrategy {
+  private final long parkNanos;
+
+  /**
+   * @param parkNanos how long to park on each idle iteration, in nanoseconds
+   */
+  public TimedParkWaitStrategy(long parkNanos) {
+    if (parkNanos <= 0) {
+      throw new IllegalArgumentException("parkNanos must be positive");
+    }
+    this.parkNanos = parkNanos;
+  }
+
+  @Override
+  public void idle(int idleCount) {
+    LockSupport.parkNanos(this, parkNanos);
+  }
+}
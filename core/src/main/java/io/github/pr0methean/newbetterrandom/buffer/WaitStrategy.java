@@ -0,0 +1,23 @@
+package io.github.pr0methean.newbetterrandom.buffer;
+
+/**
+ * Decides what a thread does while a blocking {@link ByteQueue} operation is waiting for bytes to read or space to
+ * write. Chosen when the queue is built; a queue calls {@link #signal()} whenever it moves bytes, so strategies that
+ * park can wake their waiters.
+ */
+public interface WaitStrategy {
+
+  /**
+   * Called each time a blocking read or write attempt makes no progress.
+   *
+   * @param idleCount the number of consecutive attempts that made no progress before this one; 0 on the first
+   */
+  void idle(int idleCount);
+
+  /**
+   * Called by a queue after bytes have been offered or polled, or after it has been closed, so that threads waiting in
+   * {@link #idle(int)} can try again. Does nothing by default.
+   */
+  default void signal() {
+  }
+}
@@ -0,0 +1,20 @@
+package io.github.pr0methean.newbetterrandom.buffer;
+
+import java.lang.foreign.MemorySegment;
+
+/**
+ * Space reserved by {@link ZeroCopyByteQueue#claimWrite(int)}. The writer fills {@link #segment()} in place and then
+ * calls {@link #commit()} exactly once.
+ */
+public interface WriteClaim {
+  /**
+   * @return the reserved space, as a writable view of the queue's storage
+   */
+  MemorySegment segment();
+
+  /**
+   * Makes the bytes written to {@link #segment()} available to readers, once every earlier write has also been
+   * committed. The segment must not be used afterward.
+   */
+  void commit();
+}
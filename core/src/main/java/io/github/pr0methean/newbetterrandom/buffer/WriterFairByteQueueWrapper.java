@@ -1,5 +1,6 @@
 package io.github.pr0methean.newbetterrandom.buffer;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -8,6 +9,7 @@ public class WriterFairByteQueueWrapper extends AbstractByteQueue implements Wri
   private final int maxWritePerCall;
   private final long maxOfferCallsPerTurn;
   private final Lock lock;
+  private final ByteQueueStatistics statistics = new ByteQueueStatistics(this::getFillLevel);
 
   @Override
   public void close() {
@@ -27,6 +29,7 @@ public class WriterFairByteQueueWrapper extends AbstractByteQueue implements Wri
    * @param lock a fair lock
    */
   public WriterFairByteQueueWrapper(ByteQueue delegate, int maxWritePerCall, long maxAttempts, Lock lock) {
+    super(delegate.getWaitStrategy());
     this.delegate = delegate;
     this.maxWritePerCall = maxWritePerCall;
     this.maxOfferCallsPerTurn = maxAttempts;
@@ -38,15 +41,40 @@ public class WriterFairByteQueueWrapper extends AbstractByteQueue implements Wri
     return delegate.getCapacity();
   }
 
+  @Override
+  public long getFillLevel() {
+    return delegate.getFillLevel();
+  }
+
+  /**
+   * Delegates to the wrapped queue, whose pending asynchronous transfers are already serviced in the order they were
+   * requested.
+   */
+  @Override
+  public CompletableFuture<Void> writeAsync(byte[] source, int start, int length) {
+    return delegate.writeAsync(source, start, length);
+  }
+
+  /**
+   * Delegates to the wrapped queue, whose pending asynchronous transfers are already serviced in the order they were
+   * requested.
+   */
+  @Override
+  public CompletableFuture<Void> readAsync(byte[] dest, int start, int length) {
+    return delegate.readAsync(dest, start, length);
+  }
+
   @Override
   public int offer(byte[] source, int start, int desiredLength) {
+    final long lockRequested = System.nanoTime();
     try {
       lock.lockInterruptibly();
     } catch (InterruptedException e) {
       Thread.currentThread().interrupt();
     }
+    final long lockAcquired = System.nanoTime();
+    int written = 0;
     try {
-      int written = 0;
       for (long offerCalls = 0; written < desiredLength && offerCalls != maxOfferCallsPerTurn; offerCalls++) {
         if (Thread.currentThread().isInterrupted()) {
           return written;
@@ -61,9 +89,21 @@ public class WriterFairByteQueueWrapper extends AbstractByteQueue implements Wri
       return written;
     } finally {
       lock.unlock();
+      statistics.recordLock(lockAcquired - lockRequested, System.nanoTime() - lockAcquired);
+      if (desiredLength > 0) {
+        statistics.recordOffer(written);
+      }
     }
   }
 
+  /**
+   * @return live counters for this wrapper's offers and lock, which can be published with
+   *     {@link ByteQueueStatistics#registerMBean(String)}
+   */
+  public ByteQueueStatistics getStatistics() {
+    return statistics;
+  }
+
   @Override
   public int poll(byte[] dest, int start, int desiredLength) {
     return delegate.poll(dest, start, desiredLength);
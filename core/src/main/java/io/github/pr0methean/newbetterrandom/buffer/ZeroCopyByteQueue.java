@@ -0,0 +1,27 @@
+package io.github.pr0methean.newbetterrandom.buffer;
+
+/**
+ * <p>A {@link ByteQueue} that can also lend out regions of its own storage, so that a writer can produce bytes directly
+ * into the queue and a reader can consume them directly out of it, without copying through a {@code byte[]}.</p>
+ * <p>Each claim covers one contiguous region, so a claim may be shorter than requested when the region would
+ * otherwise wrap around the end of the underlying storage; claim again for the rest. Claims should be committed or
+ * released promptly, because an outstanding write claim keeps every later write from becoming readable and an outstanding read claim
+ * keeps its region from being reused. A claim must not be used after the queue is closed.</p>
+ */
+public interface ZeroCopyByteQueue extends ByteQueue {
+  /**
+   * Nonblocking reservation of up to {@code desiredLength} bytes of space to write into.
+   *
+   * @param desiredLength the maximum number of bytes to reserve
+   * @return a claim on at least 1 byte of space, or null if the queue is full or closed or {@code desiredLength} is 0
+   */
+  /* @Nullable */ WriteClaim claimWrite(int desiredLength);
+
+  /**
+   * Nonblocking reservation of up to {@code desiredLength} bytes to read.
+   *
+   * @param desiredLength the maximum number of bytes to reserve
+   * @return a claim on at least 1 byte, or null if the queue is empty or {@code desiredLength} is 0
+   */
+  /* @Nullable */ ReadClaim claimRead(int desiredLength);
+}
@@ -5,10 +5,12 @@ import io.github.pr0methean.newbetterrandom.buffer.ByteQueue;
 import java.io.Serializable;
 import java.lang.ref.Reference;
 import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.LongAdder;
 
 public abstract class AbstractSeedFetcher implements Runnable, Serializable {
   protected final WeakReference<ByteQueue> destBuffer;
   protected final int sourceReadSize;
+  private final LongAdder bytesDelivered = new LongAdder();
 
   protected AbstractSeedFetcher(final ByteQueue destBuffer, final int sourceReadSize) {
     this.destBuffer = new WeakReference<>(destBuffer);
@@ -23,8 +25,17 @@ public abstract class AbstractSeedFetcher implements Runnable, Serializable {
         return; // Dest buffer is closed or isn't reachable by potential readers, so terminate the thread
       }
       try {
+        final SeedFetchEvent fetchEvent = new SeedFetchEvent();
+        fetchEvent.begin();
         byte[] seed = getSeedBytes();
-        ByteQueue.writeWhileNonNull(((Reference<? extends ByteQueue>) destBuffer)::get, seed, 0, seed.length);
+        fetchEvent.end();
+        if (fetchEvent.shouldCommit()) {
+          fetchEvent.fetcherType = getClass();
+          fetchEvent.bytes = seed.length;
+          fetchEvent.commit();
+        }
+        bytesDelivered.add(
+            ByteQueue.writeWhileNonNull(((Reference<? extends ByteQueue>) destBuffer)::get, seed, 0, seed.length));
       } catch (final InterruptedException ignored) {
         Thread.currentThread().interrupt();
         return;
@@ -32,5 +43,12 @@ public abstract class AbstractSeedFetcher implements Runnable, Serializable {
     }
   }
 
+  /**
+   * @return the total number of bytes this fetcher has written to its destination buffer
+   */
+  public long getBytesDelivered() {
+    return bytesDelivered.sum();
+  }
+
   protected abstract byte[] getSeedBytes() throws InterruptedException;
 }
@@ -0,0 +1,28 @@
+package io.github.pr0methean.newbetterrandom.producer;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for one call to {@link AbstractSeedFetcher#getSeedBytes()}.
+ */
+@Name("io.github.pr0methean.newbetterrandom.SeedFetch")
+@Label("Seed Fetch")
+@Category({"BetterRandom", "Seed Source"})
+@Description("A seed fetcher obtained a batch of seed material from its source")
+@Enabled(false)
+@StackTrace(false)
+final class SeedFetchEvent extends Event {
+  @Label("Fetcher Type")
+  Class<?> fetcherType;
+
+  @Label("Bytes")
+  @DataAmount
+  int bytes;
+}
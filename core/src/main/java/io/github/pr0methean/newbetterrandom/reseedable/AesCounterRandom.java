@@ -0,0 +1,147 @@
+package io.github.pr0methean.newbetterrandom.reseedable;
+
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Objects;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * <p>{@link ReseedableRandomGenerator} whose output is the AES-256 keystream in counter mode, computed by
+ * {@link Cipher}. The JDK compiles AES-CTR to hardware instructions where the CPU has them, but only for calls that
+ * encrypt many blocks at once; so this encrypts {@value #BUFFER_BYTES} bytes of counter blocks into a buffer at a time,
+ * and {@link #nextBytes(byte[], int, int)} encrypts large requests straight into the destination.</p>
+ * <p>{@link #updateSeed(byte[])} replaces the key and restarts the counter at zero. A seed of exactly 32 bytes is used
+ * as the key; any other seed is hashed with SHA-256 into one. Between reseeds the output is as strong as AES-256-CTR,
+ * but as with any generator, only as unpredictable as the seeds it's given.</p>
+ * <p>This isn't a DRBG in the sense of NIST SP 800-90A, even though it uses the same cipher as CTR_DRBG. The key
+ * never changes between reseeds, so anyone who learns it can recover all the output since the last reseed; and since
+ * reseeding replaces the state rather than mixing into it, reseeding with a seed it has had before replays the same
+ * keystream. Where either matters, use a {@code "DRBG"} {@link java.security.SecureRandom}, for instance through
+ * {@link StripedSecureRandomReseedableRandomGeneratorAdapter}.</p>
+ * <p>Like the JDK's own generators, this isn't thread-safe.</p>
+ */
+public class AesCounterRandom implements ReseedableRandomGenerator {
+  private static final String TRANSFORMATION = "AES/CTR/NoPadding";
+  private static final int KEY_BYTES = 32;
+  private static final int BUFFER_BYTES = 1 << 12;
+  private static final IvParameterSpec ZERO_COUNTER = new IvParameterSpec(new byte[16]);
+
+  private final Cipher cipher;
+  private final MessageDigest keyDigest;
+  /** Counter-mode input; the output is just the keystream. */
+  private final byte[] zeroes = new byte[BUFFER_BYTES];
+  private final byte[] buffer = new byte[BUFFER_BYTES];
+  private int bufferPosition;
+
+  public AesCounterRandom(byte[] seed) {
+    try {
+      cipher = Cipher.getInstance(TRANSFORMATION);
+      keyDigest = MessageDigest.getInstance("SHA-256");
+    } catch (GeneralSecurityException e) {
+      // Every JDK has to support both
+      throw new IllegalStateException(e);
+    }
+    updateSeed(seed);
+  }
+
+  public AesCounterRandom(long seed) {
+    this(longToBytes(seed));
+  }
+
+  private static byte[] longToBytes(long seed) {
+    final byte[] bytes = new byte[Long.BYTES];
+    for (int i = Long.BYTES - 1; i >= 0; i--) {
+      bytes[i] = (byte) seed;
+      seed >>>= Byte.SIZE;
+    }
+    return bytes;
+  }
+
+  @Override
+  public void updateSeed(byte[] seed) {
+    final byte[] key = seed.length == KEY_BYTES ? seed : keyDigest.digest(seed);
+    try {
+      cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(key, "AES"), ZERO_COUNTER);
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException("AES-256 key rejected", e);
+    }
+    bufferPosition = BUFFER_BYTES;
+  }
+
+  /**
+   * Replaces the key with the SHA-256 hash of {@code seed}'s big-endian bytes.
+   *
+   * @param seed the seed
+   */
+  @Override
+  public void updateSeed(long seed) {
+    updateSeed(longToBytes(seed));
+  }
+
+  @Override
+  public int seedEntropyBits() {
+    return KEY_BYTES * Byte.SIZE;
+  }
+
+  /**
+   * Encrypts the next {@code length} bytes of counter blocks into {@code dest}.
+   */
+  private void encrypt(byte[] dest, int start, int length) {
+    try {
+      cipher.update(zeroes, 0, length, dest, start);
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  @Override
+  public long nextLong() {
+    if (bufferPosition > BUFFER_BYTES - Long.BYTES) {
+      refill();
+    }
+    long result = 0;
+    for (int i = Long.BYTES - 1; i >= 0; i--) {
+      result = (result << Byte.SIZE) | Byte.toUnsignedLong(buffer[bufferPosition + i]);
+    }
+    bufferPosition += Long.BYTES;
+    return result;
+  }
+
+  /**
+   * Refills the buffer, discarding any bytes left over; {@link #nextLong()} and {@link #nextBytes(byte[], int, int)}
+   * only call this when there are fewer than 8.
+   */
+  private void refill() {
+    encrypt(buffer, 0, BUFFER_BYTES);
+    bufferPosition = 0;
+  }
+
+  @Override
+  public void nextBytes(byte[] bytes) {
+    nextBytes(bytes, 0, bytes.length);
+  }
+
+  @Override
+  public void nextBytes(byte[] bytes, int start, int length) {
+    Objects.checkFromIndexSize(start, length, bytes.length);
+    final int end = start + length;
+    int i = start;
+    final int fromBuffer = Math.min(length, BUFFER_BYTES - bufferPosition);
+    System.arraycopy(buffer, bufferPosition, bytes, i, fromBuffer);
+    bufferPosition += fromBuffer;
+    i += fromBuffer;
+    // Whole buffers' worth go straight into the destination
+    while (end - i >= BUFFER_BYTES) {
+      encrypt(bytes, i, BUFFER_BYTES);
+      i += BUFFER_BYTES;
+    }
+    if (i < end) {
+      refill();
+      bufferPosition = end - i;
+      System.arraycopy(buffer, 0, bytes, i, bufferPosition);
+    }
+  }
+}
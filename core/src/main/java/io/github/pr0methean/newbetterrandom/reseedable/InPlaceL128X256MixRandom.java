@@ -0,0 +1,86 @@
+package io.github.pr0methean.newbetterrandom.reseedable;
+
+import static io.github.pr0methean.newbetterrandom.reseedable.Mixers.mixLea64;
+import static io.github.pr0methean.newbetterrandom.reseedable.Mixers.mixMurmur64;
+import static io.github.pr0methean.newbetterrandom.reseedable.Mixers.mixStafford13;
+
+/**
+ * The L128X256MixRandom algorithm, producing the same output as the JDK's {@code L128X256MixRandom} from the same
+ * seed, and {@link ReseedInPlaceRandomGenerator reseeded in place}.
+ */
+public class InPlaceL128X256MixRandom extends ReseedInPlaceRandomGenerator {
+  private static final long ML = 0xd605bbb58c8abbfdL;
+  private static final int SEED_WORDS = 8;
+
+  private final long[] seedWords = new long[SEED_WORDS];
+  /** The LCG's addend, which is always odd. */
+  private long ah, al;
+  private long sh, sl, x0, x1, x2, x3;
+
+  public InPlaceL128X256MixRandom(byte[] seed) {
+    updateSeed(seed);
+  }
+
+  public InPlaceL128X256MixRandom(long seed) {
+    updateSeed(seed);
+  }
+
+  @Override
+  public void updateSeed(byte[] seed) {
+    convertSeedBytesToLongs(seed, seedWords, 4);
+    ah = seedWords[0];
+    al = seedWords[1] | 1;
+    sh = seedWords[2];
+    sl = seedWords[3];
+    x0 = seedWords[4];
+    x1 = seedWords[5];
+    x2 = seedWords[6];
+    x3 = seedWords[7];
+  }
+
+  @Override
+  public void updateSeed(long seed) {
+    ah = mixMurmur64(seed ^= SILVER_RATIO_64);
+    al = mixMurmur64(seed += GOLDEN_RATIO_64) | 1;
+    sh = 0;
+    sl = 1;
+    x0 = mixStafford13(seed);
+    x1 = mixStafford13(seed += GOLDEN_RATIO_64);
+    x2 = mixStafford13(seed += GOLDEN_RATIO_64);
+    x3 = mixStafford13(seed + GOLDEN_RATIO_64);
+    if ((x0 | x1 | x2 | x3) == 0) {
+      long v = sh;
+      x0 = mixStafford13(v += GOLDEN_RATIO_64);
+      x1 = mixStafford13(v += GOLDEN_RATIO_64);
+      x2 = mixStafford13(v += GOLDEN_RATIO_64);
+      x3 = mixStafford13(v + GOLDEN_RATIO_64);
+    }
+  }
+
+  @Override
+  public int seedEntropyBits() {
+    // The lowest bit of al is always set
+    return SEED_WORDS * Long.SIZE - 1;
+  }
+
+  @Override
+  public long nextLong() {
+    final long result = mixLea64(sh + x0);
+    final long u = ML * sl;
+    sh = (ML * sh) + Math.unsignedMultiplyHigh(ML, sl) + sl + ah;
+    sl = u + al;
+    if (Long.compareUnsigned(sl, u) < 0) {
+      // Carry from the low half
+      ++sh;
+    }
+    // xoshiro256 1.0
+    final long t = x1 << 17;
+    x2 ^= x0;
+    x3 ^= x1;
+    x1 ^= x2;
+    x0 ^= x3;
+    x2 ^= t;
+    x3 = Long.rotateLeft(x3, 45);
+    return result;
+  }
+}
@@ -0,0 +1,70 @@
+package io.github.pr0methean.newbetterrandom.reseedable;
+
+import static io.github.pr0methean.newbetterrandom.reseedable.Mixers.mixLea32;
+import static io.github.pr0methean.newbetterrandom.reseedable.Mixers.mixMurmur32;
+
+/**
+ * The L32X64MixRandom algorithm, producing the same output as the JDK's {@code L32X64MixRandom} from the same seed,
+ * and {@link ReseedInPlaceRandomGenerator reseeded in place}.
+ */
+public class InPlaceL32X64MixRandom extends ReseedInPlaceRandomGenerator {
+  private static final int M = 0xadb4a92d;
+  private static final int SEED_WORDS = 4;
+
+  private final int[] seedWords = new int[SEED_WORDS];
+  /** The LCG's addend, which is always odd. */
+  private int a;
+  private int s, x0, x1;
+
+  public InPlaceL32X64MixRandom(byte[] seed) {
+    updateSeed(seed);
+  }
+
+  public InPlaceL32X64MixRandom(long seed) {
+    updateSeed(seed);
+  }
+
+  @Override
+  public void updateSeed(byte[] seed) {
+    convertSeedBytesToInts(seed, seedWords, 2);
+    a = seedWords[0] | 1;
+    s = seedWords[1];
+    x0 = seedWords[2];
+    x1 = seedWords[3];
+  }
+
+  @Override
+  public void updateSeed(long seed) {
+    a = mixMurmur32((int) ((seed ^= SILVER_RATIO_64) >>> 32)) | 1;
+    s = 1;
+    x0 = mixLea32((int) seed);
+    x1 = mixLea32((int) seed + GOLDEN_RATIO_32);
+    if ((x0 | x1) == 0) {
+      int v = s;
+      x0 = mixMurmur32(v += GOLDEN_RATIO_32);
+      x1 = mixMurmur32(v + GOLDEN_RATIO_32);
+    }
+  }
+
+  @Override
+  public int seedEntropyBits() {
+    // The lowest bit of a is always set
+    return SEED_WORDS * Integer.SIZE - 1;
+  }
+
+  @Override
+  public int nextInt() {
+    final int result = mixLea32(s + x0);
+    s = M * s + a;
+    // xoroshiro64
+    final int q1 = x1 ^ x0;
+    x0 = Integer.rotateLeft(x0, 26) ^ q1 ^ (q1 << 9);
+    x1 = Integer.rotateLeft(q1, 13);
+    return result;
+  }
+
+  @Override
+  public long nextLong() {
+    return ((long) nextInt() << 32) ^ (long) nextInt();
+  }
+}
@@ -0,0 +1,65 @@
+package io.github.pr0methean.newbetterrandom.reseedable;
+
+import static io.github.pr0methean.newbetterrandom.reseedable.Mixers.mixMurmur64;
+import static io.github.pr0methean.newbetterrandom.reseedable.Mixers.mixStafford13;
+
+/**
+ * The L64X128StarStarRandom algorithm, producing the same output as the JDK's {@code L64X128StarStarRandom} from the
+ * same seed, and {@link ReseedInPlaceRandomGenerator reseeded in place}.
+ */
+public class InPlaceL64X128StarStarRandom extends ReseedInPlaceRandomGenerator {
+  private static final long M = 0xd1342543de82ef95L;
+  private static final int SEED_WORDS = 4;
+
+  private final long[] seedWords = new long[SEED_WORDS];
+  /** The LCG's addend, which is always odd. */
+  private long a;
+  private long s, x0, x1;
+
+  public InPlaceL64X128StarStarRandom(byte[] seed) {
+    updateSeed(seed);
+  }
+
+  public InPlaceL64X128StarStarRandom(long seed) {
+    updateSeed(seed);
+  }
+
+  @Override
+  public void updateSeed(byte[] seed) {
+    convertSeedBytesToLongs(seed, seedWords, 2);
+    a = seedWords[0] | 1;
+    s = seedWords[1];
+    x0 = seedWords[2];
+    x1 = seedWords[3];
+  }
+
+  @Override
+  public void updateSeed(long seed) {
+    a = mixMurmur64(seed ^= SILVER_RATIO_64) | 1;
+    s = 1;
+    x0 = mixStafford13(seed);
+    x1 = mixStafford13(seed + GOLDEN_RATIO_64);
+    if ((x0 | x1) == 0) {
+      long v = s;
+      x0 = mixStafford13(v += GOLDEN_RATIO_64);
+      x1 = mixStafford13(v + GOLDEN_RATIO_64);
+    }
+  }
+
+  @Override
+  public int seedEntropyBits() {
+    // The lowest bit of a is always set
+    return SEED_WORDS * Long.SIZE - 1;
+  }
+
+  @Override
+  public long nextLong() {
+    final long result = Long.rotateLeft((s + x0) * 5, 7) * 9;
+    s = M * s + a;
+    // xoroshiro128 v1.0
+    final long q1 = x1 ^ x0;
+    x0 = Long.rotateLeft(x0, 24) ^ q1 ^ (q1 << 16);
+    x1 = Long.rotateLeft(q1, 37);
+    return result;
+  }
+}
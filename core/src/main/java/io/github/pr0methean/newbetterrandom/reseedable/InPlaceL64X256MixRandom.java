@@ -0,0 +1,76 @@
+package io.github.pr0methean.newbetterrandom.reseedable;
+
+import static io.github.pr0methean.newbetterrandom.reseedable.Mixers.mixLea64;
+import static io.github.pr0methean.newbetterrandom.reseedable.Mixers.mixMurmur64;
+import static io.github.pr0methean.newbetterrandom.reseedable.Mixers.mixStafford13;
+
+/**
+ * The L64X256MixRandom algorithm, producing the same output as the JDK's {@code L64X256MixRandom} from the same seed,
+ * and {@link ReseedInPlaceRandomGenerator reseeded in place}.
+ */
+public class InPlaceL64X256MixRandom extends ReseedInPlaceRandomGenerator {
+  private static final long M = 0xd1342543de82ef95L;
+  private static final int SEED_WORDS = 6;
+
+  private final long[] seedWords = new long[SEED_WORDS];
+  /** The LCG's addend, which is always odd. */
+  private long a;
+  private long s, x0, x1, x2, x3;
+
+  public InPlaceL64X256MixRandom(byte[] seed) {
+    updateSeed(seed);
+  }
+
+  public InPlaceL64X256MixRandom(long seed) {
+    updateSeed(seed);
+  }
+
+  @Override
+  public void updateSeed(byte[] seed) {
+    convertSeedBytesToLongs(seed, seedWords, 4);
+    a = seedWords[0] | 1;
+    s = seedWords[1];
+    x0 = seedWords[2];
+    x1 = seedWords[3];
+    x2 = seedWords[4];
+    x3 = seedWords[5];
+  }
+
+  @Override
+  public void updateSeed(long seed) {
+    a = mixMurmur64(seed ^= SILVER_RATIO_64) | 1;
+    s = 1;
+    x0 = mixStafford13(seed);
+    x1 = mixStafford13(seed += GOLDEN_RATIO_64);
+    x2 = mixStafford13(seed += GOLDEN_RATIO_64);
+    x3 = mixStafford13(seed + GOLDEN_RATIO_64);
+    if ((x0 | x1 | x2 | x3) == 0) {
+      long v = s;
+      x0 = mixStafford13(v += GOLDEN_RATIO_64);
+      x1 = mixStafford13(v += GOLDEN_RATIO_64);
+      x2 = mixStafford13(v += GOLDEN_RATIO_64);
+      x3 = mixStafford13(v + GOLDEN_RATIO_64);
+    }
+  }
+
+  @Override
+  public int seedEntropyBits() {
+    // The lowest bit of a is always set
+    return SEED_WORDS * Long.SIZE - 1;
+  }
+
+  @Override
+  public long nextLong() {
+    final long result = mixLea64(s + x0);
+    s = M * s + a;
+    // xoshiro256 1.0
+    final long t = x1 << 17;
+    x2 ^= x0;
+    x3 ^= x1;
+    x1 ^= x2;
+    x0 ^= x3;
+    x2 ^= t;
+    x3 = Long.rotateLeft(x3, 45);
+    return result;
+  }
+}
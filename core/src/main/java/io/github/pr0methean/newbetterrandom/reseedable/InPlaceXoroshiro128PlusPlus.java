@@ -0,0 +1,51 @@
+package io.github.pr0methean.newbetterrandom.reseedable;
+
+import static io.github.pr0methean.newbetterrandom.reseedable.Mixers.mixStafford13;
+
+/**
+ * The xoroshiro128++ algorithm, producing the same output as the JDK's {@code Xoroshiro128PlusPlus} from the same
+ * seed, and {@link ReseedInPlaceRandomGenerator reseeded in place}. Unlike {@link ReseedableXoroshiro128PlusPlus},
+ * reseeding replaces the state rather than jumping from it; but the state and the step function are shared with it, by
+ * keeping the state in one that's never reseeded.
+ */
+public class InPlaceXoroshiro128PlusPlus extends ReseedInPlaceRandomGenerator {
+  private static final int SEED_WORDS = 2;
+
+  private final long[] seedWords = new long[SEED_WORDS];
+  private final ReseedableXoroshiro128PlusPlus state = new ReseedableXoroshiro128PlusPlus(0);
+
+  public InPlaceXoroshiro128PlusPlus(byte[] seed) {
+    updateSeed(seed);
+  }
+
+  public InPlaceXoroshiro128PlusPlus(long seed) {
+    updateSeed(seed);
+  }
+
+  @Override
+  public void updateSeed(byte[] seed) {
+    convertSeedBytesToLongs(seed, seedWords, SEED_WORDS);
+    state.setState(seedWords);
+  }
+
+  @Override
+  public void updateSeed(long seed) {
+    seedWords[0] = mixStafford13(seed ^= SILVER_RATIO_64);
+    seedWords[1] = mixStafford13(seed + GOLDEN_RATIO_64);
+    if ((seedWords[0] | seedWords[1]) == 0) {
+      seedWords[0] = GOLDEN_RATIO_64;
+      seedWords[1] = SILVER_RATIO_64;
+    }
+    state.setState(seedWords);
+  }
+
+  @Override
+  public int seedEntropyBits() {
+    return SEED_WORDS * Long.SIZE;
+  }
+
+  @Override
+  public long nextLong() {
+    return state.nextLong();
+  }
+}
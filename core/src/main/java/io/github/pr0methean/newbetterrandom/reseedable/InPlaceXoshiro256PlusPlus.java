@@ -0,0 +1,57 @@
+package io.github.pr0methean.newbetterrandom.reseedable;
+
+import static io.github.pr0methean.newbetterrandom.reseedable.Mixers.mixStafford13;
+
+/**
+ * The xoshiro256++ algorithm, producing the same output as the JDK's {@code Xoshiro256PlusPlus} from the same seed,
+ * and {@link ReseedInPlaceRandomGenerator reseeded in place}. Unlike {@link ReseedableXoshiro256PlusPlus}, reseeding
+ * replaces the state rather than jumping from it; but the state and the step function are shared with it, by keeping
+ * the state in one that's never reseeded.
+ */
+public class InPlaceXoshiro256PlusPlus extends ReseedInPlaceRandomGenerator {
+  private static final int SEED_WORDS = 4;
+
+  private final long[] seedWords = new long[SEED_WORDS];
+  private final ReseedableXoshiro256PlusPlus state = new ReseedableXoshiro256PlusPlus(0);
+
+  public InPlaceXoshiro256PlusPlus(byte[] seed) {
+    updateSeed(seed);
+  }
+
+  public InPlaceXoshiro256PlusPlus(long seed) {
+    updateSeed(seed);
+  }
+
+  @Override
+  public void updateSeed(byte[] seed) {
+    convertSeedBytesToLongs(seed, seedWords, SEED_WORDS);
+    state.setState(seedWords);
+  }
+
+  @Override
+  public void updateSeed(long seed) {
+    seedWords[0] = mixStafford13(seed ^= SILVER_RATIO_64);
+    seedWords[1] = mixStafford13(seed += GOLDEN_RATIO_64);
+    seedWords[2] = mixStafford13(seed += GOLDEN_RATIO_64);
+    seedWords[3] = mixStafford13(seed + GOLDEN_RATIO_64);
+    if ((seedWords[0] | seedWords[1] | seedWords[2] | seedWords[3]) == 0) {
+      // Same replacement as the JDK uses, which only mixes the first word
+      long v = 0;
+      seedWords[0] = mixStafford13(v += GOLDEN_RATIO_64);
+      seedWords[1] = (v += GOLDEN_RATIO_64);
+      seedWords[2] = (v += GOLDEN_RATIO_64);
+      seedWords[3] = (v + GOLDEN_RATIO_64);
+    }
+    state.setState(seedWords);
+  }
+
+  @Override
+  public int seedEntropyBits() {
+    return SEED_WORDS * Long.SIZE;
+  }
+
+  @Override
+  public long nextLong() {
+    return state.nextLong();
+  }
+}
@@ -0,0 +1,130 @@
+package io.github.pr0methean.newbetterrandom.reseedable;
+
+/**
+ * Jump polynomials for an F<sub>2</sub>-linear generator: the coefficients of x<sup>2<sup>k</sup></sup> modulo the
+ * characteristic polynomial of its state transition, for a range of k. Applying one advances the state
+ * 2<sup>k</sup> steps in time proportional to the state size, however large k is.
+ */
+final class JumpPolynomials {
+  private final int firstExponent;
+  private final long[][] polynomials;
+
+  private JumpPolynomials(int firstExponent, long[][] polynomials) {
+    this.firstExponent = firstExponent;
+    this.polynomials = polynomials;
+  }
+
+  /**
+   * Finds the characteristic polynomial of {@code sample}'s state transition with the Berlekamp-Massey algorithm,
+   * then squares x modulo it to find the jump polynomials. Advances {@code sample}.
+   *
+   * @param sample a generator in any state other than all zeroes
+   * @param firstExponent the smallest k to find x<sup>2<sup>k</sup></sup> for
+   * @param count how many successive values of k to find it for
+   * @return the jump polynomials
+   */
+  static JumpPolynomials compute(ReseedByPolynomialJumpingRandomGenerator sample, int firstExponent, int count) {
+    final int stateBits = sample.stateWords() * Long.SIZE;
+    // The lowest bit of the first state word is a linear function of the state, so its sequence has the same minimal
+    // polynomial as the state transition, as long as that's irreducible.
+    final boolean[] sequence = new boolean[2 * stateBits];
+    final long[] stateHolder = new long[sample.stateWords()];
+    for (int i = 0; i < sequence.length; i++) {
+      stateHolder[0] = 0;
+      sample.xorStateInto(stateHolder);
+      sequence[i] = (stateHolder[0] & 1) != 0;
+      sample.step();
+    }
+    final boolean[] characteristic = findCharacteristicPolynomial(sequence);
+    final int degree = characteristic.length - 1;
+    if (degree != stateBits) {
+      throw new IllegalStateException("Characteristic polynomial has degree " + degree + ", not " + stateBits);
+    }
+    boolean[] power = new boolean[degree];
+    power[1] = true; // x
+    for (int i = 0; i < firstExponent; i++) {
+      power = squareModulo(power, characteristic);
+    }
+    final long[][] polynomials = new long[count][];
+    for (int k = 0; k < count; k++) {
+      polynomials[k] = toWords(power);
+      power = squareModulo(power, characteristic);
+    }
+    return new JumpPolynomials(firstExponent, polynomials);
+  }
+
+  /**
+   * @param k the base-2 logarithm of the jump distance
+   * @return the coefficients of x<sup>2<sup>k</sup></sup>, lowest first, 64 per word
+   */
+  long[] get(int k) {
+    return polynomials[k - firstExponent];
+  }
+
+  /**
+   * Berlekamp-Massey over F<sub>2</sub>.
+   *
+   * @return the coefficients of the sequence's minimal polynomial, lowest first; the last is always true
+   */
+  private static boolean[] findCharacteristicPolynomial(boolean[] sequence) {
+    final int n = sequence.length;
+    boolean[] connection = new boolean[n + 1];
+    boolean[] previous = new boolean[n + 1];
+    connection[0] = true;
+    previous[0] = true;
+    int length = 0;
+    int lastChange = -1;
+    for (int i = 0; i < n; i++) {
+      boolean discrepancy = sequence[i];
+      for (int j = 1; j <= length; j++) {
+        discrepancy ^= connection[j] & sequence[i - j];
+      }
+      if (discrepancy) {
+        final boolean[] oldConnection = connection.clone();
+        for (int j = 0; j + i - lastChange <= n; j++) {
+          connection[j + i - lastChange] ^= previous[j];
+        }
+        if (2 * length <= i) {
+          length = i + 1 - length;
+          lastChange = i;
+          previous = oldConnection;
+        }
+      }
+    }
+    // The connection polynomial is the characteristic polynomial with its coefficients reversed
+    final boolean[] characteristic = new boolean[length + 1];
+    for (int k = 0; k <= length; k++) {
+      characteristic[k] = connection[length - k];
+    }
+    return characteristic;
+  }
+
+  private static boolean[] squareModulo(boolean[] polynomial, boolean[] modulus) {
+    final int degree = modulus.length - 1;
+    // Squaring over F2 just spreads the coefficients out
+    final boolean[] square = new boolean[2 * degree - 1];
+    for (int k = 0; k < degree; k++) {
+      square[2 * k] = polynomial[k];
+    }
+    for (int d = square.length - 1; d >= degree; d--) {
+      if (square[d]) {
+        for (int k = 0; k <= degree; k++) {
+          square[d - degree + k] ^= modulus[k];
+        }
+      }
+    }
+    final boolean[] result = new boolean[degree];
+    System.arraycopy(square, 0, result, 0, degree);
+    return result;
+  }
+
+  private static long[] toWords(boolean[] polynomial) {
+    final long[] words = new long[polynomial.length / Long.SIZE];
+    for (int k = 0; k < polynomial.length; k++) {
+      if (polynomial[k]) {
+        words[k / Long.SIZE] |= 1L << k;
+      }
+    }
+    return words;
+  }
+}
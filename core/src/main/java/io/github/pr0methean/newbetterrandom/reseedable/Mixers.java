@@ -0,0 +1,41 @@
+package io.github.pr0methean.newbetterrandom.reseedable;
+
+/**
+ * The bit-mixing functions that the JDK's LXM and xoshiro generators use to turn seeds into state and state into
+ * output, as in its internal {@code RandomSupport}. Each is a bijection.
+ */
+public enum Mixers {
+  ;
+
+  public static final long LEA_64_MULTIPLIER = 0xdaba0b6eb09322e3L;
+
+  public static long mixMurmur64(long z) {
+    z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+    z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+    return z ^ (z >>> 33);
+  }
+
+  public static long mixStafford13(long z) {
+    z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+    z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+    return z ^ (z >>> 31);
+  }
+
+  public static long mixLea64(long z) {
+    z = (z ^ (z >>> 32)) * LEA_64_MULTIPLIER;
+    z = (z ^ (z >>> 32)) * LEA_64_MULTIPLIER;
+    return z ^ (z >>> 32);
+  }
+
+  public static int mixMurmur32(int z) {
+    z = (z ^ (z >>> 16)) * 0x85ebca6b;
+    z = (z ^ (z >>> 13)) * 0xc2b2ae35;
+    return z ^ (z >>> 16);
+  }
+
+  public static int mixLea32(int z) {
+    z = (z ^ (z >>> 16)) * 0xd36d884b;
+    z = (z ^ (z >>> 16)) * 0xd36d884b;
+    return z ^ (z >>> 16);
+  }
+}
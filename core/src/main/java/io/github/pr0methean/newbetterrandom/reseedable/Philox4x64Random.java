@@ -0,0 +1,296 @@
+package io.github.pr0methean.newbetterrandom.reseedable;
+
+import static io.github.pr0methean.newbetterrandom.reseedable.Mixers.mixStafford13;
+
+import java.util.Objects;
+
+/**
+ * <p>Counter-based {@link ReseedableRandomGenerator} using the Philox4x64-10 function of Salmon et al., "Parallel
+ * Random Numbers: As Easy as 1, 2, 3". Each output block of four longs is Philox applied to a 256-bit counter under a
+ * 128-bit key, and nothing else carries over between blocks; so the output at any position can be found without
+ * generating what comes before it. The counter is made of the block number, in its two low words, and a stream
+ * number, in its third, so one key gives 2<sup>64</sup> independent {@link #substream(long) substreams}.</p>
+ * <p>Since the key is the whole seed, {@link #updateSeed(byte[])} just replaces it and goes back to the start of the
+ * current stream, with no warm-up. {@link #jump(long)} and {@link #seek(long)} move to any position by counter
+ * arithmetic, and {@link #jump()} moves to the next 2<sup>64</sup>-long run. Output is generated a whole block at a
+ * time, and {@link #nextLongs(long[], int, int)} and {@link #nextBytes(byte[], int, int)} generate whole blocks
+ * straight into the destination.</p>
+ * <p>Like the JDK's own generators, this isn't thread-safe.</p>
+ */
+public class Philox4x64Random implements ReseedableRandomGenerator {
+  private static final long MULTIPLIER_0 = 0xD2E7470EE14C6C93L;
+  private static final long MULTIPLIER_1 = 0xCA5A826395121157L;
+  private static final long WEYL_0 = 0x9E3779B97F4A7C15L;
+  private static final long WEYL_1 = 0xBB67AE8584CAA73BL;
+  private static final int ROUNDS = 10;
+  private static final int KEY_BYTES = 2 * Long.BYTES;
+  private static final int BLOCK_LONGS = 4;
+
+  private long key0, key1;
+  private final long stream;
+  /** The position of the next output, in longs from the start of the stream, as a 128-bit number. */
+  private long positionLow, positionHigh;
+  private final long[] block = new long[BLOCK_LONGS];
+  /**
+   * Whether {@link #block} holds the block that the position is in, if the position isn't at the start of a block.
+   */
+  private boolean blockValid;
+
+  public Philox4x64Random(byte[] seed) {
+    this(seed, 0);
+  }
+
+  public Philox4x64Random(long seed) {
+    this(seed, 0, 0);
+  }
+
+  /**
+   * @param seed the key, as for {@link #updateSeed(byte[])}
+   * @param stream the stream number
+   */
+  public Philox4x64Random(byte[] seed, long stream) {
+    this.stream = stream;
+    updateSeed(seed);
+  }
+
+  /**
+   * @param key0 the first word of the key
+   * @param key1 the second word of the key
+   * @param stream the stream number
+   */
+  public Philox4x64Random(long key0, long key1, long stream) {
+    this.key0 = key0;
+    this.key1 = key1;
+    this.stream = stream;
+  }
+
+  /**
+   * Replaces the key and moves to the start of the stream. A seed of at least 16 bytes gives both key words, read
+   * big-endian, and any more bytes are ignored; a shorter one is hashed into the first word and stretched into the
+   * second with {@link Mixers#mixStafford13(long)}, as the JDK's generators stretch a {@code long} seed.
+   *
+   * @param seed the new key
+   */
+  @Override
+  public void updateSeed(byte[] seed) {
+    if (seed.length >= KEY_BYTES) {
+      long word0 = 0;
+      long word1 = 0;
+      for (int i = 0; i < Long.BYTES; i++) {
+        word0 = (word0 << Byte.SIZE) | Byte.toUnsignedLong(seed[i]);
+        word1 = (word1 << Byte.SIZE) | Byte.toUnsignedLong(seed[Long.BYTES + i]);
+      }
+      setKey(word0, word1);
+    } else {
+      final long word0 = ReseedableRandomGenerator.bytesToLong(seed, Long.SIZE);
+      setKey(word0, mixStafford13(word0 + GOLDEN_RATIO_64));
+    }
+  }
+
+  /**
+   * Replaces the key with {@code seed} and zero, and moves to the start of the stream.
+   *
+   * @param seed the new first word of the key
+   */
+  @Override
+  public void updateSeed(long seed) {
+    setKey(seed, 0);
+  }
+
+  private void setKey(long key0, long key1) {
+    this.key0 = key0;
+    this.key1 = key1;
+    positionLow = 0;
+    positionHigh = 0;
+    blockValid = false;
+  }
+
+  @Override
+  public int seedEntropyBits() {
+    return KEY_BYTES * Byte.SIZE;
+  }
+
+  /**
+   * @return the stream number, which forms the third word of the counter
+   */
+  public long stream() {
+    return stream;
+  }
+
+  /**
+   * Returns a generator for another stream under the same key, starting at its beginning. Its output doesn't overlap
+   * this one's unless {@code stream} is this one's stream number.
+   *
+   * @param stream the stream number
+   * @return a new generator
+   */
+  public Philox4x64Random substream(long stream) {
+    return new Philox4x64Random(key0, key1, stream);
+  }
+
+  /**
+   * Moves to a position in the current stream, counted in longs from its start. Positions past
+   * 2<sup>64</sup> - 1 can be reached with {@link #jump(long)} or {@link #jump()}.
+   *
+   * @param position the number of longs before the next output, as an unsigned number
+   */
+  public void seek(long position) {
+    positionLow = position;
+    positionHigh = 0;
+    blockValid = false;
+  }
+
+  /**
+   * Moves forward or backward in the current stream, wrapping around after 2<sup>128</sup> longs.
+   *
+   * @param distance the number of longs to skip, or minus the number to go back
+   */
+  public void jump(long distance) {
+    final long newPositionLow = positionLow + distance;
+    // Adding a negative distance as unsigned carries out exactly when the result doesn't go below zero
+    positionHigh += (distance >> 63) + (Long.compareUnsigned(newPositionLow, positionLow) < 0 ? 1 : 0);
+    positionLow = newPositionLow;
+    blockValid = false;
+  }
+
+  @Override
+  public boolean isJumpable() {
+    return true;
+  }
+
+  /**
+   * Moves 2<sup>64</sup> longs forward.
+   */
+  @Override
+  public void jump() {
+    positionHigh++;
+    blockValid = false;
+  }
+
+  @Override
+  public double jumpDistance() {
+    return 0x1.0p64;
+  }
+
+  @Override
+  public Philox4x64Random copy() {
+    final Philox4x64Random copy = new Philox4x64Random(key0, key1, stream);
+    copy.positionLow = positionLow;
+    copy.positionHigh = positionHigh;
+    return copy;
+  }
+
+  @Override
+  public long nextLong() {
+    final int word = (int) positionLow & (BLOCK_LONGS - 1);
+    if (word == 0 || !blockValid) {
+      generateBlock(block, 0);
+      blockValid = true;
+    }
+    if (++positionLow == 0) {
+      positionHigh++;
+    }
+    return block[word];
+  }
+
+  /**
+   * Fills part of an array with random longs, in place. The values are the same as successive {@link #nextLong()}
+   * calls would return.
+   *
+   * @param longs the array to fill
+   * @param start the first index to fill
+   * @param length the number of longs to fill
+   */
+  public void nextLongs(long[] longs, int start, int length) {
+    Objects.checkFromIndexSize(start, length, longs.length);
+    final int end = start + length;
+    int i = start;
+    while (i < end && ((int) positionLow & (BLOCK_LONGS - 1)) != 0) {
+      longs[i++] = nextLong();
+    }
+    for (; end - i >= BLOCK_LONGS; i += BLOCK_LONGS) {
+      generateBlock(longs, i);
+      advanceBlock();
+    }
+    while (i < end) {
+      longs[i++] = nextLong();
+    }
+  }
+
+  @Override
+  public void nextBytes(byte[] bytes) {
+    nextBytes(bytes, 0, bytes.length);
+  }
+
+  @Override
+  public void nextBytes(byte[] bytes, int start, int length) {
+    Objects.checkFromIndexSize(start, length, bytes.length);
+    final int end = start + length;
+    int i = start;
+    // Finish the current block first, so that no values are skipped
+    while (end - i >= Long.BYTES && ((int) positionLow & (BLOCK_LONGS - 1)) != 0) {
+      putLong(bytes, i, nextLong());
+      i += Long.BYTES;
+    }
+    for (; end - i >= BLOCK_LONGS * Long.BYTES; i += BLOCK_LONGS * Long.BYTES) {
+      generateBlock(block, 0);
+      advanceBlock();
+      for (int j = 0; j < BLOCK_LONGS; j++) {
+        putLong(bytes, i + j * Long.BYTES, block[j]);
+      }
+    }
+    ReseedableRandomGenerator.super.nextBytes(bytes, i, end - i);
+  }
+
+  private static void putLong(byte[] bytes, int offset, long value) {
+    for (int j = 0; j < Long.BYTES; j++) {
+      bytes[offset + j] = (byte) value;
+      value >>>= Byte.SIZE;
+    }
+  }
+
+  /**
+   * Moves past a block generated at a block boundary without going through {@link #nextLong()}. This leaves the
+   * position at the start of the next block, so {@link #nextLong()} will generate that block.
+   */
+  private void advanceBlock() {
+    positionLow += BLOCK_LONGS;
+    if (Long.compareUnsigned(positionLow, BLOCK_LONGS) < 0) {
+      positionHigh++;
+    }
+  }
+
+  /**
+   * Writes the block that the current position is in to {@code dest}, without moving.
+   */
+  private void generateBlock(long[] dest, int offset) {
+    philox((positionLow >>> 2) | (positionHigh << 62), positionHigh >>> 2, stream, 0, key0, key1, dest, offset);
+  }
+
+  /**
+   * The Philox4x64-10 function.
+   *
+   * @param dest the array to write the four output words to
+   * @param offset the index of {@code dest} to write the first output word to
+   */
+  static void philox(long c0, long c1, long c2, long c3, long k0, long k1, long[] dest, int offset) {
+    for (int round = 0; round < ROUNDS; round++) {
+      if (round != 0) {
+        k0 += WEYL_0;
+        k1 += WEYL_1;
+      }
+      final long high0 = Math.unsignedMultiplyHigh(MULTIPLIER_0, c0);
+      final long low0 = MULTIPLIER_0 * c0;
+      final long high1 = Math.unsignedMultiplyHigh(MULTIPLIER_1, c2);
+      final long low1 = MULTIPLIER_1 * c2;
+      c0 = high1 ^ c1 ^ k0;
+      c1 = low1;
+      c2 = high0 ^ c3 ^ k1;
+      c3 = low0;
+    }
+    dest[offset] = c0;
+    dest[offset + 1] = c1;
+    dest[offset + 2] = c2;
+    dest[offset + 3] = c3;
+  }
+}
@@ -0,0 +1,116 @@
+package io.github.pr0methean.newbetterrandom.reseedable;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaConversionException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+/**
+ * <p>Creates generators of one {@link RandomGeneratorFactory} algorithm from a seed, with the constructor lookup done
+ * once per algorithm rather than on each call. Where the implementation's {@code byte[]} or {@code long} constructor is
+ * public and exported, it's bound into a generated lambda that calls it directly, so the JIT can inline it into the
+ * caller like any other constructor call.</p>
+ * <p>Constructors that aren't accessible, such as those of the algorithms in the {@code jdk.random} module, which only
+ * exports them to {@code java.base}, or that don't exist, fall back to {@link RandomGeneratorFactory#create(byte[])}
+ * and {@link RandomGeneratorFactory#create(long)}; so the result is always the same as the factory's.</p>
+ */
+public final class RandomGeneratorConstructors {
+  private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+  private static final MethodType BYTES_SAM_TYPE = MethodType.methodType(Object.class, Object.class);
+  private static final MethodType LONG_SAM_TYPE = MethodType.methodType(Object.class, long.class);
+  private static final ConcurrentMap<String, RandomGeneratorConstructors> CACHE = new ConcurrentHashMap<>();
+
+  private final Function<byte[], RandomGenerator> fromBytes;
+  private final LongFunction<RandomGenerator> fromLong;
+
+  private RandomGeneratorConstructors(Function<byte[], RandomGenerator> fromBytes,
+      LongFunction<RandomGenerator> fromLong) {
+    this.fromBytes = fromBytes;
+    this.fromLong = fromLong;
+  }
+
+  /**
+   * Returns the constructors for {@code factory}'s algorithm, resolving them if this is the first call for that
+   * algorithm. Resolving them creates one instance using {@link RandomGeneratorFactory#create()}, to find the
+   * implementation class.
+   *
+   * @param factory the factory for the algorithm
+   * @return the constructors
+   */
+  public static RandomGeneratorConstructors of(RandomGeneratorFactory<?> factory) {
+    return CACHE.computeIfAbsent(factory.name(), name -> resolve(factory));
+  }
+
+  @SuppressWarnings("unchecked")
+  private static RandomGeneratorConstructors resolve(RandomGeneratorFactory<?> factory) {
+    final Class<?> type = factory.create().getClass();
+    Function<byte[], RandomGenerator> fromBytes
+        = (Function<byte[], RandomGenerator>) generate(Function.class, "apply", BYTES_SAM_TYPE, type, byte[].class);
+    if (fromBytes == null) {
+      fromBytes = factory::create;
+    }
+    LongFunction<RandomGenerator> fromLong
+        = (LongFunction<RandomGenerator>) generate(LongFunction.class, "apply", LONG_SAM_TYPE, type, long.class);
+    if (fromLong == null) {
+      fromLong = factory::create;
+    }
+    return new RandomGeneratorConstructors(fromBytes, fromLong);
+  }
+
+  /**
+   * Spins a lambda that implements {@code functionalInterface} by calling {@code type}'s constructor that takes a
+   * {@code seedType}.
+   *
+   * @return the lambda, or null if that constructor doesn't exist or isn't accessible
+   */
+  private static /* @Nullable */ Object generate(Class<?> functionalInterface, String methodName,
+      MethodType samType, Class<?> type, Class<?> seedType) {
+    final MethodHandle constructor;
+    try {
+      constructor = MethodHandles.publicLookup().findConstructor(type, MethodType.methodType(void.class, seedType));
+    } catch (NoSuchMethodException | IllegalAccessException e) {
+      return null;
+    }
+    // The generated class lives in this module, so it needs to read the implementation's
+    LOOKUP.lookupClass().getModule().addReads(type.getModule());
+    try {
+      final CallSite site = LambdaMetafactory.metafactory(LOOKUP, methodName,
+          MethodType.methodType(functionalInterface), samType, constructor, constructor.type());
+      return site.getTarget().invoke();
+    } catch (LambdaConversionException | IllegalArgumentException e) {
+      return null;
+    } catch (Throwable t) {
+      throw new IllegalStateException("Failed to generate a constructor lambda for " + type.getName(), t);
+    }
+  }
+
+  /**
+   * Equivalent to {@link RandomGeneratorFactory#create(byte[])}.
+   *
+   * @param seed the seed
+   * @return a new generator
+   */
+  public RandomGenerator create(byte[] seed) {
+    Objects.requireNonNull(seed, "seed must not be null");
+    return fromBytes.apply(seed);
+  }
+
+  /**
+   * Equivalent to {@link RandomGeneratorFactory#create(long)}.
+   *
+   * @param seed the seed
+   * @return a new generator
+   */
+  public RandomGenerator create(long seed) {
+    return fromLong.apply(seed);
+  }
+}
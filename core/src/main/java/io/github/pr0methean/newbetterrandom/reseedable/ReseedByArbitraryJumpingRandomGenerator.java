@@ -65,4 +65,24 @@ public class ReseedByArbitraryJumpingRandomGenerator
   public long nextLong() {
     return delegate.nextLong();
   }
+
+  @Override
+  public boolean isJumpable() {
+    return true;
+  }
+
+  @Override
+  public ReseedByArbitraryJumpingRandomGenerator copy() {
+    return new ReseedByArbitraryJumpingRandomGenerator(delegate.copy(), desiredSeedSizeBytes);
+  }
+
+  @Override
+  public void jump() {
+    delegate.jump();
+  }
+
+  @Override
+  public double jumpDistance() {
+    return delegate.jumpDistance();
+  }
 }
@@ -56,4 +56,24 @@ public class ReseedByJumpingAndLeapingRandomGenerator implements ReseedableRando
   public long nextLong() {
     return delegate.nextLong();
   }
+
+  @Override
+  public boolean isJumpable() {
+    return true;
+  }
+
+  @Override
+  public ReseedByJumpingAndLeapingRandomGenerator copy() {
+    return new ReseedByJumpingAndLeapingRandomGenerator(delegate.copy(), jumpBits, leapBits);
+  }
+
+  @Override
+  public void jump() {
+    delegate.jump();
+  }
+
+  @Override
+  public double jumpDistance() {
+    return delegate.jumpDistance();
+  }
 }
@@ -0,0 +1,121 @@
+package io.github.pr0methean.newbetterrandom.reseedable;
+
+/**
+ * <p>Garbage-free {@link ReseedableRandomGenerator} for an F<sub>2</sub>-linear generator, such as the xoroshiro and
+ * xoshiro families, that reseeds by jumping ahead a distance chosen by the seed. Unlike
+ * {@link ReseedByJumpingAndLeapingRandomGenerator}, which jumps once per unit of distance, each bit of the seed selects
+ * a precomputed jump polynomial for a power-of-two distance, so a reseed takes at most 64 jumps whatever the seed.</p>
+ * <p>A seed {@code s} moves the state {@code s} times {@link #jumpDistance()} ahead, treating {@code s} as unsigned;
+ * a seed of zero, which would leave the state where it is, moves it half of {@link #jumpDistance()} instead. Since
+ * the jump distance is at most the square root of the period, none of these distances wraps around the period, so
+ * from any one state, the runs of output that different seeds start are at least half the jump distance apart.</p>
+ */
+public abstract class ReseedByPolynomialJumpingRandomGenerator implements ReseedableRandomGenerator {
+  private final long[] accumulator;
+
+  ReseedByPolynomialJumpingRandomGenerator(int stateWords) {
+    accumulator = new long[stateWords];
+  }
+
+  /**
+   * @return the number of 64-bit words in the state
+   */
+  protected final int stateWords() {
+    return accumulator.length;
+  }
+
+  /**
+   * Advances the state by one step, without computing any output.
+   */
+  protected abstract void step();
+
+  /**
+   * XORs each word of the current state into the corresponding element of {@code words}.
+   *
+   * @param words an array of {@link #stateWords()} elements
+   */
+  protected abstract void xorStateInto(long[] words);
+
+  /**
+   * Replaces the state.
+   *
+   * @param words an array of {@link #stateWords()} elements, not all zero
+   */
+  protected abstract void setState(long[] words);
+
+  /**
+   * @return the jump polynomials for this generator's algorithm, for distances from
+   *     2<sup>{@link #jumpExponent()} - 1</sup> to 2<sup>{@link #jumpExponent()} + 63</sup>; usually shared by all
+   *     instances and computed on first use
+   */
+  abstract JumpPolynomials jumpPolynomials();
+
+  /**
+   * @return the base-2 logarithm of {@link #jumpDistance()}; at most half the number of state bits
+   */
+  protected abstract int jumpExponent();
+
+  /**
+   * Advances the state by the distance that {@code polynomial} encodes.
+   *
+   * @param polynomial the coefficients of a jump polynomial, lowest first
+   */
+  private void jump(long[] polynomial) {
+    for (long word : polynomial) {
+      for (int bit = 0; bit < Long.SIZE; bit++) {
+        if ((word & (1L << bit)) != 0) {
+          xorStateInto(accumulator);
+        }
+        step();
+      }
+    }
+    setState(accumulator);
+    for (int i = 0; i < accumulator.length; i++) {
+      accumulator[i] = 0;
+    }
+  }
+
+  @Override
+  public void updateSeed(byte[] seed) {
+    updateSeed(ReseedableRandomGenerator.bytesToLong(seed, Long.SIZE));
+  }
+
+  @Override
+  public void updateSeed(long seed) {
+    final JumpPolynomials polynomials = jumpPolynomials();
+    final int firstExponent = jumpExponent();
+    if (seed == 0) {
+      // 2^64 jumps would wrap around to one step when the jump distance is the square root of the period
+      jump(polynomials.get(firstExponent - 1));
+      return;
+    }
+    for (int k = 0; k < Long.SIZE; k++) {
+      if ((seed & (1L << k)) != 0) {
+        jump(polynomials.get(firstExponent + k));
+      }
+    }
+  }
+
+  @Override
+  public int seedEntropyBits() {
+    return Long.SIZE;
+  }
+
+  @Override
+  public boolean isJumpable() {
+    return true;
+  }
+
+  @Override
+  public void jump() {
+    jump(jumpPolynomials().get(jumpExponent()));
+  }
+
+  @Override
+  public double jumpDistance() {
+    return Math.scalb(1.0, jumpExponent());
+  }
+
+  @Override
+  public abstract ReseedByPolynomialJumpingRandomGenerator copy();
+}
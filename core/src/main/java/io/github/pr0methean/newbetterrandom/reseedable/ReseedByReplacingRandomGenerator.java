@@ -7,6 +7,7 @@ public class ReseedByReplacingRandomGenerator implements ReseedableRandomGenerat
 
   protected RandomGenerator delegate;
   protected final RandomGeneratorFactory<?> delegateFactory;
+  protected final RandomGeneratorConstructors delegateConstructors;
   protected final int seedEntropyBits;
 
   public ReseedByReplacingRandomGenerator(RandomGeneratorFactory<?> delegateFactory) {
@@ -19,18 +20,19 @@ public class ReseedByReplacingRandomGenerator implements ReseedableRandomGenerat
 
   public ReseedByReplacingRandomGenerator(RandomGenerator delegate, RandomGeneratorFactory<?> delegateFactory, int seedEntropyBits) {
     this.delegateFactory = delegateFactory;
+    delegateConstructors = RandomGeneratorConstructors.of(delegateFactory);
     this.delegate = delegate;
     this.seedEntropyBits = seedEntropyBits;
   }
 
   @Override
   public void updateSeed(byte[] seed) {
-    delegate = delegateFactory.create(seed);
+    delegate = delegateConstructors.create(seed);
   }
 
   @Override
   public void updateSeed(long seed) {
-    delegate = delegateFactory.create(seed);
+    delegate = delegateConstructors.create(seed);
   }
 
   @Override
@@ -42,4 +44,53 @@ public class ReseedByReplacingRandomGenerator implements ReseedableRandomGenerat
   public long nextLong() {
     return delegate.nextLong();
   }
+
+  @Override
+  public boolean isSplittable() {
+    return delegate instanceof SplittableGenerator;
+  }
+
+  @Override
+  public ReseedByReplacingRandomGenerator split() {
+    return new ReseedByReplacingRandomGenerator(splittableDelegate().split(), delegateFactory, seedEntropyBits);
+  }
+
+  @Override
+  public ReseedByReplacingRandomGenerator split(SplittableGenerator source) {
+    return new ReseedByReplacingRandomGenerator(splittableDelegate().split(source), delegateFactory, seedEntropyBits);
+  }
+
+  private SplittableGenerator splittableDelegate() {
+    if (delegate instanceof SplittableGenerator splittable) {
+      return splittable;
+    }
+    throw new UnsupportedOperationException(delegate.getClass().getName() + " isn't splittable");
+  }
+
+  @Override
+  public boolean isJumpable() {
+    return delegate instanceof JumpableGenerator;
+  }
+
+  @Override
+  public ReseedByReplacingRandomGenerator copy() {
+    return new ReseedByReplacingRandomGenerator(jumpableDelegate().copy(), delegateFactory, seedEntropyBits);
+  }
+
+  @Override
+  public void jump() {
+    jumpableDelegate().jump();
+  }
+
+  @Override
+  public double jumpDistance() {
+    return jumpableDelegate().jumpDistance();
+  }
+
+  private JumpableGenerator jumpableDelegate() {
+    if (delegate instanceof JumpableGenerator jumpable) {
+      return jumpable;
+    }
+    throw new UnsupportedOperationException(delegate.getClass().getName() + " isn't jumpable");
+  }
 }
@@ -0,0 +1,84 @@
+package io.github.pr0methean.newbetterrandom.reseedable;
+
+import static io.github.pr0methean.newbetterrandom.reseedable.Mixers.mixMurmur32;
+import static io.github.pr0methean.newbetterrandom.reseedable.Mixers.mixMurmur64;
+
+/**
+ * <p>Base for project-owned copies of the JDK's LXM and xoshiro generators, whose state {@link #updateSeed(byte[])}
+ * and {@link #updateSeed(long)} overwrite in place. For the same seed, each subclass produces exactly the same output
+ * as a new instance of the JDK algorithm it's named after, created from {@code RandomGeneratorFactory.create(seed)};
+ * but unlike {@link ReseedByReplacingRandomGenerator}, reseeding one allocates nothing and doesn't go through
+ * reflection.</p>
+ * <p>The helpers here are the parts of the JDK's internal {@code RandomSupport} that those algorithms' seeding needs,
+ * changed to write into an array that the caller owns rather than a new one. The mixing functions that they share
+ * are in {@link Mixers}.</p>
+ */
+public abstract class ReseedInPlaceRandomGenerator implements ReseedableRandomGenerator {
+  protected static final int GOLDEN_RATIO_32 = 0x9e3779b9;
+  protected static final int SILVER_RATIO_32 = 0x6A09E667;
+
+  /**
+   * Fills {@code result} from {@code seed} in the same way as {@code RandomSupport.convertSeedBytesToLongs}: big-endian
+   * words from as many bytes as fit, then words stretched from the first one, then if the last {@code z} words are all
+   * zero, replaces them.
+   *
+   * @param seed the seed bytes, of any length
+   * @param result the array to fill; its length is the number of words wanted
+   * @param z how many words at the end of {@code result} mustn't all be zero
+   */
+  protected static void convertSeedBytesToLongs(byte[] seed, long[] result, int z) {
+    final int n = result.length;
+    final int m = Math.min(seed.length, n << 3);
+    for (int j = 0; j < n; j++) {
+      result[j] = 0;
+    }
+    for (int j = 0; j < m; j++) {
+      result[j >> 3] = (result[j >> 3] << 8) | (seed[j] & 0xFF);
+    }
+    long v = result[0];
+    for (int j = (m + 7) >> 3; j < n; j++) {
+      result[j] = mixMurmur64(v += SILVER_RATIO_64);
+    }
+    for (int j = n - z; j < n; j++) {
+      if (result[j] != 0) {
+        return;
+      }
+    }
+    long w = result[0] & ~1L;
+    for (int j = n - z; j < n; j++) {
+      result[j] = mixMurmur64(w += SILVER_RATIO_64);
+    }
+  }
+
+  /**
+   * Fills {@code result} from {@code seed} in the same way as {@code RandomSupport.convertSeedBytesToInts}.
+   *
+   * @param seed the seed bytes, of any length
+   * @param result the array to fill; its length is the number of words wanted
+   * @param z how many words at the end of {@code result} mustn't all be zero
+   * @see #convertSeedBytesToLongs(byte[], long[], int)
+   */
+  protected static void convertSeedBytesToInts(byte[] seed, int[] result, int z) {
+    final int n = result.length;
+    final int m = Math.min(seed.length, n << 2);
+    for (int j = 0; j < n; j++) {
+      result[j] = 0;
+    }
+    for (int j = 0; j < m; j++) {
+      result[j >> 2] = (result[j >> 2] << 8) | (seed[j] & 0xFF);
+    }
+    int v = result[0];
+    for (int j = (m + 3) >> 2; j < n; j++) {
+      result[j] = mixMurmur32(v += SILVER_RATIO_32);
+    }
+    for (int j = n - z; j < n; j++) {
+      if (result[j] != 0) {
+        return;
+      }
+    }
+    int w = result[0] & ~1;
+    for (int j = n - z; j < n; j++) {
+      result[j] = mixMurmur32(w += SILVER_RATIO_32);
+    }
+  }
+}
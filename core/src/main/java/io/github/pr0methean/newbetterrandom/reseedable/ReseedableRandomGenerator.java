@@ -1,5 +1,6 @@
 package io.github.pr0methean.newbetterrandom.reseedable;
 
+import java.util.Objects;
 import java.util.random.RandomGenerator;
 
 import static java.lang.Byte.toUnsignedLong;
@@ -24,6 +25,98 @@ public interface ReseedableRandomGenerator extends RandomGenerator {
     return (seedEntropyBits() + Byte.SIZE - 1) / Byte.SIZE;
   }
 
+  /**
+   * Fills part of an array with random bytes, in place. Like {@link #nextBytes(byte[])}, the default implementation
+   * uses one {@link #nextLong()} call per 8 bytes, in little-endian order.
+   *
+   * @param bytes the array to fill
+   * @param start the first index to fill
+   * @param length the number of bytes to fill
+   */
+  default void nextBytes(byte[] bytes, int start, int length) {
+    Objects.checkFromIndexSize(start, length, bytes.length);
+    final int end = start + length;
+    int i = start;
+    for (final int lastFullLong = end - Long.BYTES; i <= lastFullLong; i += Long.BYTES) {
+      long random = nextLong();
+      for (int j = 0; j < Long.BYTES; j++) {
+        bytes[i + j] = (byte) random;
+        random >>>= Byte.SIZE;
+      }
+    }
+    if (i < end) {
+      long random = nextLong();
+      for (; i < end; i++) {
+        bytes[i] = (byte) random;
+        random >>>= Byte.SIZE;
+      }
+    }
+  }
+
+  /**
+   * @return true if {@link #split()} and {@link #split(SplittableGenerator)} are supported
+   */
+  default boolean isSplittable() {
+    return false;
+  }
+
+  /**
+   * Creates a new generator of the same kind, whose state is derived from this one's output rather than from a seed,
+   * as {@link SplittableGenerator#split()} does.
+   *
+   * @return the new generator
+   * @throws UnsupportedOperationException if {@link #isSplittable()} is false
+   */
+  default ReseedableRandomGenerator split() {
+    throw new UnsupportedOperationException(getClass().getName() + " isn't splittable");
+  }
+
+  /**
+   * Creates a new generator of the same kind, whose state is derived from {@code source}'s output rather than from a
+   * seed, as {@link SplittableGenerator#split(SplittableGenerator)} does.
+   *
+   * @param source the generator to derive the new one's state from
+   * @return the new generator
+   * @throws UnsupportedOperationException if {@link #isSplittable()} is false
+   */
+  default ReseedableRandomGenerator split(SplittableGenerator source) {
+    throw new UnsupportedOperationException(getClass().getName() + " isn't splittable");
+  }
+
+  /**
+   * @return true if {@link #copy()}, {@link #jump()} and {@link #jumpDistance()} are supported
+   */
+  default boolean isJumpable() {
+    return false;
+  }
+
+  /**
+   * Creates a new generator with the same state as this one, as {@link JumpableGenerator#copy()} does.
+   *
+   * @return the new generator
+   * @throws UnsupportedOperationException if {@link #isJumpable()} is false
+   */
+  default ReseedableRandomGenerator copy() {
+    throw new UnsupportedOperationException(getClass().getName() + " isn't jumpable");
+  }
+
+  /**
+   * Advances the state as {@link JumpableGenerator#jump()} does.
+   *
+   * @throws UnsupportedOperationException if {@link #isJumpable()} is false
+   */
+  default void jump() {
+    throw new UnsupportedOperationException(getClass().getName() + " isn't jumpable");
+  }
+
+  /**
+   * @return the distance that {@link #jump()} advances the state, as {@link JumpableGenerator#jumpDistance()} returns
+   * @throws UnsupportedOperationException if {@link #isJumpable()} is false
+   */
+  default double jumpDistance() {
+    throw new UnsupportedOperationException(getClass().getName() + " isn't jumpable");
+  }
+
   static long bytesToLong(byte[] input, int outputBits) {
     if (outputBits == 0) {
       return 0;
@@ -0,0 +1,85 @@
+package io.github.pr0methean.newbetterrandom.reseedable;
+
+import static io.github.pr0methean.newbetterrandom.reseedable.Mixers.mixStafford13;
+
+/**
+ * The xoroshiro128++ algorithm, producing the same output as the JDK's {@code Xoroshiro128PlusPlus} from the same
+ * {@code long} seed or state, and reseeded by {@link ReseedByPolynomialJumpingRandomGenerator jumping} in multiples of
+ * 2<sup>64</sup> steps.
+ */
+public class ReseedableXoroshiro128PlusPlus extends ReseedByPolynomialJumpingRandomGenerator {
+  private static final int STATE_WORDS = 2;
+  private static final int JUMP_EXPONENT = 64;
+
+  private static final class JumpPolynomialsHolder {
+    private static final JumpPolynomials INSTANCE
+        = JumpPolynomials.compute(new ReseedableXoroshiro128PlusPlus(0), JUMP_EXPONENT - 1, Long.SIZE + 1);
+  }
+
+  private long x0, x1;
+
+  /**
+   * Creates an instance whose initial state is derived from {@code seed} in the same way as the JDK's
+   * {@code Xoroshiro128PlusPlus(long)}.
+   *
+   * @param seed the initial seed
+   */
+  public ReseedableXoroshiro128PlusPlus(long seed) {
+    this(mixStafford13(seed ^= SILVER_RATIO_64), mixStafford13(seed + GOLDEN_RATIO_64));
+  }
+
+  /**
+   * @param x0 the first state word
+   * @param x1 the second state word
+   * @throws IllegalArgumentException if both state words are zero
+   */
+  public ReseedableXoroshiro128PlusPlus(long x0, long x1) {
+    super(STATE_WORDS);
+    if ((x0 | x1) == 0) {
+      throw new IllegalArgumentException("State can't be all zeroes");
+    }
+    this.x0 = x0;
+    this.x1 = x1;
+  }
+
+  @Override
+  public long nextLong() {
+    final long result = Long.rotateLeft(x0 + x1, 17) + x0;
+    step();
+    return result;
+  }
+
+  @Override
+  protected void step() {
+    final long s1 = x1 ^ x0;
+    x0 = Long.rotateLeft(x0, 49) ^ s1 ^ (s1 << 21);
+    x1 = Long.rotateLeft(s1, 28);
+  }
+
+  @Override
+  protected void xorStateInto(long[] words) {
+    words[0] ^= x0;
+    words[1] ^= x1;
+  }
+
+  @Override
+  protected void setState(long[] words) {
+    x0 = words[0];
+    x1 = words[1];
+  }
+
+  @Override
+  JumpPolynomials jumpPolynomials() {
+    return JumpPolynomialsHolder.INSTANCE;
+  }
+
+  @Override
+  protected int jumpExponent() {
+    return JUMP_EXPONENT;
+  }
+
+  @Override
+  public ReseedableXoroshiro128PlusPlus copy() {
+    return new ReseedableXoroshiro128PlusPlus(x0, x1);
+  }
+}
@@ -0,0 +1,100 @@
+package io.github.pr0methean.newbetterrandom.reseedable;
+
+import static io.github.pr0methean.newbetterrandom.reseedable.Mixers.mixStafford13;
+
+/**
+ * The xoshiro256++ algorithm, producing the same output as the JDK's {@code Xoshiro256PlusPlus} from the same
+ * {@code long} seed or state, and reseeded by {@link ReseedByPolynomialJumpingRandomGenerator jumping} in multiples of
+ * 2<sup>128</sup> steps.
+ */
+public class ReseedableXoshiro256PlusPlus extends ReseedByPolynomialJumpingRandomGenerator {
+  private static final int STATE_WORDS = 4;
+  private static final int JUMP_EXPONENT = 128;
+
+  private static final class JumpPolynomialsHolder {
+    private static final JumpPolynomials INSTANCE
+        = JumpPolynomials.compute(new ReseedableXoshiro256PlusPlus(0), JUMP_EXPONENT - 1, Long.SIZE + 1);
+  }
+
+  private long x0, x1, x2, x3;
+
+  /**
+   * Creates an instance whose initial state is derived from {@code seed} in the same way as the JDK's
+   * {@code Xoshiro256PlusPlus(long)}.
+   *
+   * @param seed the initial seed
+   */
+  public ReseedableXoshiro256PlusPlus(long seed) {
+    this(mixStafford13(seed ^= SILVER_RATIO_64),
+        mixStafford13(seed += GOLDEN_RATIO_64),
+        mixStafford13(seed += GOLDEN_RATIO_64),
+        mixStafford13(seed + GOLDEN_RATIO_64));
+  }
+
+  /**
+   * @param x0 the first state word
+   * @param x1 the second state word
+   * @param x2 the third state word
+   * @param x3 the fourth state word
+   * @throws IllegalArgumentException if all the state words are zero
+   */
+  public ReseedableXoshiro256PlusPlus(long x0, long x1, long x2, long x3) {
+    super(STATE_WORDS);
+    if ((x0 | x1 | x2 | x3) == 0) {
+      throw new IllegalArgumentException("State can't be all zeroes");
+    }
+    this.x0 = x0;
+    this.x1 = x1;
+    this.x2 = x2;
+    this.x3 = x3;
+  }
+
+  @Override
+  public long nextLong() {
+    final long result = Long.rotateLeft(x0 + x3, 23) + x0;
+    step();
+    return result;
+  }
+
+  @Override
+  protected void step() {
+    final long t = x1 << 17;
+    x2 ^= x0;
+    x3 ^= x1;
+    x1 ^= x2;
+    x0 ^= x3;
+    x2 ^= t;
+    x3 = Long.rotateLeft(x3, 45);
+  }
+
+  @Override
+  protected void xorStateInto(long[] words) {
+    words[0] ^= x0;
+    words[1] ^= x1;
+    words[2] ^= x2;
+    words[3] ^= x3;
+  }
+
+  @Override
+  protected void setState(long[] words) {
+    x0 = words[0];
+    x1 = words[1];
+    x2 = words[2];
+    x3 = words[3];
+  }
+
+  @Override
+  JumpPolynomials jumpPolynomials() {
+    return JumpPolynomialsHolder.INSTANCE;
+  }
+
+  @Override
+  protected int jumpExponent() {
+    return JUMP_EXPONENT;
+  }
+
+  @Override
+  public ReseedableXoshiro256PlusPlus copy() {
+    return new ReseedableXoshiro256PlusPlus(x0, x1, x2, x3);
+  }
+}
@@ -0,0 +1,221 @@
+package io.github.pr0methean.newbetterrandom.reseedable;
+
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * <p>Like {@link SecureRandomReseedableRandomGeneratorAdapter}, but backed by a pool of {@link SecureRandom} instances,
+ * so that threads sharing it don't all queue on one instance's lock. Each thread draws from its home member, chosen by
+ * hashing its thread ID. If it's given an {@link Executor}, {@link #nextBytes(byte[], int, int)} splits large
+ * requests into chunks and fills them from several members in parallel: the calling thread fills the first from its
+ * home member, and the executor fills the rest from the members after it. Otherwise, the calling thread fills the
+ * whole request from its home member.</p>
+ * <p>{@link #updateSeed(byte[])} splits each seed evenly between all the members, and {@link #desiredSeedSizeBytes()}
+ * asks for enough to give each of them {@link #seedEntropyBits()}; so the entropy that a wrapper credits after a
+ * reseed is what every thread's home member has actually received. {@link #updateSeed(long)} gives every member the
+ * same seed. Since a DRBG mixes a seed into its existing state rather than replacing it, none of the members' output
+ * becomes repeatable, and members that get the same seed still don't produce the same output.</p>
+ */
+public class StripedSecureRandomReseedableRandomGeneratorAdapter implements ReseedableRandomGenerator {
+  private static final long THREAD_ID_MULTIPLIER = 0x9E3779B97F4A7C15L;
+  /**
+   * Smallest chunk that {@link #nextBytes(byte[], int, int)} hands to another member. Smaller ones would cost more to
+   * dispatch than they save.
+   */
+  private static final int MIN_PARALLEL_CHUNK_BYTES = 1 << 14;
+  /**
+   * Largest scratch buffer kept for a member. Requests for parts of arrays are filled through it this many bytes at a
+   * time, since {@link SecureRandom} can only fill a whole array.
+   */
+  private static final int MAX_SCRATCH_BYTES = 1 << 14;
+
+  /**
+   * A member, and the scratch buffer that fills parts of arrays from it. The scratch buffer is only used while
+   * holding the lock on this.
+   */
+  private static final class Member {
+    private final SecureRandom random;
+    private byte[] scratch = new byte[0];
+
+    private Member(SecureRandom random) {
+      this.random = random;
+    }
+
+    private void fill(byte[] bytes, int start, int length) {
+      if (start == 0 && length == bytes.length) {
+        random.nextBytes(bytes);
+        return;
+      }
+      synchronized (this) {
+        final int end = start + length;
+        for (int i = start; i < end; i += MAX_SCRATCH_BYTES) {
+          final int pieceLength = Math.min(end - i, MAX_SCRATCH_BYTES);
+          // Requests of the same length, and all but the last piece of a large one, reuse the buffer
+          if (scratch.length != pieceLength) {
+            scratch = new byte[pieceLength];
+          }
+          random.nextBytes(scratch);
+          System.arraycopy(scratch, 0, bytes, i, pieceLength);
+        }
+      }
+    }
+  }
+
+  private final Member[] members;
+  private final /* @Nullable */ Executor executor;
+  private final int seedEntropyBits;
+
+  /**
+   * Creates an instance whose members are new instances of a {@link SecureRandom} algorithm, each seeded
+   * independently by its provider.
+   *
+   * @param algorithm the algorithm name, such as {@code "DRBG"}
+   * @param memberCount the number of members
+   * @param seedEntropyBits the entropy of each member's state after reseeding
+   * @return a new pooled adapter that fills each request on the calling thread
+   * @throws NoSuchAlgorithmException if no provider supports {@code algorithm}
+   */
+  public static StripedSecureRandomReseedableRandomGeneratorAdapter create(String algorithm, int memberCount,
+      int seedEntropyBits) throws NoSuchAlgorithmException {
+    return create(algorithm, memberCount, seedEntropyBits, null);
+  }
+
+  /**
+   * Creates an instance whose members are new instances of a {@link SecureRandom} algorithm, each seeded
+   * independently by its provider.
+   *
+   * @param algorithm the algorithm name, such as {@code "DRBG"}
+   * @param memberCount the number of members
+   * @param seedEntropyBits the entropy of each member's state after reseeding
+   * @param executor runs the chunks of large requests that the calling thread doesn't fill, or null to fill every
+   *     request on the calling thread
+   * @return a new pooled adapter
+   * @throws NoSuchAlgorithmException if no provider supports {@code algorithm}
+   */
+  public static StripedSecureRandomReseedableRandomGeneratorAdapter create(String algorithm, int memberCount,
+      int seedEntropyBits, /* @Nullable */ Executor executor) throws NoSuchAlgorithmException {
+    if (memberCount <= 0) {
+      throw new IllegalArgumentException("memberCount must be positive, but is " + memberCount);
+    }
+    final SecureRandom[] members = new SecureRandom[memberCount];
+    for (int i = 0; i < memberCount; i++) {
+      members[i] = SecureRandom.getInstance(algorithm);
+    }
+    return new StripedSecureRandomReseedableRandomGeneratorAdapter(members, seedEntropyBits, executor);
+  }
+
+  public StripedSecureRandomReseedableRandomGeneratorAdapter(SecureRandom[] members, int seedEntropyBits) {
+    this(members, seedEntropyBits, null);
+  }
+
+  /**
+   * @param members the {@link SecureRandom} instances to draw from
+   * @param seedEntropyBits the entropy of each member's state after reseeding
+   * @param executor runs the chunks of large requests that the calling thread doesn't fill, or null to fill every
+   *     request on the calling thread
+   */
+  public StripedSecureRandomReseedableRandomGeneratorAdapter(SecureRandom[] members, int seedEntropyBits,
+      /* @Nullable */ Executor executor) {
+    if (members.length == 0) {
+      throw new IllegalArgumentException("Need at least one member");
+    }
+    this.members = new Member[members.length];
+    for (int i = 0; i < members.length; i++) {
+      this.members[i] = new Member(members[i]);
+    }
+    this.seedEntropyBits = seedEntropyBits;
+    this.executor = executor;
+  }
+
+  /**
+   * @return the number of {@link SecureRandom} instances in the pool
+   */
+  public int memberCount() {
+    return members.length;
+  }
+
+  private int homeMember() {
+    final long hash = Thread.currentThread().threadId() * THREAD_ID_MULTIPLIER;
+    return (int) ((hash >>> 32) * members.length >>> 32);
+  }
+
+  /**
+   * Splits {@code seed} into {@link #memberCount()} parts of equal length, and reseeds each member with one of them;
+   * any bytes left over go to the last member. A seed with fewer bytes than there are members is given to every
+   * member whole.
+   *
+   * @param seed the seed, ideally {@link #desiredSeedSizeBytes()} long
+   */
+  @Override
+  public void updateSeed(byte[] seed) {
+    final int partLength = seed.length / members.length;
+    if (partLength == 0) {
+      for (final Member member : members) {
+        member.random.setSeed(seed);
+      }
+      return;
+    }
+    for (int i = 0; i < members.length; i++) {
+      final int end = i == members.length - 1 ? seed.length : (i + 1) * partLength;
+      members[i].random.setSeed(Arrays.copyOfRange(seed, i * partLength, end));
+    }
+  }
+
+  @Override
+  public void updateSeed(long seed) {
+    for (final Member member : members) {
+      member.random.setSeed(seed);
+    }
+  }
+
+  /**
+   * @return the entropy of each member's state after reseeding, which is also what every thread draws from
+   */
+  @Override
+  public int seedEntropyBits() {
+    return seedEntropyBits;
+  }
+
+  /**
+   * @return enough bytes to give every member {@link #seedEntropyBits()} of entropy
+   */
+  @Override
+  public int desiredSeedSizeBytes() {
+    return ReseedableRandomGenerator.super.desiredSeedSizeBytes() * members.length;
+  }
+
+  @Override
+  public long nextLong() {
+    return members[homeMember()].random.nextLong();
+  }
+
+  @Override
+  public void nextBytes(byte[] bytes) {
+    nextBytes(bytes, 0, bytes.length);
+  }
+
+  @Override
+  public void nextBytes(byte[] bytes, int start, int length) {
+    Objects.checkFromIndexSize(start, length, bytes.length);
+    final int home = homeMember();
+    final int chunks = executor == null ? 1 : Math.min(members.length, length / MIN_PARALLEL_CHUNK_BYTES);
+    if (chunks <= 1) {
+      members[home].fill(bytes, start, length);
+      return;
+    }
+    final CompletableFuture<?>[] otherChunks = new CompletableFuture<?>[chunks - 1];
+    for (int chunk = 1; chunk < chunks; chunk++) {
+      final int chunkStart = start + (int) ((long) length * chunk / chunks);
+      final int chunkEnd = start + (int) ((long) length * (chunk + 1) / chunks);
+      final Member member = members[(home + chunk) % members.length];
+      otherChunks[chunk - 1] = CompletableFuture.runAsync(
+          () -> member.fill(bytes, chunkStart, chunkEnd - chunkStart), executor);
+    }
+    members[home].fill(bytes, start, (int) ((long) length / chunks));
+    CompletableFuture.allOf(otherChunks).join();
+  }
+}
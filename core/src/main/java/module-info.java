@@ -3,5 +3,7 @@ module io.github.pr0methean.newbetterrandom.core {
   exports io.github.pr0methean.newbetterrandom.buffer;
   exports io.github.pr0methean.newbetterrandom.producer;
   exports io.github.pr0methean.newbetterrandom.reseedable;
+  requires java.management;
+  requires jdk.jfr;
   requires jsr305;
 }
\ No newline at end of file
@@ -4,6 +4,8 @@ import java.lang.reflect.AnnotatedType;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
 import java.util.Arrays;
 import java.util.Map;
 import java.util.function.Consumer;
@@ -54,11 +56,16 @@ public enum TestUtils {
         final Object[] constructorParams = new Object[nParams];
         try {
           for (int i = 0; i < nParams; i++) {
-            Object parameter = params.get(parameterTypes[i].getType());
+            Type type = parameterTypes[i].getType();
+            if (type instanceof ParameterizedType parameterized) {
+              // Keyed by the raw type, such as VectorSpecies for VectorSpecies<Long>
+              type = parameterized.getRawType();
+            }
+            Object parameter = params.get(type);
             if (parameter == null && !(parameterTypes[i].isAnnotationPresent(Nullable.class))) {
               Assertions.fail("No parameter found for type " + parameterTypes[i]);
             }
-            constructorParams[i] = params.get(parameterTypes[i]);
+            constructorParams[i] = parameter;
           }
           test.accept((T) constructor.newInstance(constructorParams));
         } catch (final IllegalAccessException | InstantiationException | InvocationTargetException | IllegalArgumentException e) {
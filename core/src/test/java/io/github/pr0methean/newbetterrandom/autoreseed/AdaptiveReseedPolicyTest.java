@@ -0,0 +1,109 @@
+package io.github.pr0methean.newbetterrandom.autoreseed;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.github.pr0methean.newbetterrandom.buffer.AtomicByteRingBufferUsingByteBuffer;
+import io.github.pr0methean.newbetterrandom.buffer.ByteQueue;
+import org.junit.jupiter.api.Test;
+
+public class AdaptiveReseedPolicyTest {
+  private static final int BUFFER_SIZE = 1 << 8;
+  private static final Duration SHORT_INTERVAL = Duration.ofMillis(1);
+
+  private final ByteQueue seedBuffer = new AtomicByteRingBufferUsingByteBuffer(BUFFER_SIZE);
+  private final AtomicLong bytesDelivered = new AtomicLong();
+
+  private void fillSeedBuffer() {
+    assertEquals(BUFFER_SIZE, seedBuffer.offer(new byte[BUFFER_SIZE], 0, BUFFER_SIZE));
+  }
+
+  /**
+   * Waits for the sampling interval to pass, then takes a sample.
+   */
+  private static double sampleSupplyLevel(AdaptiveReseedPolicy policy) throws InterruptedException {
+    Thread.sleep(5);
+    return policy.getSupplyLevel();
+  }
+
+  @Test
+  public void testRejectsNonPositiveInterval() {
+    assertThrows(IllegalArgumentException.class,
+        () -> new AdaptiveReseedPolicy(seedBuffer, bytesDelivered::get, Duration.ZERO));
+    assertThrows(IllegalArgumentException.class,
+        () -> new AdaptiveReseedPolicy(seedBuffer, bytesDelivered::get, Duration.ofMillis(-1)));
+  }
+
+  @Test
+  public void testSamplesAtMostOncePerInterval() {
+    final AtomicLong samples = new AtomicLong();
+    final AdaptiveReseedPolicy policy = new AdaptiveReseedPolicy(seedBuffer, () -> {
+      samples.incrementAndGet();
+      return bytesDelivered.get();
+    }, Duration.ofHours(1));
+    fillSeedBuffer();
+    bytesDelivered.set(BUFFER_SIZE);
+    assertEquals(0.5, policy.getSupplyLevel());
+    assertEquals(500, policy.adjustDesiredEntropyBits(500, 100, 900));
+    // Only read by the constructor
+    assertEquals(1, samples.get());
+  }
+
+  @Test
+  public void testEmptyBufferWithoutFlow() throws InterruptedException {
+    final AdaptiveReseedPolicy policy = new AdaptiveReseedPolicy(seedBuffer, bytesDelivered::get, SHORT_INTERVAL);
+    assertEquals(0.25, sampleSupplyLevel(policy));
+    // A quarter of the way from the minimum to the maximum, so halfway from the minimum to the desired level
+    assertEquals(300, policy.adjustDesiredEntropyBits(500, 100, 900));
+  }
+
+  @Test
+  public void testEmptyBufferWithOnlyConsumption() throws InterruptedException {
+    final AdaptiveReseedPolicy policy = new AdaptiveReseedPolicy(seedBuffer, bytesDelivered::get, SHORT_INTERVAL);
+    policy.recordReseed(16);
+    assertEquals(0, sampleSupplyLevel(policy));
+    assertEquals(100, policy.adjustDesiredEntropyBits(500, 100, 900));
+  }
+
+  @Test
+  public void testEmptyBufferWithOnlyDelivery() throws InterruptedException {
+    final AdaptiveReseedPolicy policy = new AdaptiveReseedPolicy(seedBuffer, bytesDelivered::get, SHORT_INTERVAL);
+    bytesDelivered.addAndGet(16);
+    assertEquals(0.5, sampleSupplyLevel(policy));
+    assertEquals(500, policy.adjustDesiredEntropyBits(500, 100, 900));
+  }
+
+  @Test
+  public void testFullBufferWithoutFlow() throws InterruptedException {
+    final AdaptiveReseedPolicy policy = new AdaptiveReseedPolicy(seedBuffer, bytesDelivered::get, SHORT_INTERVAL);
+    fillSeedBuffer();
+    assertEquals(0.75, sampleSupplyLevel(policy));
+    assertEquals(700, policy.adjustDesiredEntropyBits(500, 100, 900));
+    // Never lowered when the maximum is below the desired level
+    assertEquals(500, policy.adjustDesiredEntropyBits(500, 100, 400));
+  }
+
+  @Test
+  public void testFullBufferWithOnlyDelivery() throws InterruptedException {
+    final AdaptiveReseedPolicy policy = new AdaptiveReseedPolicy(seedBuffer, bytesDelivered::get, SHORT_INTERVAL);
+    fillSeedBuffer();
+    bytesDelivered.addAndGet(BUFFER_SIZE);
+    assertEquals(1, sampleSupplyLevel(policy));
+    assertEquals(900, policy.adjustDesiredEntropyBits(500, 100, 900));
+  }
+
+  @Test
+  public void testRatesAreSmoothed() throws InterruptedException {
+    final AdaptiveReseedPolicy policy = new AdaptiveReseedPolicy(seedBuffer, bytesDelivered::get, SHORT_INTERVAL);
+    bytesDelivered.addAndGet(1 << 20);
+    assertEquals(0.5, sampleSupplyLevel(policy));
+    // The delivery rate from the first sample decays rather than vanishing, so consumption doesn't take over at once
+    policy.recordReseed(1 << 20);
+    final double level = sampleSupplyLevel(policy);
+    assertTrue(level > 0 && level < 0.5, "Supply level " + level);
+  }
+}
@@ -0,0 +1,117 @@
+package io.github.pr0methean.newbetterrandom.autoreseed;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.github.pr0methean.newbetterrandom.buffer.AtomicByteRingBufferUsingByteBuffer;
+import io.github.pr0methean.newbetterrandom.buffer.ByteQueue;
+import io.github.pr0methean.newbetterrandom.reseedable.ReseedableRandomGenerator;
+
+enum AutoreseedTestUtils {
+  ;
+
+  static final int SEED_BUFFER_SIZE = 1 << 12;
+
+  /**
+   * @return a seed buffer that's already full of random bytes
+   */
+  static ByteQueue createFullSeedBuffer() {
+    final ByteQueue seedBuffer = new AtomicByteRingBufferUsingByteBuffer(SEED_BUFFER_SIZE);
+    final byte[] seed = new byte[SEED_BUFFER_SIZE];
+    new SplittableRandom().nextBytes(seed);
+    seedBuffer.offer(seed, 0, SEED_BUFFER_SIZE);
+    return seedBuffer;
+  }
+
+  /**
+   * Starts a daemon thread that keeps {@code seedBuffer} topped up with random bytes until it's closed. Random rather
+   * than constant bytes, so that every reseed gives a different state.
+   *
+   * @return the writing thread
+   */
+  static Thread startSeedWriter(ByteQueue seedBuffer) {
+    return Thread.ofPlatform().daemon(true).name("seed writer").start(() -> {
+      final SplittableRandom random = new SplittableRandom();
+      final byte[] seed = new byte[64];
+      try {
+        while (!seedBuffer.isClosed()) {
+          random.nextBytes(seed);
+          seedBuffer.write(seed, 0, seed.length);
+        }
+      } catch (InterruptedException | IllegalStateException e) {
+        // Closed
+      }
+    });
+  }
+
+  /**
+   * Thread-safe SplitMix64 that counts its reseeds, with a configurable seed size.
+   */
+  static class CountingSplitMix implements ReseedableRandomGenerator {
+    private final AtomicLong state;
+    private final int seedEntropyBits;
+    final AtomicInteger reseeds = new AtomicInteger();
+
+    CountingSplitMix(long seed) {
+      this(seed, 128);
+    }
+
+    CountingSplitMix(long seed, int seedEntropyBits) {
+      state = new AtomicLong(seed);
+      this.seedEntropyBits = seedEntropyBits;
+    }
+
+    @Override
+    public void updateSeed(byte[] seed) {
+      updateSeed(ReseedableRandomGenerator.bytesToLong(seed, Long.SIZE));
+    }
+
+    @Override
+    public void updateSeed(long seed) {
+      reseeds.incrementAndGet();
+      state.set(seed);
+    }
+
+    @Override
+    public int seedEntropyBits() {
+      return seedEntropyBits;
+    }
+
+    @Override
+    public long nextLong() {
+      long z = state.addAndGet(GOLDEN_RATIO_64);
+      z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+      z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+      return z ^ (z >>> 31);
+    }
+  }
+
+  /**
+   * {@link CountingSplitMix} that fails if it's reseeded after generating output, as a generator still in use would
+   * be, and counts its instances.
+   */
+  static class ReseedOnceRandom extends CountingSplitMix {
+    static final AtomicInteger INSTANCES = new AtomicInteger();
+    private volatile boolean generated;
+
+    ReseedOnceRandom(long seed) {
+      super(seed);
+      INSTANCES.incrementAndGet();
+    }
+
+    @Override
+    public void updateSeed(long seed) {
+      if (generated) {
+        throw new AssertionError("Reseeded after generating output");
+      }
+      super.updateSeed(seed);
+    }
+
+    @Override
+    public long nextLong() {
+      generated = true;
+      return super.nextLong();
+    }
+  }
+}
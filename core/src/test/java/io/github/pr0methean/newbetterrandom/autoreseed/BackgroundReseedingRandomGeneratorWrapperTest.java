@@ -0,0 +1,89 @@
+package io.github.pr0methean.newbetterrandom.autoreseed;
+
+import static io.github.pr0methean.newbetterrandom.autoreseed.AutoreseedTestUtils.createFullSeedBuffer;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import io.github.pr0methean.newbetterrandom.autoreseed.AutoreseedTestUtils.CountingSplitMix;
+import io.github.pr0methean.newbetterrandom.buffer.AtomicByteRingBufferUsingByteBuffer;
+import io.github.pr0methean.newbetterrandom.buffer.ByteQueue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+public class BackgroundReseedingRandomGeneratorWrapperTest {
+  @Timeout(value = 1, unit = TimeUnit.SECONDS)
+  @Test
+  public void testSwapsInReseededSpare() {
+    final CountingSplitMix spare = new CountingSplitMix(2);
+    try (BackgroundReseedingRandomGeneratorWrapper wrapper = new BackgroundReseedingRandomGeneratorWrapper(
+        new CountingSplitMix(1), spare, 0, 0, createFullSeedBuffer())) {
+      // The third call is below the minimum level, so it waits for the spare; with no desired level above the
+      // minimum, nothing can swap before then, or swap the original back in afterwards
+      wrapper.nextLong();
+      wrapper.nextLong();
+      wrapper.nextLong();
+      assertSame(spare, wrapper.delegate);
+      assertEquals(1, spare.reseeds.get());
+    }
+  }
+
+  @Timeout(value = 1, unit = TimeUnit.SECONDS)
+  @Test
+  public void testClosedSeedBuffer() {
+    final ByteQueue seedBuffer = new AtomicByteRingBufferUsingByteBuffer(1 << 8);
+    seedBuffer.close();
+    try (BackgroundReseedingRandomGeneratorWrapper wrapper = new BackgroundReseedingRandomGeneratorWrapper(
+        new CountingSplitMix(1), new CountingSplitMix(2), 64, 0, seedBuffer)) {
+      wrapper.nextLong();
+      wrapper.nextLong();
+      assertThrows(IllegalStateException.class, wrapper::nextLong);
+    }
+  }
+
+  @Timeout(value = 1, unit = TimeUnit.SECONDS)
+  @Test
+  public void testSeedBufferClosedWhileWaiting() {
+    final ByteQueue seedBuffer = new AtomicByteRingBufferUsingByteBuffer(1 << 8);
+    try (BackgroundReseedingRandomGeneratorWrapper wrapper = new BackgroundReseedingRandomGeneratorWrapper(
+        new CountingSplitMix(1), new CountingSplitMix(2), 64, 0, seedBuffer)) {
+      final CompletableFuture<Void> waiter = CompletableFuture.runAsync(() -> {
+        wrapper.nextLong();
+        wrapper.nextLong();
+        wrapper.nextLong();
+      });
+      seedBuffer.close();
+      final ExecutionException e = assertThrows(ExecutionException.class, waiter::get);
+      assertInstanceOf(IllegalStateException.class, e.getCause());
+    }
+  }
+
+  @Timeout(value = 1, unit = TimeUnit.SECONDS)
+  @Test
+  public void testClose() {
+    final BackgroundReseedingRandomGeneratorWrapper wrapper = new BackgroundReseedingRandomGeneratorWrapper(
+        new CountingSplitMix(1), new CountingSplitMix(2), 64, 0, new AtomicByteRingBufferUsingByteBuffer(1 << 8));
+    final CompletableFuture<Void> waiter = CompletableFuture.runAsync(() -> {
+      wrapper.nextLong();
+      wrapper.nextLong();
+      wrapper.nextLong();
+    });
+    wrapper.close();
+    final ExecutionException e = assertThrows(ExecutionException.class, waiter::get);
+    assertInstanceOf(IllegalStateException.class, e.getCause());
+    // Also once closed, even though there's a seed to use
+    final ByteQueue seedBuffer = createFullSeedBuffer();
+    // No desired level above the minimum, so the spare can only be swapped in by waiting for it
+    final BackgroundReseedingRandomGeneratorWrapper closed = new BackgroundReseedingRandomGeneratorWrapper(
+        new CountingSplitMix(1), new CountingSplitMix(2), 0, 0, seedBuffer);
+    closed.close();
+    closed.nextLong();
+    closed.nextLong();
+    assertThrows(IllegalStateException.class, closed::nextLong);
+  }
+}
@@ -0,0 +1,147 @@
+package io.github.pr0methean.newbetterrandom.autoreseed;
+
+import static io.github.pr0methean.newbetterrandom.autoreseed.AutoreseedTestUtils.createFullSeedBuffer;
+import static io.github.pr0methean.newbetterrandom.autoreseed.AutoreseedTestUtils.startSeedWriter;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.github.pr0methean.newbetterrandom.autoreseed.AutoreseedTestUtils.CountingSplitMix;
+import io.github.pr0methean.newbetterrandom.autoreseed.AutoreseedTestUtils.ReseedOnceRandom;
+import io.github.pr0methean.newbetterrandom.buffer.AtomicByteRingBufferUsingByteBuffer;
+import io.github.pr0methean.newbetterrandom.buffer.ByteQueue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+public class ConcurrentEntropyManagingRandomGeneratorWrapperTest {
+  private static final int THREADS = 4;
+
+  @Test
+  public void testRejectsMismatchedSpares() {
+    final ByteQueue seedBuffer = new AtomicByteRingBufferUsingByteBuffer(1 << 8);
+    final ReseedOnceRandom delegate = new ReseedOnceRandom(1);
+    assertThrows(IllegalArgumentException.class, () -> new ConcurrentEntropyManagingRandomGeneratorWrapper(
+        delegate, () -> delegate, 64, 32, seedBuffer));
+    assertThrows(IllegalArgumentException.class, () -> new ConcurrentEntropyManagingRandomGeneratorWrapper(
+        delegate, () -> new ReseedOnceRandom(2) {
+          @Override
+          public int seedEntropyBits() {
+            return 256;
+          }
+        }, 64, 32, seedBuffer));
+  }
+
+  @Test
+  public void testReseedsSpareAndSwapsItIn() {
+    final ReseedOnceRandom delegate = new ReseedOnceRandom(1);
+    final ConcurrentEntropyManagingRandomGeneratorWrapper wrapper = new ConcurrentEntropyManagingRandomGeneratorWrapper(
+        delegate, 128, () -> new ReseedOnceRandom(2), 64, 32, createFullSeedBuffer(), 1);
+    // 64 bits above the desired level, so the second call tries to reseed
+    wrapper.nextLong();
+    assertSame(delegate, wrapper.delegate);
+    wrapper.nextLong();
+    assertNotSame(delegate, wrapper.delegate);
+    assertEquals(0, delegate.reseeds.get());
+    assertEquals(1, ((ReseedOnceRandom) wrapper.delegate).reseeds.get());
+  }
+
+  /**
+   * The stripe's share is smaller than its reserve plus one debit, so a forced reseed that also charged the debt the
+   * old generator had run up would leave it below the reserve again, and the next debit would force another.
+   */
+  @Timeout(value = 1, unit = TimeUnit.SECONDS)
+  @Test
+  public void testForcedReseedOnlyChargesCurrentDebit() {
+    final ByteQueue seedBuffer = new AtomicByteRingBufferUsingByteBuffer(1 << 8);
+    final CountingSplitMix delegate = new CountingSplitMix(1, 256);
+    // Share of 128 bits and a reserve of 96
+    final ConcurrentEntropyManagingRandomGeneratorWrapper wrapper = new ConcurrentEntropyManagingRandomGeneratorWrapper(
+        delegate, 256, () -> new CountingSplitMix(2, 256), 128, 32, seedBuffer, 1);
+    wrapper.nextLong();
+    wrapper.nextLong();
+    // Into the reserve, and there's no seed to try
+    wrapper.nextLong();
+    assertSame(delegate, wrapper.delegate);
+    final int seedSize = delegate.desiredSeedSizeBytes();
+    assertEquals(seedSize, seedBuffer.offer(new byte[seedSize], 0, seedSize));
+    seedBuffer.close();
+    // Below the reserve, so this reseeds from the only seed there'll ever be
+    wrapper.nextLong();
+    assertNotSame(delegate, wrapper.delegate);
+    // 64 bits were debited from the new generator, so two more calls fit in its share and reserve
+    wrapper.nextLong();
+    wrapper.nextLong();
+    assertThrows(IllegalStateException.class, wrapper::nextLong);
+  }
+
+  @Timeout(value = 10, unit = TimeUnit.SECONDS)
+  @Test
+  public void testNextBytesReseedsBetweenBlocks() throws InterruptedException {
+    final ByteQueue seedBuffer = createFullSeedBuffer();
+    final Thread writer = startSeedWriter(seedBuffer);
+    final AtomicInteger spares = new AtomicInteger();
+    try {
+      // Share of 256 bits and a reserve of 128
+      final ConcurrentEntropyManagingRandomGeneratorWrapper wrapper
+          = new ConcurrentEntropyManagingRandomGeneratorWrapper(new CountingSplitMix(1, 512), 512, () -> {
+            spares.incrementAndGet();
+            return new CountingSplitMix(2, 512);
+          }, 256, 128, seedBuffer, 1);
+      final int bytes = 1 << 16;
+      wrapper.nextBytes(new byte[bytes]);
+      // At most the share and reserve between reseeds
+      assertTrue(spares.get() > bytes * Byte.SIZE / 384, "Only " + spares.get() + " reseeds");
+      final int sparesBefore = spares.get();
+      for (int i = 0; i < 100; i++) {
+        wrapper.nextLong();
+      }
+      // Each reseed leaves at least the share, less one debit, for the calls after it
+      assertTrue(spares.get() - sparesBefore <= 100 / 3 + 1,
+          (spares.get() - sparesBefore) + " reseeds in 100 calls");
+    } finally {
+      seedBuffer.close();
+      writer.join();
+    }
+  }
+
+  @Timeout(value = 10, unit = TimeUnit.SECONDS)
+  @Test
+  public void testConcurrentUseNeverReseedsDelegateInUse() throws InterruptedException {
+    final ByteQueue seedBuffer = createFullSeedBuffer();
+    final Thread writer = startSeedWriter(seedBuffer);
+    final int instancesBefore = ReseedOnceRandom.INSTANCES.get();
+    try {
+      final ConcurrentEntropyManagingRandomGeneratorWrapper wrapper
+          = new ConcurrentEntropyManagingRandomGeneratorWrapper(new ReseedOnceRandom(1), 128,
+              () -> new ReseedOnceRandom(2), 64, 32, seedBuffer, THREADS);
+      final AtomicReference<Throwable> failure = new AtomicReference<>();
+      final Thread[] threads = new Thread[THREADS];
+      for (int i = 0; i < THREADS; i++) {
+        threads[i] = new Thread(() -> {
+          for (int j = 0; j < 20_000; j++) {
+            wrapper.nextLong();
+          }
+          wrapper.nextBytes(new byte[1 << 10]);
+        });
+        threads[i].setUncaughtExceptionHandler((thread, e) -> failure.compareAndSet(null, e));
+        threads[i].start();
+      }
+      for (final Thread thread : threads) {
+        thread.join();
+      }
+      assertNull(failure.get());
+      // Every stripe has only 16 bits above the desired level, so there must have been plenty of swaps
+      assertTrue(ReseedOnceRandom.INSTANCES.get() - instancesBefore > 100);
+    } finally {
+      seedBuffer.close();
+      writer.join();
+    }
+  }
+}
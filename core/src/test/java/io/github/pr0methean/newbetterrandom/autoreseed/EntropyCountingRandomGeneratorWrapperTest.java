@@ -0,0 +1,116 @@
+package io.github.pr0methean.newbetterrandom.autoreseed;
+
+import static io.github.pr0methean.newbetterrandom.autoreseed.AutoreseedTestUtils.createFullSeedBuffer;
+import static io.github.pr0methean.newbetterrandom.autoreseed.AutoreseedTestUtils.startSeedWriter;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.TimeUnit;
+
+import io.github.pr0methean.newbetterrandom.autoreseed.AutoreseedTestUtils.CountingSplitMix;
+import io.github.pr0methean.newbetterrandom.buffer.ByteQueue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+public class EntropyCountingRandomGeneratorWrapperTest {
+  /**
+   * Records every debit.
+   */
+  private static class DebitRecordingWrapper extends EntropyCountingRandomGeneratorWrapper {
+    final List<Long> debits = new ArrayList<>();
+    private final long maxValuesPerDebit;
+
+    DebitRecordingWrapper(long maxValuesPerDebit) {
+      super(new CountingSplitMix(1));
+      this.maxValuesPerDebit = maxValuesPerDebit;
+    }
+
+    @Override
+    protected void debitEntropy(long amount) {
+      super.debitEntropy(amount);
+      debits.add(amount);
+    }
+
+    @Override
+    protected long maxValuesPerDebit(long bitsPerValue) {
+      return maxValuesPerDebit;
+    }
+  }
+
+  @Test
+  public void testStreamsMatchDelegate() {
+    assertArrayEquals(new CountingSplitMix(1).ints(3000).toArray(),
+        new EntropyCountingRandomGeneratorWrapper(new CountingSplitMix(1)).ints(3000).toArray());
+    assertArrayEquals(new CountingSplitMix(1).longs(3000).toArray(),
+        new EntropyCountingRandomGeneratorWrapper(new CountingSplitMix(1)).longs(3000).toArray());
+    assertArrayEquals(new CountingSplitMix(1).doubles(3000).toArray(),
+        new EntropyCountingRandomGeneratorWrapper(new CountingSplitMix(1)).doubles(3000).toArray());
+    assertEquals(12345, new EntropyCountingRandomGeneratorWrapper(new CountingSplitMix(1)).longs().limit(12345)
+        .count());
+  }
+
+  @Test
+  public void testOneDebitPerBlock() {
+    final DebitRecordingWrapper wrapper = new DebitRecordingWrapper(Long.MAX_VALUE);
+    wrapper.longs(3000).forEach(value -> {});
+    // Capped at MAX_STREAM_BLOCK_SIZE values per block
+    assertEquals(List.of(1024L * Long.SIZE, 1024L * Long.SIZE, 952L * Long.SIZE), wrapper.debits);
+    assertEquals(128 - 3000L * Long.SIZE, wrapper.entropy);
+    wrapper.debits.clear();
+    wrapper.doubles(10).forEach(value -> {});
+    assertEquals(List.of(10 * EntropyCountingRandomGeneratorWrapper.RANDOM_BITS_PER_DOUBLE), wrapper.debits);
+  }
+
+  @Test
+  public void testMaxValuesPerDebitLimitsBlocks() {
+    final DebitRecordingWrapper wrapper = new DebitRecordingWrapper(100);
+    wrapper.ints(250).forEach(value -> {});
+    assertEquals(List.of(100L * Integer.SIZE, 100L * Integer.SIZE, 50L * Integer.SIZE), wrapper.debits);
+    wrapper.debits.clear();
+    // Values taken one at a time are debited one at a time
+    final Spliterator.OfInt spliterator = wrapper.ints(2).spliterator();
+    assertTrue(spliterator.tryAdvance((int value) -> {}));
+    assertEquals(List.of((long) Integer.SIZE), wrapper.debits);
+    assertEquals(1, spliterator.estimateSize());
+    assertNull(spliterator.trySplit());
+  }
+
+  @Test
+  public void testNegativeStreamSize() {
+    final EntropyCountingRandomGeneratorWrapper wrapper = new EntropyCountingRandomGeneratorWrapper(
+        new CountingSplitMix(1));
+    assertThrows(IllegalArgumentException.class, () -> wrapper.longs(-1));
+  }
+
+  @Timeout(value = 10, unit = TimeUnit.SECONDS)
+  @Test
+  public void testManagedStreamBlocksNeedAtMostOneReseed() throws InterruptedException {
+    final CountingSplitMix delegate = new CountingSplitMix(1, 1024);
+    final long minimumEntropyBits = 100;
+    final ByteQueue seedBuffer = createFullSeedBuffer();
+    final Thread writer = startSeedWriter(seedBuffer);
+    try {
+      final EntropyManagingRandomGeneratorWrapper wrapper = new EntropyManagingRandomGeneratorWrapper(delegate, 512,
+          minimumEntropyBits, seedBuffer) {
+        @Override
+        protected void debitEntropy(long amount) {
+          super.debitEntropy(amount);
+          // Would fail if a block could use more than one seed's worth of entropy above the minimum
+          assertTrue(entropy >= minimumEntropyBits);
+        }
+      };
+      assertEquals(5000, wrapper.doubles(5000).map(value -> 1).sum());
+      assertEquals(5000, wrapper.longs(5000).map(value -> 1).sum());
+      assertTrue(delegate.reseeds.get() > 0);
+    } finally {
+      seedBuffer.close();
+      writer.join();
+    }
+  }
+}
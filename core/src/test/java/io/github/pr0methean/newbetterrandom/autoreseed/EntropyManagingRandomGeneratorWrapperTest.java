@@ -0,0 +1,102 @@
+package io.github.pr0methean.newbetterrandom.autoreseed;
+
+import static io.github.pr0methean.newbetterrandom.autoreseed.AutoreseedTestUtils.createFullSeedBuffer;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+import java.security.SecureRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.random.RandomGeneratorFactory;
+
+import io.github.pr0methean.newbetterrandom.autoreseed.AutoreseedTestUtils.CountingSplitMix;
+import io.github.pr0methean.newbetterrandom.buffer.AtomicByteRingBufferUsingByteBuffer;
+import io.github.pr0methean.newbetterrandom.buffer.ByteQueue;
+import io.github.pr0methean.newbetterrandom.reseedable.ReseedByReplacingRandomGenerator;
+import io.github.pr0methean.newbetterrandom.reseedable.SecureRandomReseedableRandomGeneratorAdapter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+public class EntropyManagingRandomGeneratorWrapperTest {
+  @Test
+  public void testNextBytesFillsInPlaceWithOneDebit() {
+    final CountingSplitMix delegate = new CountingSplitMix(1, 1024);
+    final EntropyManagingRandomGeneratorWrapper wrapper
+        = new EntropyManagingRandomGeneratorWrapper(delegate, 64, 0, createFullSeedBuffer());
+    final byte[] output = new byte[100];
+    wrapper.nextBytes(output);
+    final byte[] expected = new byte[100];
+    new CountingSplitMix(1).nextBytes(expected);
+    assertArrayEquals(expected, output);
+    assertEquals(1024 - 100 * Byte.SIZE, wrapper.entropy);
+    assertEquals(0, delegate.reseeds.get());
+  }
+
+  @Test
+  public void testNextBytesReseedsBetweenBlocks() {
+    final CountingSplitMix delegate = new CountingSplitMix(1);
+    final EntropyManagingRandomGeneratorWrapper wrapper
+        = new EntropyManagingRandomGeneratorWrapper(delegate, 64, 0, createFullSeedBuffer());
+    wrapper.nextBytes(new byte[1024]);
+    // Each block uses the 64 bits above the desired level, so all but the first need a reseed
+    assertEquals(1024 * Byte.SIZE / 64 - 1, delegate.reseeds.get());
+    assertEquals(64, wrapper.entropy);
+  }
+
+  @Timeout(value = 1, unit = TimeUnit.SECONDS)
+  @Test
+  public void testDebitEntropyComparesRemainingEntropyToThresholds() throws InterruptedException {
+    final CountingSplitMix delegate = new CountingSplitMix(1);
+    final ByteQueue seedBuffer = new AtomicByteRingBufferUsingByteBuffer(1 << 8);
+    final EntropyManagingRandomGeneratorWrapper wrapper
+        = new EntropyManagingRandomGeneratorWrapper(delegate, 64, 0, seedBuffer);
+    wrapper.nextLong();
+    assertEquals(64, wrapper.entropy);
+    // Below the desired level, but there's no seed to try
+    wrapper.nextLong();
+    assertEquals(0, wrapper.entropy);
+    assertEquals(0, delegate.reseeds.get());
+    seedBuffer.write(new byte[] {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16}, 0, 16);
+    // Below the minimum level, so this must reseed, then debit the new state
+    wrapper.nextLong();
+    assertEquals(1, delegate.reseeds.get());
+    assertEquals(64, wrapper.entropy);
+    seedBuffer.write(new byte[16], 0, 16);
+    // Below the desired level again, and now there's a seed to try
+    wrapper.nextLong();
+    assertEquals(2, delegate.reseeds.get());
+    assertEquals(64, wrapper.entropy);
+  }
+
+  @Test
+  public void testCreatePicksMostCapableWrapper() {
+    final ByteQueue seedBuffer = createFullSeedBuffer();
+    assertInstanceOf(SplittableEntropyManagingRandomGeneratorWrapper.class,
+        EntropyManagingRandomGeneratorWrapper.create(new ReseedByReplacingRandomGenerator(
+            RandomGeneratorFactory.of("L64X128MixRandom")), 64, 0, seedBuffer, null));
+    assertInstanceOf(JumpableEntropyManagingRandomGeneratorWrapper.class,
+        EntropyManagingRandomGeneratorWrapper.create(new ReseedByReplacingRandomGenerator(
+            RandomGeneratorFactory.of("Xoshiro256PlusPlus")), 64, 0, seedBuffer, null));
+    assertEquals(EntropyManagingRandomGeneratorWrapper.class, EntropyManagingRandomGeneratorWrapper.create(
+        new SecureRandomReseedableRandomGeneratorAdapter(new SecureRandom(), 256), 64, 0, seedBuffer, null)
+        .getClass());
+  }
+
+  @Test
+  public void testShareEntropy() {
+    final EntropyManagingRandomGeneratorWrapper wrapper
+        = new EntropyManagingRandomGeneratorWrapper(new CountingSplitMix(1, 1024), 128, 64, createFullSeedBuffer());
+    // Half of the 960 bits above the minimum level
+    assertEquals(64 + 480, wrapper.shareEntropy());
+    assertEquals(1024 - 480, wrapper.entropy);
+    assertEquals(64 + 240, wrapper.shareEntropy());
+    assertEquals(1024 - 480 - 240, wrapper.entropy);
+    // Nothing to share at or below the minimum level
+    wrapper.entropy = 64;
+    assertEquals(64, wrapper.shareEntropy());
+    assertEquals(64, wrapper.entropy);
+    wrapper.entropy = 0;
+    assertEquals(64, wrapper.shareEntropy());
+    assertEquals(0, wrapper.entropy);
+  }
+}
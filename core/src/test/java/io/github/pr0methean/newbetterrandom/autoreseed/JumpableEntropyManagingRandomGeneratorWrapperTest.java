@@ -0,0 +1,56 @@
+package io.github.pr0methean.newbetterrandom.autoreseed;
+
+import static io.github.pr0methean.newbetterrandom.autoreseed.AutoreseedTestUtils.SEED_BUFFER_SIZE;
+import static io.github.pr0methean.newbetterrandom.autoreseed.AutoreseedTestUtils.createFullSeedBuffer;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+import java.util.stream.Collectors;
+
+import io.github.pr0methean.newbetterrandom.buffer.ByteQueue;
+import io.github.pr0methean.newbetterrandom.reseedable.ReseedByReplacingRandomGenerator;
+import io.github.pr0methean.newbetterrandom.reseedable.ReseedableRandomGenerator;
+import org.junit.jupiter.api.Test;
+
+public class JumpableEntropyManagingRandomGeneratorWrapperTest {
+  private final ByteQueue seedBuffer = createFullSeedBuffer();
+  private final ReseedableRandomGenerator delegate
+      = new ReseedByReplacingRandomGenerator(RandomGeneratorFactory.of("Xoshiro256PlusPlus"));
+  // Never reseeds unless the entropy runs out
+  private final JumpableEntropyManagingRandomGeneratorWrapper wrapper
+      = new JumpableEntropyManagingRandomGeneratorWrapper(delegate, delegate.seedEntropyBits(), 0, 0, seedBuffer, null);
+
+  @Test
+  public void testRejectsUnjumpableDelegate() {
+    assertThrows(IllegalArgumentException.class, () -> new JumpableEntropyManagingRandomGeneratorWrapper(
+        new AutoreseedTestUtils.CountingSplitMix(1), 128, 64, 0, seedBuffer, null));
+  }
+
+  @Test
+  public void testCopyRepeatsOutputAndSharesEntropy() {
+    final JumpableEntropyManagingRandomGeneratorWrapper copy = wrapper.copy();
+    assertEquals(delegate.seedEntropyBits() / 2, copy.entropy);
+    assertEquals(delegate.seedEntropyBits() / 2, wrapper.entropy);
+    for (int i = 0; i < 2; i++) {
+      assertEquals(wrapper.nextLong(), copy.nextLong());
+    }
+    assertEquals(SEED_BUFFER_SIZE, seedBuffer.getFillLevel());
+  }
+
+  @Test
+  public void testJumps() {
+    assertEquals(delegate.jumpDistance(), wrapper.jumpDistance());
+    final List<RandomGenerator> copies = wrapper.jumps(3).collect(Collectors.toCollection(ArrayList::new));
+    // Each copy takes half of what's left
+    assertEquals(List.of(128L, 64L, 32L),
+        copies.stream().map(copy -> ((EntropyManagingRandomGeneratorWrapper) copy).entropy).toList());
+    assertEquals(32, wrapper.entropy);
+    assertEquals(SEED_BUFFER_SIZE, seedBuffer.getFillLevel());
+    copies.add(wrapper);
+    assertEquals(4, copies.stream().mapToLong(RandomGenerator::nextLong).distinct().count());
+  }
+}
@@ -0,0 +1,92 @@
+package io.github.pr0methean.newbetterrandom.autoreseed;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import io.github.pr0methean.newbetterrandom.buffer.AtomicByteRingBufferUsingByteBuffer;
+import io.github.pr0methean.newbetterrandom.buffer.ByteQueue;
+import io.github.pr0methean.newbetterrandom.buffer.SpinThenYieldWaitStrategy;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+public class SeedDistributorTest {
+  private static final int SOURCE_INTS = 1 << 12;
+
+  @Timeout(value = 1, unit = TimeUnit.SECONDS)
+  @Test
+  public void testClosedSourceClosesConsumers() {
+    final ByteQueue source = new AtomicByteRingBufferUsingByteBuffer(1 << 8);
+    final SeedDistributor distributor = new SeedDistributor(source, 64);
+    final ByteQueue consumer = distributor.register(16);
+    source.offer(new byte[24], 0, 24);
+    source.close();
+    final byte[] seed = new byte[16];
+    assertEquals(16, consumer.poll(seed, 0, 16));
+    // Only 8 bytes are left, and no more can come
+    assertEquals(0, consumer.poll(seed, 0, 16));
+    assertTrue(consumer.isClosed());
+    assertThrows(IllegalStateException.class, () -> consumer.read(seed, 0, 16));
+  }
+
+  /**
+   * Every byte read from the source goes to exactly one consumer. The source holds distinct ints, and every seed size
+   * is a multiple of their size, so the consumers' outputs are disjoint if and only if no int is received twice.
+   */
+  @Timeout(value = 10, unit = TimeUnit.SECONDS)
+  @Test
+  public void testConsumersGetDisjointSeeds() throws InterruptedException {
+    final ByteQueue source = new AtomicByteRingBufferUsingByteBuffer(1 << 8, new SpinThenYieldWaitStrategy(100));
+    final SeedDistributor distributor = new SeedDistributor(source, 64);
+    final int[] seedSizes = {8, 16, 16, 32};
+    final List<ByteBuffer> outputs = new ArrayList<>();
+    final List<Thread> consumers = new ArrayList<>();
+    for (final int seedSize : seedSizes) {
+      final ByteQueue consumer = distributor.register(seedSize);
+      final ByteBuffer output = ByteBuffer.allocate(SOURCE_INTS * Integer.BYTES);
+      outputs.add(output);
+      consumers.add(Thread.ofPlatform().start(() -> {
+        final byte[] seed = new byte[seedSize];
+        try {
+          while (true) {
+            consumer.read(seed, 0, seedSize);
+            output.put(seed);
+          }
+        } catch (InterruptedException | IllegalStateException e) {
+          // Closed
+        }
+      }));
+    }
+    final ByteBuffer sourceBytes = ByteBuffer.allocate(SOURCE_INTS * Integer.BYTES);
+    for (int i = 0; i < SOURCE_INTS; i++) {
+      sourceBytes.putInt(i);
+    }
+    source.write(sourceBytes.array(), 0, sourceBytes.capacity());
+    source.close();
+    for (final Thread consumer : consumers) {
+      consumer.join();
+    }
+    final BitSet received = new BitSet(SOURCE_INTS);
+    int receivedInts = 0;
+    for (final ByteBuffer output : outputs) {
+      output.flip();
+      while (output.hasRemaining()) {
+        final int value = output.getInt();
+        assertTrue(value >= 0 && value < SOURCE_INTS, "Not from the source: " + value);
+        assertFalse(received.get(value), "Received twice: " + value);
+        received.set(value);
+        receivedInts++;
+      }
+    }
+    // Everything fits a whole number of the smallest seeds, so it's all been handed out
+    assertEquals(SOURCE_INTS, receivedInts);
+    assertEquals(0, source.getFillLevel());
+  }
+}
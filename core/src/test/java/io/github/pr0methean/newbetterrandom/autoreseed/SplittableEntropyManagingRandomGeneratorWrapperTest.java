@@ -0,0 +1,73 @@
+package io.github.pr0methean.newbetterrandom.autoreseed;
+
+import static io.github.pr0methean.newbetterrandom.autoreseed.AutoreseedTestUtils.SEED_BUFFER_SIZE;
+import static io.github.pr0methean.newbetterrandom.autoreseed.AutoreseedTestUtils.createFullSeedBuffer;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator.SplittableGenerator;
+import java.util.random.RandomGeneratorFactory;
+import java.util.stream.Collectors;
+
+import io.github.pr0methean.newbetterrandom.buffer.ByteQueue;
+import io.github.pr0methean.newbetterrandom.reseedable.ReseedByReplacingRandomGenerator;
+import io.github.pr0methean.newbetterrandom.reseedable.ReseedableRandomGenerator;
+import org.junit.jupiter.api.Test;
+
+public class SplittableEntropyManagingRandomGeneratorWrapperTest {
+  private static final long MINIMUM_ENTROPY_BITS = 64;
+
+  private final ByteQueue seedBuffer = createFullSeedBuffer();
+  private final ReseedableRandomGenerator delegate
+      = new ReseedByReplacingRandomGenerator(RandomGeneratorFactory.of("L64X128MixRandom"));
+  private final SplittableEntropyManagingRandomGeneratorWrapper wrapper
+      = new SplittableEntropyManagingRandomGeneratorWrapper(delegate, delegate.seedEntropyBits(), MINIMUM_ENTROPY_BITS,
+          MINIMUM_ENTROPY_BITS, seedBuffer, null);
+
+  @Test
+  public void testRejectsUnsplittableDelegate() {
+    assertThrows(IllegalArgumentException.class, () -> new SplittableEntropyManagingRandomGeneratorWrapper(
+        new ReseedByReplacingRandomGenerator(RandomGeneratorFactory.of("Xoshiro256PlusPlus")), 256, 64, 0, seedBuffer,
+        null));
+  }
+
+  @Test
+  public void testSplitSharesEntropyWithoutReadingSeed() {
+    final long share = (delegate.seedEntropyBits() - MINIMUM_ENTROPY_BITS) / 2;
+    final SplittableEntropyManagingRandomGeneratorWrapper child = wrapper.split();
+    assertEquals(MINIMUM_ENTROPY_BITS + share, child.entropy);
+    assertEquals(delegate.seedEntropyBits() - share, wrapper.entropy);
+    assertEquals(SEED_BUFFER_SIZE, seedBuffer.getFillLevel());
+    assertNotEquals(wrapper.nextLong(), child.nextLong());
+  }
+
+  @Test
+  public void testSplitFromUnmanagedSourceReseedsFirst() {
+    final SplittableEntropyManagingRandomGeneratorWrapper child = wrapper.split(new SplittableRandom(1));
+    assertEquals(0, child.entropy);
+    assertEquals(delegate.seedEntropyBits(), wrapper.entropy);
+    child.nextLong();
+    assertEquals(SEED_BUFFER_SIZE - delegate.desiredSeedSizeBytes(), seedBuffer.getFillLevel());
+    assertEquals(delegate.seedEntropyBits() - Long.SIZE, child.entropy);
+  }
+
+  @Test
+  public void testSplitFromManagedSourceTakesItsShare() {
+    final SplittableEntropyManagingRandomGeneratorWrapper source = wrapper.split();
+    final long sourceEntropy = source.entropy;
+    final SplittableEntropyManagingRandomGeneratorWrapper child = wrapper.split(source);
+    assertEquals(MINIMUM_ENTROPY_BITS + (sourceEntropy - MINIMUM_ENTROPY_BITS) / 2, child.entropy);
+    assertEquals(sourceEntropy - (sourceEntropy - MINIMUM_ENTROPY_BITS) / 2, source.entropy);
+  }
+
+  @Test
+  public void testSplits() {
+    final List<SplittableGenerator> children = wrapper.splits(3).collect(Collectors.toList());
+    assertEquals(3, children.size());
+    assertEquals(3, children.stream().mapToLong(SplittableGenerator::nextLong).distinct().count());
+    assertThrows(IllegalArgumentException.class, () -> wrapper.splits(-1));
+  }
+}
@@ -1,8 +1,103 @@
 package io.github.pr0methean.newbetterrandom.buffer;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
 public class AtomicByteRingBufferUsingMemorySegmentTest extends ByteQueueTest {
   @Override
-  protected AtomicByteRingBuffer createBuffer(int size) {
+  protected AtomicByteRingBufferUsingMemorySegment createBuffer(int size) {
     return new AtomicByteRingBufferUsingMemorySegment(size);
   }
+
+  @Timeout(value = 1, unit = TimeUnit.SECONDS)
+  @Test
+  public void testClaimWriteThenClaimRead() {
+    try (final AtomicByteRingBufferUsingMemorySegment buffer = createBuffer(1 << 5)) {
+      final WriteClaim writeClaim = buffer.claimWrite(SIZE);
+      assertNotNull(writeClaim);
+      assertEquals(SIZE, writeClaim.segment().byteSize());
+      MemorySegment.copy(BYTES, 0, writeClaim.segment(), ValueLayout.JAVA_BYTE, 0, SIZE);
+      assertNull(buffer.claimRead(SIZE), "Uncommitted bytes should not be readable");
+      writeClaim.commit();
+      try (final ReadClaim readClaim = buffer.claimRead(SIZE)) {
+        assertNotNull(readClaim);
+        assertArrayEquals(BYTES, readClaim.segment().toArray(ValueLayout.JAVA_BYTE));
+        assertThrows(UnsupportedOperationException.class,
+            () -> readClaim.segment().set(ValueLayout.JAVA_BYTE, 0, (byte) 0));
+      }
+      assertNull(buffer.claimRead(1));
+      buffer.checkInternalInvariants();
+    }
+  }
+
+  @Timeout(value = 1, unit = TimeUnit.SECONDS)
+  @Test
+  public void testClaimsStopAtWrap() {
+    try (final AtomicByteRingBufferUsingMemorySegment buffer = createBuffer(1 << 5)) {
+      final byte[] output = new byte[SIZE];
+      assertEquals(SIZE, buffer.offer(BYTES, 0, SIZE));
+      assertEquals(SIZE, buffer.poll(output, 0, SIZE));
+      final WriteClaim beforeWrap = buffer.claimWrite(SIZE);
+      assertNotNull(beforeWrap);
+      final int lengthBeforeWrap = (1 << 5) - SIZE;
+      assertEquals(lengthBeforeWrap, beforeWrap.segment().byteSize());
+      MemorySegment.copy(BYTES, 0, beforeWrap.segment(), ValueLayout.JAVA_BYTE, 0, lengthBeforeWrap);
+      beforeWrap.commit();
+      final WriteClaim afterWrap = buffer.claimWrite(SIZE - lengthBeforeWrap);
+      assertNotNull(afterWrap);
+      MemorySegment.copy(BYTES, lengthBeforeWrap, afterWrap.segment(), ValueLayout.JAVA_BYTE, 0,
+          SIZE - lengthBeforeWrap);
+      afterWrap.commit();
+      try (final ReadClaim readClaim = buffer.claimRead(SIZE)) {
+        assertNotNull(readClaim);
+        assertEquals(lengthBeforeWrap, readClaim.segment().byteSize());
+      }
+      assertEquals(SIZE - lengthBeforeWrap, buffer.poll(output, 0, SIZE));
+      buffer.checkInternalInvariants();
+    }
+  }
+
+  @Timeout(value = 1, unit = TimeUnit.SECONDS)
+  @Test
+  public void testReadClaimHoldsSpace() {
+    try (final AtomicByteRingBufferUsingMemorySegment buffer = createBuffer(16)) {
+      final byte[] input = new byte[16];
+      assertEquals(16, buffer.offer(input, 0, 16));
+      final ReadClaim readClaim = buffer.claimRead(16);
+      assertNotNull(readClaim);
+      assertEquals(0, buffer.offer(input, 0, 1), "Space still being read from should not be reusable");
+      readClaim.close();
+      assertEquals(16, buffer.offer(input, 0, 16));
+    }
+  }
+
+  @Timeout(value = 1, unit = TimeUnit.SECONDS)
+  @Test
+  public void testWriteClaimsCommittedOutOfOrder() {
+    try (final AtomicByteRingBufferUsingMemorySegment buffer = createBuffer(1 << 5)) {
+      final WriteClaim first = buffer.claimWrite(8);
+      final WriteClaim second = buffer.claimWrite(SIZE - 8);
+      assertNotNull(first);
+      assertNotNull(second);
+      MemorySegment.copy(BYTES, 8, second.segment(), ValueLayout.JAVA_BYTE, 0, SIZE - 8);
+      second.commit();
+      assertNull(buffer.claimRead(SIZE), "Bytes after an uncommitted claim should not be readable");
+      MemorySegment.copy(BYTES, 0, first.segment(), ValueLayout.JAVA_BYTE, 0, 8);
+      first.commit();
+      final byte[] output = new byte[SIZE];
+      assertEquals(SIZE, buffer.poll(output, 0, SIZE));
+      assertArrayEquals(BYTES, output);
+      buffer.checkInternalInvariants();
+    }
+  }
 }
@@ -0,0 +1,66 @@
+package io.github.pr0methean.newbetterrandom.buffer;
+
+import static io.github.pr0methean.newbetterrandom.buffer.ByteQueueTest.BYTES;
+import static io.github.pr0methean.newbetterrandom.buffer.ByteQueueTest.SIZE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+public class ByteQueueStatisticsTest {
+  @Timeout(value = 1, unit = TimeUnit.SECONDS)
+  @Test
+  public void testRingBufferCounters() {
+    try (final AtomicByteRingBuffer buffer = new AtomicByteRingBufferUsingByteBuffer(1 << 5)) {
+      final ByteQueueStatistics statistics = buffer.getStatistics();
+      final byte[] output = new byte[SIZE];
+      assertEquals(0, buffer.poll(output, 0, SIZE));
+      assertEquals(SIZE, buffer.offer(BYTES, 0, SIZE));
+      assertEquals((1 << 5) - SIZE, buffer.offer(BYTES, 0, SIZE));
+      assertEquals(0, buffer.offer(BYTES, 0, SIZE));
+      assertEquals(SIZE, buffer.poll(output, 0, SIZE));
+      assertEquals(1 << 5, statistics.getBytesOffered());
+      assertEquals(SIZE, statistics.getBytesPolled());
+      assertEquals(1, statistics.getFullOffers());
+      assertEquals(1, statistics.getEmptyPolls());
+      assertEquals(1 << 5, statistics.getPeakFillLevel());
+      assertEquals((1 << 5) - SIZE, statistics.getFillLevel());
+      assertEquals(0, statistics.getLockAcquisitions());
+    }
+  }
+
+  @Timeout(value = 1, unit = TimeUnit.SECONDS)
+  @Test
+  public void testFairWrapperCountsLock() {
+    try (final ReaderFairByteQueueWrapper buffer = new ReaderFairByteQueueWrapper(
+        new AtomicByteRingBufferUsingByteBuffer(1 << 5), SIZE, 1)) {
+      assertEquals(SIZE, buffer.offer(BYTES, 0, SIZE));
+      assertEquals(SIZE, buffer.poll(new byte[SIZE], 0, SIZE));
+      final ByteQueueStatistics statistics = buffer.getStatistics();
+      assertEquals(1, statistics.getLockAcquisitions());
+      assertEquals(SIZE, statistics.getBytesPolled());
+      assertTrue(statistics.getLockHoldNanos() >= 0);
+    }
+  }
+
+  @Timeout(value = 1, unit = TimeUnit.SECONDS)
+  @Test
+  public void testRegisterMBean() throws JMException {
+    try (final AtomicByteRingBuffer buffer = new AtomicByteRingBufferUsingByteBuffer(1 << 5)) {
+      assertEquals(SIZE, buffer.offer(BYTES, 0, SIZE));
+      final ObjectName name = buffer.getStatistics().registerMBean("testRegisterMBean");
+      try {
+        assertEquals((long) SIZE, ManagementFactory.getPlatformMBeanServer().getAttribute(name, "FillLevel"));
+        assertEquals((long) SIZE, ManagementFactory.getPlatformMBeanServer().getAttribute(name, "BytesOffered"));
+      } finally {
+        ByteQueueStatistics.unregisterMBean(name);
+      }
+    }
+  }
+}
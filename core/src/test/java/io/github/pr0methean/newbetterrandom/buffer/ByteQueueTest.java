@@ -3,11 +3,17 @@ package io.github.pr0methean.newbetterrandom.buffer;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ForkJoinTask;
@@ -31,6 +37,28 @@ abstract class ByteQueueTest {
 
   protected abstract ByteQueue createBuffer(int size);
 
+  /**
+   * @return the most threads that the buffers from {@link #createBuffer(int)} support polling at once
+   */
+  protected int maxConcurrentReaders() {
+    return Integer.MAX_VALUE;
+  }
+
+  /**
+   * @return the most threads that the buffers from {@link #createBuffer(int)} support offering at once
+   */
+  protected int maxConcurrentWriters() {
+    return Integer.MAX_VALUE;
+  }
+
+  /**
+   * @return true if the buffers from {@link #createBuffer(int)} deliver bytes in the order they were written, even
+   *     when the transfers are made by different threads
+   */
+  protected boolean preservesOrder() {
+    return true;
+  }
+
   @Test
   @Timeout(value = 1, unit = TimeUnit.SECONDS)
   public void testWrite() throws InterruptedException {
@@ -164,6 +192,163 @@ abstract class ByteQueueTest {
     }
   }
 
+  @Timeout(value = 1, unit = TimeUnit.SECONDS)
+  @Test
+  public void testFillLevel() {
+    try (final ByteQueue buffer = createBuffer(1 << 5)) {
+      assertEquals(0, buffer.getFillLevel());
+      assertEquals(SIZE, buffer.offer(BYTES, 0, SIZE));
+      assertEquals(SIZE, buffer.getFillLevel());
+      assertEquals(SIZE / 2, buffer.poll(new byte[SIZE], 0, SIZE / 2));
+      assertEquals(SIZE - SIZE / 2, buffer.getFillLevel());
+    }
+  }
+
+  @Timeout(value = 1, unit = TimeUnit.SECONDS)
+  @Test
+  public void testFillFromThenDrainTo() {
+    try (final ByteQueue buffer = createBuffer(1 << 5)) {
+      final byte[] output = new byte[SIZE];
+      // Move the cursors so that the next 20 bytes wrap around, if the buffer is a ring
+      assertEquals(SIZE, buffer.offer(BYTES, 0, SIZE));
+      assertEquals(SIZE, buffer.poll(output, 0, SIZE));
+      final int[] filled = {0};
+      assertEquals(SIZE, buffer.fillFrom(byteBuffer -> {
+        final int length = byteBuffer.remaining();
+        byteBuffer.put(BYTES, filled[0], length);
+        filled[0] += length;
+      }, SIZE));
+      assertEquals(SIZE, filled[0]);
+      checkInvariantsIfPossible(buffer);
+      final int[] drained = {0};
+      assertEquals(SIZE, buffer.drainTo(byteBuffer -> {
+        final int length = byteBuffer.remaining();
+        byteBuffer.get(output, drained[0], length);
+        drained[0] += length;
+      }, SIZE + 1));
+      assertEquals(SIZE, drained[0]);
+      assertArrayEquals(BYTES, output);
+      checkInvariantsIfPossible(buffer);
+      assertEquals(0, buffer.drainTo(byteBuffer -> {
+        throw new AssertionError("Consumer called for an empty buffer");
+      }, SIZE));
+    }
+  }
+
+  @Timeout(value = 1, unit = TimeUnit.SECONDS)
+  @Test
+  public void testFillFromWritesOnlyWhatFillerPut() {
+    try (final ByteQueue buffer = createBuffer(1 << 5)) {
+      final byte[] output = new byte[SIZE];
+      assertEquals(SIZE, buffer.offer(BYTES, 0, SIZE));
+      assertEquals(SIZE, buffer.poll(output, 0, SIZE));
+      // Fills nothing, so if it's a ring, publishing the space it's given would deliver the bytes just read again
+      assertEquals(0, buffer.fillFrom(byteBuffer -> {}, SIZE));
+      assertEquals(0, buffer.poll(output, 0, SIZE));
+      assertThrows(IllegalStateException.class, () -> buffer.fillFrom(byteBuffer -> {
+        byteBuffer.put(BYTES, 0, 5);
+        throw new IllegalStateException("Filler failed");
+      }, SIZE));
+      assertEquals(0, buffer.poll(output, 0, SIZE));
+      assertEquals(7, buffer.fillFrom(byteBuffer -> byteBuffer.put(BYTES, 0, 7), SIZE));
+      assertEquals(7, buffer.poll(output, 0, SIZE));
+      assertArrayEquals(Arrays.copyOf(BYTES, 7), Arrays.copyOf(output, 7));
+      checkInvariantsIfPossible(buffer);
+    }
+  }
+
+  @Timeout(value = 1, unit = TimeUnit.SECONDS)
+  @Test
+  public void testReadAsync() throws Exception {
+    try (final ByteQueue buffer = createBuffer(1 << 4)) {
+      final byte[] output = new byte[SIZE];
+      final CompletableFuture<Void> read = buffer.readAsync(output, 0, SIZE);
+      assertFalse(read.isDone());
+      assertEquals(10, buffer.offer(BYTES, 0, 10));
+      assertFalse(read.isDone());
+      assertEquals(SIZE - 10, buffer.offer(BYTES, 10, SIZE - 10));
+      assertTrue(read.isDone());
+      read.get();
+      assertArrayEquals(BYTES, output);
+    }
+  }
+
+  @Timeout(value = 1, unit = TimeUnit.SECONDS)
+  @Test
+  public void testWriteAsync() throws Exception {
+    final int size = 1 << 4;
+    try (final ByteQueue buffer = createBuffer(size)) {
+      final CompletableFuture<Void> write = buffer.writeAsync(BYTES, 0, SIZE);
+      assertFalse(write.isDone());
+      final byte[] output = new byte[SIZE];
+      assertEquals(size, buffer.poll(output, 0, size));
+      int read = size;
+      while (read < SIZE) {
+        read += buffer.poll(output, read, SIZE - read);
+      }
+      assertTrue(write.isDone());
+      write.get();
+      assertArrayEquals(BYTES, output);
+    }
+  }
+
+  @Timeout(value = 1, unit = TimeUnit.SECONDS)
+  @Test
+  public void testReadAsyncFailsWhenClosed() {
+    final CompletableFuture<Void> read;
+    try (final ByteQueue buffer = createBuffer(1 << 4)) {
+      read = buffer.readAsync(new byte[SIZE], 0, SIZE);
+    }
+    assertTrue(read.isCompletedExceptionally());
+    assertInstanceOf(IllegalStateException.class, assertThrows(CompletionException.class, read::join).getCause());
+  }
+
+  /**
+   * One producer and one consumer each alternate between blocking and asynchronous transfers, starting each only once
+   * the last has finished, which even the single-producer and single-consumer buffers allow. The pending transfers are
+   * serviced by the other side, so the bytes must still arrive once each, and in order if {@link #preservesOrder()}.
+   */
+  @Timeout(value = 10, unit = TimeUnit.SECONDS)
+  @Test
+  public void testMixedSyncAndAsyncTransfers() throws InterruptedException {
+    final int total = 1 << 12;
+    final int chunk = 37;
+    final byte[] input = new byte[total];
+    ThreadLocalRandom.current().nextBytes(input);
+    final byte[] output = new byte[total];
+    try (final ByteQueue buffer = createBuffer(1 << 4)) {
+      final CompletableFuture<Void> writer = CompletableFuture.runAsync(() -> {
+        try {
+          for (int i = 0, n = 0; i < total; i += chunk, n++) {
+            final int length = Math.min(chunk, total - i);
+            if (n % 2 == 0) {
+              buffer.write(input, i, length);
+            } else {
+              buffer.writeAsync(input, i, length).join();
+            }
+          }
+        } catch (InterruptedException e) {
+          throw new CompletionException(e);
+        }
+      });
+      for (int i = 0, n = 0; i < total; i += chunk, n++) {
+        final int length = Math.min(chunk, total - i);
+        // Out of step with the writer, so each kind of read meets each kind of write
+        if (n % 3 == 0) {
+          buffer.readAsync(output, i, length).join();
+        } else {
+          buffer.read(output, i, length);
+        }
+      }
+      writer.join();
+    }
+    if (!preservesOrder()) {
+      Arrays.sort(input);
+      Arrays.sort(output);
+    }
+    assertArrayEquals(input, output);
+  }
+
   private static final int MIN_READERS = 1;
   private static final int MIN_WRITERS = 1;
   private static final int MAX_WRITERS = Runtime.getRuntime().availableProcessors();
@@ -237,6 +422,8 @@ abstract class ByteQueueTest {
   private void multiReadersMultiWriterTestCore(final int numReaders, final int numWriters,
       final int minReadSize, final int maxReadSize, final int minWriteSize, final int maxWriteSize, final long bytesPerReader,
       final boolean alignWrites) throws InterruptedException {
+    assumeTrue(numReaders <= maxConcurrentReaders() && numWriters <= maxConcurrentWriters(),
+        "Buffer doesn't support this many concurrent readers or writers");
     final ConcurrentLinkedQueue<Throwable> throwables = new ConcurrentLinkedQueue<>();
     final AtomicLongArray bytesFinishedReading = new AtomicLongArray(numReaders);
     final List<Thread> readers = new ArrayList<>(numReaders);
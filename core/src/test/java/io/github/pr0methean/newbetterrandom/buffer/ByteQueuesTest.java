@@ -0,0 +1,30 @@
+package io.github.pr0methean.newbetterrandom.buffer;
+
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class ByteQueuesTest {
+  @Test
+  public void testCreateSelectsImplementation() {
+    try (final ByteQueue queue = ByteQueues.create(16, 1, 1)) {
+      assertInstanceOf(SingleProducerSingleConsumerByteRingBuffer.class, queue);
+    }
+    try (final ByteQueue queue = ByteQueues.create(16, 1, 4)) {
+      assertInstanceOf(SingleProducerMultiConsumerByteRingBuffer.class, queue);
+    }
+    try (final ByteQueue queue = ByteQueues.create(16, 4, 1)) {
+      assertInstanceOf(MultiProducerSingleConsumerByteRingBuffer.class, queue);
+    }
+    try (final ByteQueue queue = ByteQueues.create(16, 4, 4)) {
+      assertInstanceOf(AtomicByteRingBuffer.class, queue);
+    }
+  }
+
+  @Test
+  public void testCreateRejectsNoThreads() {
+    assertThrows(IllegalArgumentException.class, () -> ByteQueues.create(16, 0, 1));
+    assertThrows(IllegalArgumentException.class, () -> ByteQueues.create(16, 1, 0));
+  }
+}
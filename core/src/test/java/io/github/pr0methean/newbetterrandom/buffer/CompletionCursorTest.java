@@ -0,0 +1,55 @@
+package io.github.pr0methean.newbetterrandom.buffer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+public class CompletionCursorTest {
+  @Test
+  public void testOutOfOrderCompletion() {
+    final CompletionCursor cursor = new CompletionCursor();
+    cursor.complete(10, 20);
+    cursor.complete(30, 40);
+    assertEquals(0, cursor.get());
+    cursor.complete(20, 30);
+    assertEquals(0, cursor.get());
+    cursor.complete(0, 10);
+    assertEquals(40, cursor.get());
+    cursor.complete(40, 50);
+    assertEquals(50, cursor.get());
+  }
+
+  @Test
+  public void testRangesLongerThanAnyRing() {
+    final CompletionCursor cursor = new CompletionCursor();
+    cursor.complete(1L << 40, 1L << 41);
+    cursor.complete(0, 1L << 40);
+    assertEquals(1L << 41, cursor.get());
+  }
+
+  @Timeout(value = 10, unit = TimeUnit.SECONDS)
+  @Test
+  public void testConcurrentCompletion() throws InterruptedException {
+    final CompletionCursor cursor = new CompletionCursor();
+    final int threads = 4;
+    final int rangesPerThread = 10_000;
+    final Thread[] completers = new Thread[threads];
+    for (int i = 0; i < threads; i++) {
+      final int thread = i;
+      completers[i] = new Thread(() -> {
+        // Interleaved ranges, so every thread has some waiting on the others
+        for (long range = thread; range < (long) threads * rangesPerThread; range += threads) {
+          cursor.complete(range * 3, range * 3 + 3);
+        }
+      });
+      completers[i].start();
+    }
+    for (final Thread completer : completers) {
+      completer.join();
+    }
+    assertEquals(3L * threads * rangesPerThread, cursor.get());
+  }
+}
@@ -0,0 +1,114 @@
+package io.github.pr0methean.newbetterrandom.buffer;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+public class MappedByteRingBufferTest extends ByteQueueTest {
+  @Override
+  protected ByteQueue createBuffer(int size) {
+    try {
+      final Path file = Files.createTempFile("MappedByteRingBufferTest", ".ring");
+      file.toFile().deleteOnExit();
+      return new MappedByteRingBuffer(file, size);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Timeout(value = 1, unit = TimeUnit.SECONDS)
+  @Test
+  public void testSharedBetweenInstances() throws IOException {
+    final Path file = Files.createTempFile("MappedByteRingBufferTest", ".ring");
+    try (final ByteQueue writer = new MappedByteRingBuffer(file, 1 << 5);
+         final ByteQueue reader = new MappedByteRingBuffer(file, 1 << 5)) {
+      assertEquals(SIZE, writer.offer(BYTES, 0, SIZE));
+      final byte[] output = new byte[SIZE];
+      assertEquals(SIZE, reader.poll(output, 0, SIZE));
+      assertArrayEquals(BYTES, output);
+      assertEquals(0, writer.poll(output, 0, SIZE));
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  @Timeout(value = 1, unit = TimeUnit.SECONDS)
+  @Test
+  public void testAsyncCompletedByOtherInstances() throws Exception {
+    final Path file = Files.createTempFile("MappedByteRingBufferTest", ".ring");
+    try (final ByteQueue asyncSide = new MappedByteRingBuffer(file, 1 << 4);
+         final ByteQueue otherSide = new MappedByteRingBuffer(file, 1 << 4)) {
+      final byte[] output = new byte[SIZE];
+      final CompletableFuture<Void> read = asyncSide.readAsync(output, 0, SIZE);
+      otherSide.write(BYTES, 0, SIZE);
+      read.get();
+      assertArrayEquals(BYTES, output);
+      final CompletableFuture<Void> write = asyncSide.writeAsync(BYTES, 0, SIZE);
+      final byte[] output2 = new byte[SIZE];
+      otherSide.read(output2, 0, SIZE);
+      write.get();
+      assertArrayEquals(BYTES, output2);
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  @Timeout(value = 1, unit = TimeUnit.SECONDS)
+  @Test
+  public void testCapacityMismatch() throws IOException {
+    final Path file = Files.createTempFile("MappedByteRingBufferTest", ".ring");
+    try (final ByteQueue ignored = new MappedByteRingBuffer(file, 1 << 5)) {
+      assertThrows(IllegalArgumentException.class, () -> new MappedByteRingBuffer(file, 1 << 6));
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  @Timeout(value = 1, unit = TimeUnit.SECONDS)
+  @Test
+  public void testHeaderInitializationStall() throws IOException {
+    final Path file = Files.createTempFile("MappedByteRingBufferTest", ".ring");
+    try {
+      // A process that died after claiming the header leaves the magic number at -1
+      writeLong(file, 0, -1L);
+      assertThrows(IOException.class, () -> new MappedByteRingBuffer(file, 1 << 5, BusySpinWaitStrategy.INSTANCE,
+          TimeUnit.MILLISECONDS.toNanos(10)));
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  @Timeout(value = 1, unit = TimeUnit.SECONDS)
+  @Test
+  public void testPublishStall() throws IOException {
+    final Path file = Files.createTempFile("MappedByteRingBufferTest", ".ring");
+    try (final ByteQueue buffer = new MappedByteRingBuffer(file, 1 << 5, BusySpinWaitStrategy.INSTANCE,
+        TimeUnit.MILLISECONDS.toNanos(10))) {
+      // As if another process reserved the first byte, then died before publishing it
+      writeLong(file, 64, 1L);
+      assertThrows(IllegalStateException.class, () -> buffer.offer(BYTES, 0, SIZE));
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  private static void writeLong(Path file, long position, long value) throws IOException {
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+      channel.write(ByteBuffer.allocate(Long.BYTES).order(ByteOrder.nativeOrder()).putLong(0, value), position);
+    }
+  }
+}
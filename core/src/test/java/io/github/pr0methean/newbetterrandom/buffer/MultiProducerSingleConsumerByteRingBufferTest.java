@@ -0,0 +1,13 @@
+package io.github.pr0methean.newbetterrandom.buffer;
+
+public class MultiProducerSingleConsumerByteRingBufferTest extends ByteQueueTest {
+  @Override
+  protected ByteQueue createBuffer(int size) {
+    return new MultiProducerSingleConsumerByteRingBuffer(size);
+  }
+
+  @Override
+  protected int maxConcurrentReaders() {
+    return 1;
+  }
+}
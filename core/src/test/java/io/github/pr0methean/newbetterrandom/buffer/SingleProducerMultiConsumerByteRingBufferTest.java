@@ -0,0 +1,13 @@
+package io.github.pr0methean.newbetterrandom.buffer;
+
+public class SingleProducerMultiConsumerByteRingBufferTest extends ByteQueueTest {
+  @Override
+  protected ByteQueue createBuffer(int size) {
+    return new SingleProducerMultiConsumerByteRingBuffer(size);
+  }
+
+  @Override
+  protected int maxConcurrentWriters() {
+    return 1;
+  }
+}
@@ -0,0 +1,18 @@
+package io.github.pr0methean.newbetterrandom.buffer;
+
+public class SingleProducerSingleConsumerByteRingBufferTest extends ByteQueueTest {
+  @Override
+  protected ByteQueue createBuffer(int size) {
+    return new SingleProducerSingleConsumerByteRingBuffer(size);
+  }
+
+  @Override
+  protected int maxConcurrentReaders() {
+    return 1;
+  }
+
+  @Override
+  protected int maxConcurrentWriters() {
+    return 1;
+  }
+}
@@ -0,0 +1,11 @@
+package io.github.pr0methean.newbetterrandom.buffer;
+
+import java.util.concurrent.TimeUnit;
+
+public class SpinThenParkWaitStrategyTest extends ByteQueueTest {
+  @Override
+  protected AtomicByteRingBuffer createBuffer(int size) {
+    return new AtomicByteRingBufferUsingByteBuffer(size,
+        new SpinThenParkWaitStrategy(16, TimeUnit.MILLISECONDS.toNanos(1)));
+  }
+}
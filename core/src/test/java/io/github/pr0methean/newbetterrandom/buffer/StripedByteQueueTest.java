@@ -0,0 +1,13 @@
+package io.github.pr0methean.newbetterrandom.buffer;
+
+public class StripedByteQueueTest extends ByteQueueTest {
+  @Override
+  protected ByteQueue createBuffer(int size) {
+    return StripedByteQueue.create(2, size / 2);
+  }
+
+  @Override
+  protected boolean preservesOrder() {
+    return false;
+  }
+}
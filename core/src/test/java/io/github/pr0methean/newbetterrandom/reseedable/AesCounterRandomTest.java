@@ -0,0 +1,87 @@
+package io.github.pr0methean.newbetterrandom.reseedable;
+
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Arrays;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+public class AesCounterRandomTest extends ReseedableRandomGeneratorTest {
+
+  @Override
+  protected ReseedableRandomGenerator createRng() {
+    return new AesCounterRandom(TEST_SEED);
+  }
+
+  /**
+   * Encrypts the counter blocks one at a time in ECB mode, so the counter layout is checked independently of the
+   * JDK's counter mode.
+   */
+  private static byte[] expectedKeystream(byte[] key, int blocks) throws GeneralSecurityException {
+    Cipher ecb = Cipher.getInstance("AES/ECB/NoPadding");
+    ecb.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(key, "AES"));
+    byte[] keystream = new byte[blocks * 16];
+    byte[] counter = new byte[16];
+    for (int block = 0; block < blocks; block++) {
+      counter[12] = (byte) (block >>> 24);
+      counter[13] = (byte) (block >>> 16);
+      counter[14] = (byte) (block >>> 8);
+      counter[15] = (byte) block;
+      ecb.doFinal(counter, 0, 16, keystream, block * 16);
+    }
+    return keystream;
+  }
+
+  @Test
+  public void testKeystreamMatchesAes() throws GeneralSecurityException {
+    byte[] key = new byte[32];
+    SEED_SOURCE_PRNG.get().nextBytes(key);
+    byte[] expected = expectedKeystream(key, 1000);
+    byte[] actual = new byte[expected.length];
+    new AesCounterRandom(key).nextBytes(actual);
+    assertArrayEquals(expected, actual);
+  }
+
+  @Test
+  public void testOtherSeedSizesAreHashed() throws GeneralSecurityException {
+    byte[] seed = new byte[16];
+    SEED_SOURCE_PRNG.get().nextBytes(seed);
+    byte[] expected = expectedKeystream(MessageDigest.getInstance("SHA-256").digest(seed), 4);
+    AesCounterRandom rng = new AesCounterRandom(TEST_SEED);
+    rng.nextLong();
+    rng.updateSeed(seed);
+    byte[] actual = new byte[expected.length];
+    rng.nextBytes(actual);
+    assertArrayEquals(expected, actual);
+  }
+
+  /**
+   * Checks that bulk and single calls draw from the same keystream, whether or not bulk calls go through the buffer.
+   */
+  @Test
+  public void testBulkMatchesNextLong() throws GeneralSecurityException {
+    byte[] key = new byte[32];
+    SEED_SOURCE_PRNG.get().nextBytes(key);
+    byte[] expected = expectedKeystream(key, 2000);
+    AesCounterRandom rng = new AesCounterRandom(key);
+    byte[] actual = new byte[expected.length];
+    int position = 0;
+    for (int length : new int[] {0, 8, 13, 3, 10000, 5, 4096, 4096 - 29}) {
+      if (length == 8) {
+        long value = rng.nextLong();
+        for (int j = 0; j < Long.BYTES; j++) {
+          actual[position + j] = (byte) (value >>> (j * Byte.SIZE));
+        }
+      } else {
+        rng.nextBytes(actual, position, length);
+      }
+      position += length;
+    }
+    assertArrayEquals(Arrays.copyOf(expected, position), Arrays.copyOf(actual, position));
+  }
+}
@@ -0,0 +1,14 @@
+package io.github.pr0methean.newbetterrandom.reseedable;
+
+public class InPlaceL128X128MixRandomTest extends ReseedInPlaceRandomGeneratorTest {
+
+  @Override
+  protected String jdkAlgorithm() {
+    return "L128X128MixRandom";
+  }
+
+  @Override
+  protected ReseedInPlaceRandomGenerator createRng(long seed) {
+    return new InPlaceL128X128MixRandom(seed);
+  }
+}
@@ -0,0 +1,14 @@
+package io.github.pr0methean.newbetterrandom.reseedable;
+
+public class InPlaceL32X64MixRandomTest extends ReseedInPlaceRandomGeneratorTest {
+
+  @Override
+  protected String jdkAlgorithm() {
+    return "L32X64MixRandom";
+  }
+
+  @Override
+  protected ReseedInPlaceRandomGenerator createRng(long seed) {
+    return new InPlaceL32X64MixRandom(seed);
+  }
+}
@@ -0,0 +1,14 @@
+package io.github.pr0methean.newbetterrandom.reseedable;
+
+public class InPlaceL64X128MixRandomTest extends ReseedInPlaceRandomGeneratorTest {
+
+  @Override
+  protected String jdkAlgorithm() {
+    return "L64X128MixRandom";
+  }
+
+  @Override
+  protected ReseedInPlaceRandomGenerator createRng(long seed) {
+    return new InPlaceL64X128MixRandom(seed);
+  }
+}
@@ -0,0 +1,14 @@
+package io.github.pr0methean.newbetterrandom.reseedable;
+
+public class InPlaceL64X128StarStarRandomTest extends ReseedInPlaceRandomGeneratorTest {
+
+  @Override
+  protected String jdkAlgorithm() {
+    return "L64X128StarStarRandom";
+  }
+
+  @Override
+  protected ReseedInPlaceRandomGenerator createRng(long seed) {
+    return new InPlaceL64X128StarStarRandom(seed);
+  }
+}
@@ -0,0 +1,132 @@
+package io.github.pr0methean.newbetterrandom.reseedable;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+public class Philox4x64RandomTest extends ReseedableRandomGeneratorTest {
+
+  @Override
+  protected ReseedableRandomGenerator createRng() {
+    return new Philox4x64Random(TEST_SEED);
+  }
+
+  private static long[] nextLongs(Philox4x64Random rng, int count) {
+    long[] longs = new long[count];
+    for (int i = 0; i < count; i++) {
+      longs[i] = rng.nextLong();
+    }
+    return longs;
+  }
+
+  /**
+   * Known-answer tests from the Random123 distribution.
+   */
+  @Test
+  public void testKnownAnswers() {
+    long[] output = new long[4];
+    Philox4x64Random.philox(0, 0, 0, 0, 0, 0, output, 0);
+    assertArrayEquals(new long[] {0x16554d9eca36314cL, 0xdb20fe9d672d0fdcL, 0xd7e772cee186176bL, 0x7e68b68aec7ba23bL},
+        output);
+    Philox4x64Random.philox(-1, -1, -1, -1, -1, -1, output, 0);
+    assertArrayEquals(new long[] {0x87b092c3013fe90bL, 0x438c3c67be8d0224L, 0x9cc7d7c69cd777b6L, 0xa09caebf594f0ba0L},
+        output);
+    Philox4x64Random.philox(0x243f6a8885a308d3L, 0x13198a2e03707344L, 0xa4093822299f31d0L, 0x082efa98ec4e6c89L,
+        0x452821e638d01377L, 0xbe5466cf34e90c6cL, output, 0);
+    assertArrayEquals(new long[] {0xa528f45403e61d95L, 0x38c72dbd566e9788L, 0xa5a1610e72fd18b5L, 0x57bd43b5e52b7fe6L},
+        output);
+    assertArrayEquals(new long[] {0x16554d9eca36314cL, 0xdb20fe9d672d0fdcL, 0xd7e772cee186176bL, 0x7e68b68aec7ba23bL},
+        nextLongs(new Philox4x64Random(0, 0, 0), 4));
+  }
+
+  @Test
+  public void testJumpMatchesSkipping() {
+    Philox4x64Random skipping = new Philox4x64Random(TEST_SEED);
+    long[] expected = nextLongs(skipping, 100);
+    for (int start : new int[] {0, 1, 3, 4, 5, 37}) {
+      for (int distance : new int[] {0, 1, 2, 4, 7, 40}) {
+        Philox4x64Random jumping = new Philox4x64Random(TEST_SEED);
+        nextLongs(jumping, start);
+        jumping.jump(distance);
+        assertEquals(expected[start + distance], jumping.nextLong(), "start " + start + ", distance " + distance);
+        jumping.jump(-distance - 1);
+        assertEquals(expected[start], jumping.nextLong(), "back from start " + start + ", distance " + distance);
+      }
+    }
+  }
+
+  @Test
+  public void testJumpWrapsAround() {
+    Philox4x64Random rng = new Philox4x64Random(TEST_SEED);
+    rng.jump(-1);
+    rng.nextLong();
+    assertArrayEquals(nextLongs(new Philox4x64Random(TEST_SEED), 8), nextLongs(rng, 8));
+    rng.jump();
+    rng.seek(3);
+    long[] expected = nextLongs(new Philox4x64Random(TEST_SEED), 8);
+    assertEquals(expected[3], rng.nextLong());
+  }
+
+  @Test
+  public void testJumpCarriesIntoHighWord() {
+    Philox4x64Random carried = new Philox4x64Random(TEST_SEED);
+    carried.seek(-2);
+    carried.jump(4);
+    Philox4x64Random jumped = new Philox4x64Random(TEST_SEED);
+    jumped.jump();
+    jumped.jump(2);
+    assertArrayEquals(nextLongs(jumped, 8), nextLongs(carried, 8));
+    assertEquals(0x1.0p64, jumped.jumpDistance());
+  }
+
+  @Test
+  public void testSubstreams() {
+    Philox4x64Random rng = new Philox4x64Random(TEST_SEED);
+    Philox4x64Random substream = rng.substream(1);
+    assertEquals(1, substream.stream());
+    assertNotEquals(rng.nextLong(), substream.nextLong());
+    Philox4x64Random sameStream = rng.substream(0);
+    assertArrayEquals(nextLongs(new Philox4x64Random(TEST_SEED), 8), nextLongs(sameStream, 8));
+  }
+
+  @Test
+  public void testCopy() {
+    Philox4x64Random rng = new Philox4x64Random(TEST_SEED);
+    nextLongs(rng, 5);
+    Philox4x64Random copy = rng.copy();
+    assertArrayEquals(nextLongs(rng, 20), nextLongs(copy, 20));
+  }
+
+  /**
+   * Checks that bulk and single calls draw from the same sequence, however they're mixed.
+   */
+  @Test
+  public void testBulkMatchesNextLong() {
+    long[] expected = nextLongs(new Philox4x64Random(TEST_SEED), 200);
+    Philox4x64Random bulk = new Philox4x64Random(TEST_SEED);
+    long[] actual = new long[expected.length];
+    actual[0] = bulk.nextLong();
+    bulk.nextLongs(actual, 1, 37);
+    byte[] bytes = new byte[80 * Long.BYTES];
+    bulk.nextBytes(bytes);
+    for (int i = 0; i < 80; i++) {
+      long value = 0;
+      for (int j = Long.BYTES - 1; j >= 0; j--) {
+        value = (value << Byte.SIZE) | Byte.toUnsignedLong(bytes[i * Long.BYTES + j]);
+      }
+      actual[38 + i] = value;
+    }
+    bulk.nextLongs(actual, 118, actual.length - 118);
+    assertArrayEquals(expected, actual);
+  }
+
+  @Test
+  public void testUpdateSeedKeepsStream() {
+    Philox4x64Random rng = new Philox4x64Random(0, 0, 5);
+    nextLongs(rng, 3);
+    rng.updateSeed(TEST_SEED);
+    assertArrayEquals(nextLongs(new Philox4x64Random(TEST_SEED).substream(5), 8), nextLongs(rng, 8));
+  }
+}
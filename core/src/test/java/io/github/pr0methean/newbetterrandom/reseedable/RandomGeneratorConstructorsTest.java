@@ -0,0 +1,45 @@
+package io.github.pr0methean.newbetterrandom.reseedable;
+
+import java.util.HexFormat;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class RandomGeneratorConstructorsTest {
+  private static final byte[] TEST_SEED_BYTES = HexFormat.of().parseHex("00112233445566778899aabbccddeeff");
+  private static final long TEST_SEED_LONG = 0x0ff1ce0f1337c0deL;
+
+  private static void assertSameOutput(String algorithm, RandomGenerator expected, RandomGenerator actual) {
+    assertEquals(expected.getClass(), actual.getClass(), algorithm);
+    for (int i = 0; i < 20; i++) {
+      assertEquals(expected.nextLong(), actual.nextLong(), algorithm);
+    }
+  }
+
+  /**
+   * Checks every algorithm whose factory is repeatable for the seed type, whether or not its constructors could be
+   * resolved.
+   */
+  @Test
+  public void testMatchesFactory() {
+    RandomGeneratorFactory.all().forEach(factory -> {
+      RandomGeneratorConstructors constructors = RandomGeneratorConstructors.of(factory);
+      if (factory.create(TEST_SEED_BYTES).nextLong() == factory.create(TEST_SEED_BYTES).nextLong()) {
+        assertSameOutput(factory.name(), factory.create(TEST_SEED_BYTES), constructors.create(TEST_SEED_BYTES));
+      }
+      if (factory.create(TEST_SEED_LONG).nextLong() == factory.create(TEST_SEED_LONG).nextLong()) {
+        assertSameOutput(factory.name(), factory.create(TEST_SEED_LONG), constructors.create(TEST_SEED_LONG));
+      }
+    });
+  }
+
+  @Test
+  public void testCachedPerAlgorithm() {
+    assertSame(RandomGeneratorConstructors.of(RandomGeneratorFactory.of("Random")),
+        RandomGeneratorConstructors.of(RandomGeneratorFactory.of("Random")));
+  }
+}
@@ -1,11 +1,16 @@
 package io.github.pr0methean.newbetterrandom.reseedable;
 
+import java.util.Arrays;
 import java.util.Optional;
 import java.util.random.RandomGenerator;
 import java.util.random.RandomGeneratorFactory;
 
 import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 public class ReseedByJumpingAndLeapingRandomGeneratorTest extends ReseedableRandomGeneratorTest {
@@ -27,4 +32,21 @@ public class ReseedByJumpingAndLeapingRandomGeneratorTest extends ReseedableRand
     return new ReseedByJumpingAndLeapingRandomGenerator((RandomGenerator.LeapableGenerator) GENERATOR_FACTORY.create(),
         20, 20);
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testCopyAndJump() {
+    ReseedableRandomGenerator original = createRng();
+    assertTrue(original.isJumpable());
+    assertFalse(original.isSplittable());
+    ReseedableRandomGenerator copy = original.copy();
+    byte[] bytesFromOriginal = new byte[128];
+    original.nextBytes(bytesFromOriginal);
+    byte[] bytesFromCopy = new byte[128];
+    copy.nextBytes(bytesFromCopy);
+    assertArrayEquals(bytesFromOriginal, bytesFromCopy, "Copy doesn't repeat the original's output");
+    original.jump();
+    original.nextBytes(bytesFromOriginal);
+    copy.nextBytes(bytesFromCopy);
+    assertFalse(Arrays.equals(bytesFromOriginal, bytesFromCopy), "Same output after jumping");
+  }
+}
@@ -0,0 +1,112 @@
+package io.github.pr0methean.newbetterrandom.reseedable;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Checks a {@link ReseedByPolynomialJumpingRandomGenerator} against the JDK's implementation of the same algorithm.
+ */
+abstract class ReseedByPolynomialJumpingRandomGeneratorTest extends ReseedableRandomGeneratorTest {
+
+  protected abstract String jdkAlgorithm();
+
+  @Override
+  protected abstract ReseedByPolynomialJumpingRandomGenerator createRng();
+
+  private RandomGenerator.JumpableGenerator createJdkRng() {
+    return (RandomGenerator.JumpableGenerator) RandomGeneratorFactory.of(jdkAlgorithm()).create(TEST_SEED);
+  }
+
+  private static void assertSameOutput(RandomGenerator expected, RandomGenerator actual) {
+    for (int i = 0; i < 100; i++) {
+      assertEquals(expected.nextLong(), actual.nextLong());
+    }
+  }
+
+  @Test
+  public void testMatchesJdk() {
+    assertSameOutput(createJdkRng(), createRng());
+  }
+
+  @Test
+  public void testJumpMatchesJdk() {
+    RandomGenerator.JumpableGenerator expected = createJdkRng();
+    ReseedByPolynomialJumpingRandomGenerator actual = createRng();
+    assertEquals(expected.jumpDistance(), actual.jumpDistance());
+    expected.jump();
+    actual.jump();
+    assertSameOutput(expected, actual);
+  }
+
+  @Test
+  public void testUpdateSeedMatchesRepeatedJumps() {
+    RandomGenerator.JumpableGenerator expected = createJdkRng();
+    ReseedByPolynomialJumpingRandomGenerator actual = createRng();
+    for (int i = 0; i < 11; i++) {
+      expected.jump();
+    }
+    actual.updateSeed(11);
+    assertSameOutput(expected, actual);
+  }
+
+  @Test
+  public void testZeroSeedMovesState() {
+    ReseedByPolynomialJumpingRandomGenerator notReseeded = createRng();
+    long[] notReseededOutput = new long[1000];
+    for (int i = 0; i < notReseededOutput.length; i++) {
+      notReseededOutput[i] = notReseeded.nextLong();
+    }
+    ReseedByPolynomialJumpingRandomGenerator reseeded = createRng();
+    reseeded.updateSeed(0);
+    long first = reseeded.nextLong();
+    long second = reseeded.nextLong();
+    for (int shift = 0; shift < notReseededOutput.length - 1; shift++) {
+      assertFalse(notReseededOutput[shift] == first && notReseededOutput[shift + 1] == second,
+          "Reseeding with zero only moved the state " + shift + " steps");
+    }
+  }
+
+  @Test
+  public void testZeroSeedJumpsHalfDistance() {
+    RandomGenerator.JumpableGenerator expected = createJdkRng();
+    ReseedByPolynomialJumpingRandomGenerator actual = createRng();
+    expected.jump();
+    actual.updateSeed(0);
+    actual.updateSeed(new byte[Long.BYTES]);
+    assertSameOutput(expected, actual);
+  }
+
+  /**
+   * Reseeding jumps relative to the current state, and jumps commute with steps, so using a generator before
+   * reseeding it just skips ahead in the reseeded sequence.
+   */
+  @Override
+  @Test
+  public void testReseedWithBytes() {
+    byte[] seed = new byte[8];
+    SEED_SOURCE_PRNG.get().nextBytes(seed);
+    ReseedableRandomGenerator notReseeded = createRng();
+    byte[] bytesFromNotReseeded = new byte[128];
+    notReseeded.nextBytes(bytesFromNotReseeded);
+    ReseedableRandomGenerator reseeded = createRng();
+    reseeded.updateSeed(seed);
+    byte[] bytesFromReseeded = new byte[128];
+    reseeded.nextBytes(bytesFromReseeded);
+    assertFalse(Arrays.equals(bytesFromNotReseeded, bytesFromReseeded),
+        "Same output with and without reseeding");
+    ReseedableRandomGenerator usedThenReseeded = createRng();
+    usedThenReseeded.nextBytes(new byte[16]);
+    usedThenReseeded.updateSeed(seed);
+    byte[] bytesFromUsedThenReseeded = new byte[112];
+    usedThenReseeded.nextBytes(bytesFromUsedThenReseeded);
+    assertArrayEquals(Arrays.copyOfRange(bytesFromReseeded, 16, 128), bytesFromUsedThenReseeded,
+        "Using before reseeding didn't just skip ahead");
+  }
+}
@@ -6,7 +6,10 @@ import java.util.random.RandomGeneratorFactory;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class ReseedByReplacingRandomGeneratorTest extends ReseedableRandomGeneratorTest {
 
@@ -25,7 +28,7 @@ public class ReseedByReplacingRandomGeneratorTest extends ReseedableRandomGenera
     ReseedableRandomGenerator reseeded = createRng();
     reseeded.updateSeed(seed);
     byte[] bytesFromReseeded = new byte[128];
-    reseeded.nextBytes(bytesFromNotReseeded);
+    reseeded.nextBytes(bytesFromReseeded);
     assertFalse(Arrays.equals(bytesFromNotReseeded, bytesFromReseeded),
         "Same output with and without reseeding");
     ReseedableRandomGenerator usedThenReseeded = createRng();
@@ -35,4 +38,26 @@ public class ReseedByReplacingRandomGeneratorTest extends ReseedableRandomGenera
     usedThenReseeded.nextBytes(bytesFromUsedThenReseeded);
     assertArrayEquals(bytesFromReseeded, bytesFromUsedThenReseeded, "Not same output if used before reseeding");
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testSplit() {
+    ReseedableRandomGenerator parent = createRng();
+    assertTrue(parent.isSplittable());
+    ReseedableRandomGenerator child = parent.split();
+    assertTrue(child.isSplittable());
+    assertEquals(parent.seedEntropyBits(), child.seedEntropyBits());
+    byte[] bytesFromParent = new byte[128];
+    parent.nextBytes(bytesFromParent);
+    byte[] bytesFromChild = new byte[128];
+    child.nextBytes(bytesFromChild);
+    assertFalse(Arrays.equals(bytesFromParent, bytesFromChild), "Same output from parent and child");
+  }
+
+  @Test
+  public void testNotJumpable() {
+    ReseedableRandomGenerator rng = createRng();
+    assertFalse(rng.isJumpable());
+    assertThrows(UnsupportedOperationException.class, rng::copy);
+    assertThrows(UnsupportedOperationException.class, rng::jump);
+  }
+}
@@ -0,0 +1,69 @@
+package io.github.pr0methean.newbetterrandom.reseedable;
+
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks a {@link ReseedInPlaceRandomGenerator} against new instances of the JDK's implementation of the same
+ * algorithm.
+ */
+abstract class ReseedInPlaceRandomGeneratorTest extends ReseedableRandomGeneratorTest {
+
+  protected abstract String jdkAlgorithm();
+
+  protected abstract ReseedInPlaceRandomGenerator createRng(long seed);
+
+  @Override
+  protected ReseedInPlaceRandomGenerator createRng() {
+    return createRng(TEST_SEED);
+  }
+
+  private RandomGeneratorFactory<RandomGenerator> jdkFactory() {
+    return RandomGeneratorFactory.of(jdkAlgorithm());
+  }
+
+  private static void assertSameOutput(RandomGenerator expected, RandomGenerator actual) {
+    for (int i = 0; i < 100; i++) {
+      assertEquals(expected.nextLong(), actual.nextLong());
+    }
+  }
+
+  @Test
+  public void testMatchesJdkWithLongSeed() {
+    for (long seed : new long[] {TEST_SEED, 0, -1, SEED_SOURCE_PRNG.get().nextLong()}) {
+      assertSameOutput(jdkFactory().create(seed), createRng(seed));
+    }
+  }
+
+  /**
+   * Covers seeds that are shorter than the state, which get stretched; longer, which get truncated; not a whole
+   * number of words; and all zeroes.
+   */
+  @Test
+  public void testUpdateSeedWithBytesMatchesJdk() {
+    ReseedInPlaceRandomGenerator rng = createRng();
+    int desiredSize = rng.desiredSeedSizeBytes();
+    for (int length : new int[] {0, 1, 5, 8, 13, desiredSize, desiredSize + 8}) {
+      byte[] seed = new byte[length];
+      rng.nextLong();
+      rng.updateSeed(seed);
+      assertSameOutput(jdkFactory().create(seed), rng);
+      SEED_SOURCE_PRNG.get().nextBytes(seed);
+      rng.updateSeed(seed);
+      assertSameOutput(jdkFactory().create(seed), rng);
+    }
+  }
+
+  @Test
+  public void testUpdateSeedWithLongMatchesJdk() {
+    ReseedInPlaceRandomGenerator rng = createRng();
+    rng.nextLong();
+    long seed = SEED_SOURCE_PRNG.get().nextLong();
+    rng.updateSeed(seed);
+    assertSameOutput(jdkFactory().create(seed), rng);
+  }
+}
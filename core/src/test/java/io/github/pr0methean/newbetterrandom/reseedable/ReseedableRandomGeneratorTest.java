@@ -10,7 +10,7 @@ import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.*;
 
-abstract class ReseedableRandomGeneratorTest extends RandomGeneratorTest<ReseedableRandomGenerator> {
+public abstract class ReseedableRandomGeneratorTest extends RandomGeneratorTest<ReseedableRandomGenerator> {
 
   private final byte[] TEST_SEED_BYTES = HexFormat.of().parseHex("00112233445566778899aabbccddeeff");
   private final long TEST_SEED_LONG = 0x0ff1ce0f1337c0deL;
@@ -27,7 +27,7 @@ abstract class ReseedableRandomGeneratorTest extends RandomGeneratorTest<Reseeda
     ReseedableRandomGenerator reseeded = createRng();
     reseeded.updateSeed(seed);
     byte[] bytesFromReseeded = new byte[128];
-    reseeded.nextBytes(bytesFromNotReseeded);
+    reseeded.nextBytes(bytesFromReseeded);
     assertFalse(Arrays.equals(bytesFromNotReseeded, bytesFromReseeded),
         "Same output with and without reseeding");
     ReseedableRandomGenerator usedThenReseeded = createRng();
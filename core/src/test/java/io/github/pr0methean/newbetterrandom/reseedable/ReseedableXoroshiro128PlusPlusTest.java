@@ -0,0 +1,14 @@
+package io.github.pr0methean.newbetterrandom.reseedable;
+
+public class ReseedableXoroshiro128PlusPlusTest extends ReseedByPolynomialJumpingRandomGeneratorTest {
+
+  @Override
+  protected String jdkAlgorithm() {
+    return "Xoroshiro128PlusPlus";
+  }
+
+  @Override
+  protected ReseedByPolynomialJumpingRandomGenerator createRng() {
+    return new ReseedableXoroshiro128PlusPlus(TEST_SEED);
+  }
+}
@@ -0,0 +1,14 @@
+package io.github.pr0methean.newbetterrandom.reseedable;
+
+public class ReseedableXoshiro256PlusPlusTest extends ReseedByPolynomialJumpingRandomGeneratorTest {
+
+  @Override
+  protected String jdkAlgorithm() {
+    return "Xoshiro256PlusPlus";
+  }
+
+  @Override
+  protected ReseedByPolynomialJumpingRandomGenerator createRng() {
+    return new ReseedableXoshiro256PlusPlus(TEST_SEED);
+  }
+}
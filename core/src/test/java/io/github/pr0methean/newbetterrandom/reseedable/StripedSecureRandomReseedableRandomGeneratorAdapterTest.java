@@ -0,0 +1,180 @@
+package io.github.pr0methean.newbetterrandom.reseedable;
+
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class StripedSecureRandomReseedableRandomGeneratorAdapterTest extends ReseedableRandomGeneratorTest {
+
+  @Override
+  protected Map<Class<?>, Object> constructorParams() {
+    final Map<Class<?>, Object> params = super.constructorParams();
+    params.put(SecureRandom[].class, new SecureRandom[] {new SecureRandom(), new SecureRandom()});
+    params.put(int.class, 128);
+    params.put(Executor.class, ForkJoinPool.commonPool());
+    return params;
+  }
+
+  @Override
+  protected ReseedableRandomGenerator createRng() {
+    try {
+      return StripedSecureRandomReseedableRandomGeneratorAdapter.create("DRBG", 4, 128);
+    } catch (NoSuchAlgorithmException e) {
+      throw new AssertionError(e);
+    }
+  }
+
+  /**
+   * A DRBG mixes a seed into its state rather than replacing it, so reseeding only has to change the output.
+   */
+  @Override
+  @Test
+  public void testReseedWithBytes() {
+    byte[] seed = new byte[16];
+    SEED_SOURCE_PRNG.get().nextBytes(seed);
+    ReseedableRandomGenerator rng = createRng();
+    byte[] before = new byte[128];
+    rng.nextBytes(before);
+    rng.updateSeed(seed);
+    byte[] after = new byte[128];
+    rng.nextBytes(after);
+    assertFalse(Arrays.equals(before, after), "Same output before and after reseeding");
+  }
+
+  /**
+   * DRBG output isn't repeatable, so instead use members that are: SHA1PRNG instances seeded before their first use.
+   * Then two pools should fill a bulk request the same way, whichever threads fill the chunks.
+   */
+  @Override
+  @Test
+  public void testRepeatability() {
+    byte[] bytesFromRng1 = new byte[1 << 17];
+    createRepeatableRng().nextBytes(bytesFromRng1, 3, bytesFromRng1.length - 3);
+    byte[] bytesFromRng2 = new byte[bytesFromRng1.length];
+    createRepeatableRng().nextBytes(bytesFromRng2, 3, bytesFromRng2.length - 3);
+    assertArrayEquals(bytesFromRng1, bytesFromRng2);
+  }
+
+  private static StripedSecureRandomReseedableRandomGeneratorAdapter createRepeatableRng() {
+    SecureRandom[] members = new SecureRandom[4];
+    for (int i = 0; i < members.length; i++) {
+      try {
+        members[i] = SecureRandom.getInstance("SHA1PRNG");
+      } catch (NoSuchAlgorithmException e) {
+        throw new AssertionError(e);
+      }
+      members[i].setSeed(new byte[] {(byte) i});
+    }
+    return new StripedSecureRandomReseedableRandomGeneratorAdapter(members, 128, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * @param calls counts calls to {@link SecureRandom#nextBytes(byte[])} and {@link SecureRandom#setSeed(byte[])}
+   *     across all members
+   * @param executor passed to the constructor
+   */
+  private static StripedSecureRandomReseedableRandomGeneratorAdapter createCountingRng(AtomicInteger calls,
+      int memberCount, Executor executor) {
+    SecureRandom[] members = new SecureRandom[memberCount];
+    for (int i = 0; i < memberCount; i++) {
+      members[i] = new SecureRandom() {
+        @Override
+        public void nextBytes(byte[] bytes) {
+          calls.incrementAndGet();
+          Arrays.fill(bytes, (byte) 1);
+        }
+
+        @Override
+        public void setSeed(byte[] seed) {
+          calls.incrementAndGet();
+        }
+      };
+    }
+    return new StripedSecureRandomReseedableRandomGeneratorAdapter(members, 128, executor);
+  }
+
+  @Test
+  public void testLargeRequestsSplitAcrossMembers() {
+    AtomicInteger calls = new AtomicInteger();
+    StripedSecureRandomReseedableRandomGeneratorAdapter rng = createCountingRng(calls, 4, ForkJoinPool.commonPool());
+    rng.nextBytes(new byte[64]);
+    assertEquals(1, calls.get());
+    calls.set(0);
+    byte[] bytes = new byte[1 << 18];
+    rng.nextBytes(bytes, 1, bytes.length - 2);
+    // Each quarter is filled a scratch buffer at a time
+    assertEquals(4 * 4, calls.get());
+    assertEquals(0, bytes[0]);
+    assertEquals(1, bytes[1]);
+    assertEquals(1, bytes[bytes.length - 2]);
+    assertEquals(0, bytes[bytes.length - 1]);
+  }
+
+  @Test
+  public void testFillsOnCallingThreadWithoutExecutor() {
+    Thread caller = Thread.currentThread();
+    AtomicInteger calls = new AtomicInteger();
+    SecureRandom[] members = new SecureRandom[4];
+    for (int i = 0; i < members.length; i++) {
+      members[i] = new SecureRandom() {
+        @Override
+        public void nextBytes(byte[] bytes) {
+          assertSame(caller, Thread.currentThread());
+          calls.incrementAndGet();
+        }
+      };
+    }
+    StripedSecureRandomReseedableRandomGeneratorAdapter rng
+        = new StripedSecureRandomReseedableRandomGeneratorAdapter(members, 128);
+    rng.nextBytes(new byte[1 << 18]);
+    assertEquals(1, calls.get());
+    calls.set(0);
+    rng.nextBytes(new byte[1 << 18], 1, 1 << 16);
+    assertEquals(4, calls.get());
+  }
+
+  @Test
+  public void testUpdateSeedSplitsSeedAcrossMembers() {
+    byte[][] seeds = new byte[3][];
+    SecureRandom[] members = new SecureRandom[seeds.length];
+    for (int i = 0; i < members.length; i++) {
+      int member = i;
+      members[i] = new SecureRandom() {
+        @Override
+        public void setSeed(byte[] seed) {
+          seeds[member] = seed;
+        }
+      };
+    }
+    StripedSecureRandomReseedableRandomGeneratorAdapter rng
+        = new StripedSecureRandomReseedableRandomGeneratorAdapter(members, 128);
+    // Enough for every member to get its full entropy
+    assertEquals(3 * 16, rng.desiredSeedSizeBytes());
+    byte[] seed = new byte[rng.desiredSeedSizeBytes() + 2];
+    for (int i = 0; i < seed.length; i++) {
+      seed[i] = (byte) i;
+    }
+    rng.updateSeed(seed);
+    assertArrayEquals(Arrays.copyOfRange(seed, 0, 16), seeds[0]);
+    assertArrayEquals(Arrays.copyOfRange(seed, 16, 32), seeds[1]);
+    // The last member also gets the bytes left over
+    assertArrayEquals(Arrays.copyOfRange(seed, 32, 50), seeds[2]);
+    // Too short to split
+    byte[] shortSeed = {1, 2};
+    rng.updateSeed(shortSeed);
+    for (byte[] memberSeed : seeds) {
+      assertSame(shortSeed, memberSeed);
+    }
+  }
+}
@@ -0,0 +1,24 @@
+package io.github.pr0methean.newbetterrandom.webclient;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for the time a {@link WebSeedClient} spends sleeping until its next download attempt is
+ * allowed.
+ */
+@Name("io.github.pr0methean.newbetterrandom.SeedDownloadBackoff")
+@Label("Seed Download Backoff")
+@Category({"BetterRandom", "Seed Source"})
+@Description("A web seed client slept before retrying a download")
+@Enabled(false)
+@StackTrace(false)
+final class SeedDownloadBackoffEvent extends Event {
+  @Label("Client Type")
+  Class<?> clientType;
+}
@@ -0,0 +1,38 @@
+package io.github.pr0methean.newbetterrandom.webclient;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight Recorder event for a failed download attempt by a {@link WebSeedClient} that will be retried.
+ */
+@Name("io.github.pr0methean.newbetterrandom.SeedDownloadRetry")
+@Label("Seed Download Retry")
+@Category({"BetterRandom", "Seed Source"})
+@Description("A web seed client failed to download a batch and will retry after a delay")
+@Enabled(false)
+@StackTrace(false)
+final class SeedDownloadRetryEvent extends Event {
+  @Label("Client Type")
+  Class<?> clientType;
+
+  @Label("URL")
+  String url;
+
+  @Label("Retry")
+  @Description("The number of retries of this batch so far, including this one")
+  int retry;
+
+  @Label("Retry Delay")
+  @Timespan(Timespan.MILLISECONDS)
+  long retryDelayMs;
+
+  @Label("Exception")
+  String exception;
+}
@@ -184,7 +184,18 @@ public abstract class WebSeedClient extends AbstractSeedFetcher {
         if (++retries > configuration.maxRetries()) {
           throw new RuntimeException(e);
         } else {
-          earliestNextAttempt = CLOCK.instant().plusMillis(getRetryDelayMs());
+          final long retryDelayMs = getRetryDelayMs();
+          earliestNextAttempt = CLOCK.instant().plusMillis(retryDelayMs);
+          final SeedDownloadRetryEvent retryEvent = new SeedDownloadRetryEvent();
+          if (retryEvent.shouldCommit()) {
+            retryEvent.clientType = getClass();
+            retryEvent.url = batchUrl.toString();
+            retryEvent.retry = retries;
+            retryEvent.retryDelayMs = retryDelayMs;
+            retryEvent.exception = e.toString();
+            retryEvent.commit();
+          }
+          awaitNextAttemptTime();
         }
       }
     }
@@ -192,9 +203,22 @@ public abstract class WebSeedClient extends AbstractSeedFetcher {
 
   protected void awaitNextAttemptTime() throws InterruptedException {
     long timeToSleep = CLOCK.instant().until(earliestNextAttempt, ChronoUnit.MILLIS);
-    while (timeToSleep > 0) {
-      Thread.sleep(timeToSleep);
-      timeToSleep = CLOCK.instant().until(earliestNextAttempt, ChronoUnit.MILLIS);
+    if (timeToSleep <= 0) {
+      return;
+    }
+    final SeedDownloadBackoffEvent backoffEvent = new SeedDownloadBackoffEvent();
+    backoffEvent.begin();
+    try {
+      while (timeToSleep > 0) {
+        Thread.sleep(timeToSleep);
+        timeToSleep = CLOCK.instant().until(earliestNextAttempt, ChronoUnit.MILLIS);
+      }
+    } finally {
+      backoffEvent.end();
+      if (backoffEvent.shouldCommit()) {
+        backoffEvent.clientType = getClass();
+        backoffEvent.commit();
+      }
     }
   }
 
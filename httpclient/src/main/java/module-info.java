@@ -1,5 +1,6 @@
 module io.github.pr0methean.newbetterrandom.web {
   requires com.fasterxml.jackson.databind;
+  requires jdk.jfr;
   requires jsr305;
   requires io.github.pr0methean.newbetterrandom.core;
   exports io.github.pr0methean.newbetterrandom.webclient;
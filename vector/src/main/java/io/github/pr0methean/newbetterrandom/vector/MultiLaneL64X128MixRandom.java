@@ -0,0 +1,235 @@
+package io.github.pr0methean.newbetterrandom.vector;
+
+import static io.github.pr0methean.newbetterrandom.reseedable.Mixers.LEA_64_MULTIPLIER;
+import static io.github.pr0methean.newbetterrandom.reseedable.Mixers.mixStafford13;
+
+import java.util.Objects;
+
+import io.github.pr0methean.newbetterrandom.reseedable.ReseedableRandomGenerator;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * <p>{@link ReseedableRandomGenerator} that runs several independent lanes of the L64X128MixRandom algorithm at once in
+ * vector registers, using the incubating Vector API. Each lane has its own LCG and xoroshiro128 state, and the lanes'
+ * LCGs use different addends, so they never produce the same sequence. The output is the lanes' outputs interleaved:
+ * lane 0 then lane 1 and so on for each step.</p>
+ * <p>Since the Vector API is still incubating, this lives outside the core module, and the JVM must be started with
+ * {@code --add-modules jdk.incubator.vector} to use it.</p>
+ * <p>{@link #nextLongs(long[], int, int)} and {@link #nextBytes(byte[], int, int)} generate whole steps straight into
+ * the destination; {@link #nextLong()} buffers one step and returns it a lane at a time. Both give the same output, so
+ * mixing bulk and single calls doesn't skip or repeat any values. {@link #updateSeed(byte[])} reseeds every lane; a
+ * seed of {@link #desiredSeedSizeBytes()} bytes sets each lane's state directly, and a shorter one is stretched.</p>
+ * <p>Like the JDK's own generators, this isn't thread-safe. The number of lanes is the length of the
+ * {@link VectorSpecies} it's created with; by default, the widest that the CPU supports.</p>
+ */
+public class MultiLaneL64X128MixRandom implements ReseedableRandomGenerator {
+  private static final long LCG_MULTIPLIER = 0xd1342543de82ef95L;
+  /** Seed words per lane: the LCG state and the two xoroshiro128 state words. */
+  private static final int WORDS_PER_LANE = 3;
+
+  private final VectorSpecies<Long> species;
+  private final int lanes;
+  private final long[] lcgAddends;
+  private final long[] lcgStates;
+  private final long[] xbgStates0;
+  private final long[] xbgStates1;
+  /** The rest of the last step that {@link #nextLong()} generated. */
+  private final long[] buffered;
+  private int bufferedIndex;
+
+  public MultiLaneL64X128MixRandom(byte[] seed) {
+    this(LongVector.SPECIES_PREFERRED, seed);
+  }
+
+  public MultiLaneL64X128MixRandom(long seed) {
+    this(LongVector.SPECIES_PREFERRED, seed);
+  }
+
+  /**
+   * @param species the vector shape to use, which sets the number of lanes
+   * @param seed the initial seed
+   */
+  public MultiLaneL64X128MixRandom(VectorSpecies<Long> species, byte[] seed) {
+    this(species);
+    updateSeed(seed);
+  }
+
+  /**
+   * @param species the vector shape to use, which sets the number of lanes
+   * @param seed the initial seed
+   */
+  public MultiLaneL64X128MixRandom(VectorSpecies<Long> species, long seed) {
+    this(species);
+    updateSeed(seed);
+  }
+
+  private MultiLaneL64X128MixRandom(VectorSpecies<Long> species) {
+    this.species = species;
+    lanes = species.length();
+    lcgAddends = new long[lanes];
+    for (int lane = 0; lane < lanes; lane++) {
+      // Must be odd, and different for each lane
+      lcgAddends[lane] = (GOLDEN_RATIO_64 * (2 * lane + 1)) | 1;
+    }
+    lcgStates = new long[lanes];
+    xbgStates0 = new long[lanes];
+    xbgStates1 = new long[lanes];
+    buffered = new long[lanes];
+  }
+
+  /**
+   * @return the number of lanes generated at once
+   */
+  public int lanes() {
+    return lanes;
+  }
+
+  @Override
+  public void updateSeed(byte[] seed) {
+    final long[] words = new long[WORDS_PER_LANE * lanes];
+    // Words that the seed doesn't fill are stretched from a hash of the whole seed
+    long stretched = ReseedableRandomGenerator.bytesToLong(seed, Long.SIZE);
+    for (int i = 0; i < words.length; i++) {
+      if ((i + 1) * Long.BYTES <= seed.length) {
+        long word = 0;
+        for (int j = Long.BYTES - 1; j >= 0; j--) {
+          word = (word << Byte.SIZE) | Byte.toUnsignedLong(seed[i * Long.BYTES + j]);
+        }
+        words[i] = word;
+      } else {
+        stretched += GOLDEN_RATIO_64;
+        words[i] = mixStafford13(stretched);
+      }
+    }
+    setState(words);
+  }
+
+  @Override
+  public void updateSeed(long seed) {
+    final long[] words = new long[WORDS_PER_LANE * lanes];
+    for (int i = 0; i < words.length; i++) {
+      seed += GOLDEN_RATIO_64;
+      words[i] = mixStafford13(seed);
+    }
+    setState(words);
+  }
+
+  private void setState(long[] words) {
+    for (int lane = 0; lane < lanes; lane++) {
+      lcgStates[lane] = words[WORDS_PER_LANE * lane];
+      long x0 = words[WORDS_PER_LANE * lane + 1];
+      long x1 = words[WORDS_PER_LANE * lane + 2];
+      if ((x0 | x1) == 0) {
+        // xoroshiro128 can't leave the all-zero state
+        x0 = GOLDEN_RATIO_64;
+        x1 = SILVER_RATIO_64;
+      }
+      xbgStates0[lane] = x0;
+      xbgStates1[lane] = x1;
+    }
+    bufferedIndex = lanes;
+  }
+
+  @Override
+  public int seedEntropyBits() {
+    return WORDS_PER_LANE * Long.SIZE * lanes;
+  }
+
+  @Override
+  public long nextLong() {
+    if (bufferedIndex == lanes) {
+      generateSteps(buffered, null, 0, 1);
+      bufferedIndex = 0;
+    }
+    return buffered[bufferedIndex++];
+  }
+
+  @Override
+  public void nextBytes(byte[] bytes) {
+    nextBytes(bytes, 0, bytes.length);
+  }
+
+  @Override
+  public void nextBytes(byte[] bytes, int start, int length) {
+    Objects.checkFromIndexSize(start, length, bytes.length);
+    final int end = start + length;
+    int i = start;
+    // Use up the buffered step first, so that no values are skipped
+    for (; bufferedIndex < lanes && end - i >= Long.BYTES; i += Long.BYTES) {
+      long random = buffered[bufferedIndex++];
+      for (int j = 0; j < Long.BYTES; j++) {
+        bytes[i + j] = (byte) random;
+        random >>>= Byte.SIZE;
+      }
+    }
+    if (bufferedIndex == lanes) {
+      final int steps = (end - i) / (lanes * Long.BYTES);
+      generateSteps(null, bytes, i, steps);
+      i += steps * lanes * Long.BYTES;
+    }
+    ReseedableRandomGenerator.super.nextBytes(bytes, i, end - i);
+  }
+
+  /**
+   * Fills part of an array with random longs, in place. The values are the same as successive {@link #nextLong()}
+   * calls would return.
+   *
+   * @param longs the array to fill
+   * @param start the first index to fill
+   * @param length the number of longs to fill
+   */
+  public void nextLongs(long[] longs, int start, int length) {
+    Objects.checkFromIndexSize(start, length, longs.length);
+    final int end = start + length;
+    int i = start;
+    while (bufferedIndex < lanes && i < end) {
+      longs[i++] = buffered[bufferedIndex++];
+    }
+    final int steps = (end - i) / lanes;
+    generateSteps(longs, null, i, steps);
+    for (i += steps * lanes; i < end; i++) {
+      longs[i] = nextLong();
+    }
+  }
+
+  /**
+   * Advances every lane {@code steps} times, keeping the state in registers between steps, and writes each step's
+   * output into {@code longs} if it's not null, or else into {@code bytes} in little-endian order.
+   *
+   * @param offset the index of {@code longs} or {@code bytes} to write the first step to
+   */
+  private void generateSteps(/* @Nullable */ long[] longs, /* @Nullable */ byte[] bytes, int offset, int steps) {
+    if (steps == 0) {
+      return;
+    }
+    final LongVector a = LongVector.fromArray(species, lcgAddends, 0);
+    LongVector s = LongVector.fromArray(species, lcgStates, 0);
+    LongVector x0 = LongVector.fromArray(species, xbgStates0, 0);
+    LongVector x1 = LongVector.fromArray(species, xbgStates1, 0);
+    for (int step = 0; step < steps; step++) {
+      final LongVector result = mixLea64(s.add(x0));
+      if (longs != null) {
+        result.intoArray(longs, offset + step * lanes);
+      } else {
+        result.reinterpretAsBytes().intoArray(bytes, offset + step * lanes * Long.BYTES);
+      }
+      s = s.mul(LCG_MULTIPLIER).add(a);
+      // xoroshiro128 v1.0
+      final LongVector q1 = x1.lanewise(VectorOperators.XOR, x0);
+      x0 = x0.lanewise(VectorOperators.ROL, 24).lanewise(VectorOperators.XOR, q1)
+          .lanewise(VectorOperators.XOR, q1.lanewise(VectorOperators.LSHL, 16));
+      x1 = q1.lanewise(VectorOperators.ROL, 37);
+    }
+    s.intoArray(lcgStates, 0);
+    x0.intoArray(xbgStates0, 0);
+    x1.intoArray(xbgStates1, 0);
+  }
+
+  private static LongVector mixLea64(LongVector z) {
+    z = z.lanewise(VectorOperators.XOR, z.lanewise(VectorOperators.LSHR, 32)).mul(LEA_64_MULTIPLIER);
+    z = z.lanewise(VectorOperators.XOR, z.lanewise(VectorOperators.LSHR, 32)).mul(LEA_64_MULTIPLIER);
+    return z.lanewise(VectorOperators.XOR, z.lanewise(VectorOperators.LSHR, 32));
+  }
+}
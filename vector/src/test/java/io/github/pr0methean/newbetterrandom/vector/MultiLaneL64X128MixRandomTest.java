@@ -0,0 +1,100 @@
+package io.github.pr0methean.newbetterrandom.vector;
+
+import java.util.Map;
+
+import io.github.pr0methean.newbetterrandom.reseedable.ReseedableRandomGenerator;
+import io.github.pr0methean.newbetterrandom.reseedable.ReseedableRandomGeneratorTest;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorSpecies;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class MultiLaneL64X128MixRandomTest extends ReseedableRandomGeneratorTest {
+
+  @Override
+  protected Map<Class<?>, Object> constructorParams() {
+    final Map<Class<?>, Object> params = super.constructorParams();
+    params.put(VectorSpecies.class, LongVector.SPECIES_128);
+    return params;
+  }
+
+  @Override
+  protected ReseedableRandomGenerator createRng() {
+    return new MultiLaneL64X128MixRandom(TEST_SEED);
+  }
+
+  /**
+   * Checks each lane against a scalar implementation of L64X128MixRandom, starting from the state that a full-size
+   * seed sets directly.
+   */
+  @Test
+  public void testLanesMatchScalarAlgorithm() {
+    MultiLaneL64X128MixRandom rng = new MultiLaneL64X128MixRandom(LongVector.SPECIES_256, new byte[0]);
+    int lanes = rng.lanes();
+    long[] words = new long[3 * lanes];
+    byte[] seed = new byte[words.length * Long.BYTES];
+    for (int i = 0; i < words.length; i++) {
+      words[i] = SEED_SOURCE_PRNG.get().nextLong();
+      for (int j = 0; j < Long.BYTES; j++) {
+        seed[i * Long.BYTES + j] = (byte) (words[i] >>> (j * Byte.SIZE));
+      }
+    }
+    rng.updateSeed(seed);
+    long[] expected = new long[lanes * 100];
+    for (int lane = 0; lane < lanes; lane++) {
+      long a = (ReseedableRandomGenerator.GOLDEN_RATIO_64 * (2 * lane + 1)) | 1;
+      long s = words[3 * lane];
+      long x0 = words[3 * lane + 1];
+      long x1 = words[3 * lane + 2];
+      for (int step = 0; step < 100; step++) {
+        long z = s + x0;
+        z = (z ^ (z >>> 32)) * 0xdaba0b6eb09322e3L;
+        z = (z ^ (z >>> 32)) * 0xdaba0b6eb09322e3L;
+        expected[step * lanes + lane] = z ^ (z >>> 32);
+        s = 0xd1342543de82ef95L * s + a;
+        x1 ^= x0;
+        x0 = Long.rotateLeft(x0, 24) ^ x1 ^ (x1 << 16);
+        x1 = Long.rotateLeft(x1, 37);
+      }
+    }
+    long[] actual = new long[expected.length];
+    rng.nextLongs(actual, 0, actual.length);
+    assertArrayEquals(expected, actual);
+  }
+
+  /**
+   * Checks that bulk and single calls draw from the same sequence, however they're mixed.
+   */
+  @Test
+  public void testBulkMatchesNextLong() {
+    MultiLaneL64X128MixRandom single = new MultiLaneL64X128MixRandom(TEST_SEED);
+    MultiLaneL64X128MixRandom bulk = new MultiLaneL64X128MixRandom(TEST_SEED);
+    long[] expected = new long[200];
+    for (int i = 0; i < expected.length; i++) {
+      expected[i] = single.nextLong();
+    }
+    long[] actual = new long[expected.length];
+    actual[0] = bulk.nextLong();
+    bulk.nextLongs(actual, 1, 37);
+    byte[] bytes = new byte[80 * Long.BYTES];
+    bulk.nextBytes(bytes);
+    for (int i = 0; i < 80; i++) {
+      long value = 0;
+      for (int j = Long.BYTES - 1; j >= 0; j--) {
+        value = (value << Byte.SIZE) | Byte.toUnsignedLong(bytes[i * Long.BYTES + j]);
+      }
+      actual[38 + i] = value;
+    }
+    bulk.nextLongs(actual, 118, actual.length - 118);
+    assertArrayEquals(expected, actual);
+  }
+
+  @Test
+  public void testSeedEntropyBitsScalesWithLanes() {
+    MultiLaneL64X128MixRandom rng = new MultiLaneL64X128MixRandom(LongVector.SPECIES_128, TEST_SEED);
+    assertEquals(2, rng.lanes());
+    assertEquals(2 * 3 * Long.SIZE, rng.seedEntropyBits());
+  }
+}